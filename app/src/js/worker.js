@@ -15,32 +15,314 @@
  */
 self.importScripts("pouchdb.min.js");
 
-self.addEventListener("message", function (e) {
-    var db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
+
+// ------------------------------------------------------ database
+
+// one database handle per database name, reused across messages
+self.databases = {};
+
+self.database = function (name) {
+    if (!self.databases[name]) {
+        self.databases[name] = new PouchDB(name);
+    }
+    return self.databases[name];
+};
+
+// An update message contains all documents for one database. The existing revisions are fetched using one
+// allDocs() call and all documents are written using one bulkDocs() call. The result is posted back incl. the ids of
+// the documents which could not be written. If the message asks for it, the written documents are added to the
+// full-text index.
+self.update = function (data) {
+    var start = Date.now();
+    var name = data.database;
+    var documents = data.documents;
+    var db = database(name);
+    var keys = documents.map(function (document) {
+        return document._id;
+    });
+
+    db.allDocs({keys: keys})
+        .then(function (result) {
+            var revisions = {};
+            result.rows.forEach(function (row) {
+                if (row.value && row.value.rev) {
+                    revisions[row.key] = row.value.rev;
+                }
+            });
+            documents.forEach(function (document) {
+                if (revisions[document._id]) {
+                    document._rev = revisions[document._id];
+                }
+            });
+            return db.bulkDocs(documents);
+        })
+        .then(function (responses) {
+            var failed = responses.filter(function (response) {
+                return response.error;
+            });
+            failed.forEach(function (response) {
+                error("Unable to write " + name + response.id + ": " + response.message);
+            });
+            if (data.index) {
+                var failedIds = {};
+                failed.forEach(function (response) {
+                    failedIds[response.id] = true;
                 });
+                indexDocuments(name, documents.filter(function (document) {
+                    return !failedIds[document._id];
+                }));
+            }
+            self.postMessage({
+                type: "update",
+                database: name,
+                documents: documents.length,
+                written: documents.length - failed.length,
+                failed: failed.length,
+                failedIds: failed.map(function (response) {
+                    return response.id;
+                }),
+                time: Date.now() - start
+            });
         })
         .catch(function (err) {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
+            error("Unable to write " + documents.length + " documents to " + name + ": " + err);
+            self.postMessage({
+                type: "update",
+                database: name,
+                documents: documents.length,
+                written: 0,
+                failed: documents.length,
+                failedIds: keys,
+                time: Date.now() - start,
+                error: String(err)
+            });
+        });
+};
+
+
+// ------------------------------------------------------ full-text index
+
+// One inverted index per database. Maps tokens to the addresses and the names which contain the token. The sorted
+// token list is used for prefix lookups and rebuilt lazily after the index has changed.
+self.indexes = {};
+
+self.WEIGHTS = {attribute: 4, operation: 3, capability: 3, description: 1};
+self.MIN_TOKEN_LENGTH = 2;
+self.MIN_WORD_LENGTH = 3;
+
+self.index = function (name) {
+    if (!self.indexes[name]) {
+        self.indexes[name] = {tokens: {}, addresses: {}, sorted: null, loading: null};
+    }
+    return self.indexes[name];
+};
+
+// Indexes the documents which are already stored in the database. Called once per database before the index is
+// updated or queried for the first time.
+self.loadIndex = function (name) {
+    var idx = index(name);
+    if (!idx.loading) {
+        var start = Date.now();
+        idx.loading = database(name).allDocs({include_docs: true})
+            .then(function (result) {
+                result.rows.forEach(function (row) {
+                    if (row.doc && row.doc["search-terms"]) {
+                        addToIndex(idx, row.id, row.doc["search-terms"]);
+                    }
                 });
+                info("Indexed " + result.rows.length + " documents of " + name + " in " + (Date.now() - start) +
+                    " ms");
+                return idx;
+            })
+            .catch(function (err) {
+                error("Unable to index " + name + ": " + err);
+                return idx;
+            });
+    }
+    return idx.loading;
+};
+
+self.indexDocuments = function (name, documents) {
+    loadIndex(name).then(function (idx) {
+        documents.forEach(function (document) {
+            if (document["search-terms"]) {
+                addToIndex(idx, document._id, document["search-terms"]);
+            }
+        });
+    });
+};
+
+self.addToIndex = function (idx, address, terms) {
+    removeFromIndex(idx, address);
+    var tokens = [];
+    var add = function (kind, name, text, minLength) {
+        tokenize(text, minLength).forEach(function (token) {
+            var postings = idx.tokens[token] || (idx.tokens[token] = {});
+            var matches = postings[address] || (postings[address] = {});
+            matches[kind + ":" + (name || "")] = true;
+            tokens.push(token);
         });
+    };
+
+    add("description", null, terms.description, MIN_WORD_LENGTH);
+    (terms.attributes || []).forEach(function (attribute) {
+        add("attribute", attribute.name, attribute.name, MIN_TOKEN_LENGTH);
+        add("description", attribute.name, attribute.description, MIN_WORD_LENGTH);
+    });
+    (terms.operations || []).forEach(function (operation) {
+        add("operation", operation, operation, MIN_TOKEN_LENGTH);
+    });
+    (terms.capabilities || []).forEach(function (capability) {
+        add("capability", capability, capability, MIN_TOKEN_LENGTH);
+    });
+    idx.addresses[address] = tokens;
+    idx.sorted = null;
+};
+
+self.removeFromIndex = function (idx, address) {
+    var tokens = idx.addresses[address];
+    if (tokens) {
+        tokens.forEach(function (token) {
+            var postings = idx.tokens[token];
+            if (postings) {
+                delete postings[address];
+                if (Object.keys(postings).length === 0) {
+                    delete idx.tokens[token];
+                }
+            }
+        });
+        delete idx.addresses[address];
+        idx.sorted = null;
+    }
+};
+
+// Splits names like "max-pool-size" or "org.wildfly.data-source" into the full name and its parts. Missing values
+// (incl. undefined descriptions which were serialized as "undefined") don't produce any tokens.
+self.tokenize = function (text, minLength) {
+    var tokens = [];
+    if (text !== undefined && text !== null && text !== "" && text !== "undefined") {
+        var lower = String(text).toLowerCase();
+        if (minLength === MIN_TOKEN_LENGTH) {
+            tokens.push(lower);
+        }
+        lower.split(/[^a-z0-9]+/).forEach(function (part) {
+            if (part.length >= minLength && tokens.indexOf(part) === -1) {
+                tokens.push(part);
+            }
+        });
+    }
+    return tokens;
+};
+
+// Returns the position of the first token which is greater than or equal to the prefix.
+self.lowerBound = function (sorted, prefix) {
+    var low = 0, high = sorted.length;
+    while (low < high) {
+        var mid = (low + high) >>> 1;
+        if (sorted[mid] < prefix) {
+            low = mid + 1;
+        } else {
+            high = mid;
+        }
+    }
+    return low;
+};
+
+// Every word of the query must match (as prefix) at least one token of an address. Exact matches and matches in
+// names score higher than prefix matches and matches in descriptions.
+self.search = function (data) {
+    var start = Date.now();
+    loadIndex(data.database).then(function (idx) {
+        if (idx.sorted === null) {
+            idx.sorted = Object.keys(idx.tokens).sort();
+        }
+        var words = String(data.query).toLowerCase().split(/\s+/).filter(function (word) {
+            return word.length !== 0;
+        });
+        var hits = null;
+        words.forEach(function (word) {
+            var wordHits = {};
+            for (var i = lowerBound(idx.sorted, word); i < idx.sorted.length; i++) {
+                var token = idx.sorted[i];
+                if (token.lastIndexOf(word, 0) !== 0) {
+                    break;
+                }
+                var exact = token === word ? 2 : 1;
+                var postings = idx.tokens[token];
+                Object.keys(postings).forEach(function (address) {
+                    var hit = wordHits[address] || (wordHits[address] = {score: 0, matches: {}});
+                    Object.keys(postings[address]).forEach(function (match) {
+                        hit.score += exact * WEIGHTS[match.substring(0, match.indexOf(":"))];
+                        hit.matches[match] = true;
+                    });
+                });
+            }
+            if (hits === null) {
+                hits = wordHits;
+            } else {
+                Object.keys(hits).forEach(function (address) {
+                    if (wordHits[address]) {
+                        hits[address].score += wordHits[address].score;
+                        Object.keys(wordHits[address].matches).forEach(function (match) {
+                            hits[address].matches[match] = true;
+                        });
+                    } else {
+                        delete hits[address];
+                    }
+                });
+            }
+        });
+
+        var results = Object.keys(hits || {})
+            .map(function (address) {
+                return {
+                    address: address,
+                    score: hits[address].score,
+                    matches: Object.keys(hits[address].matches).map(function (match) {
+                        var colon = match.indexOf(":");
+                        return {kind: match.substring(0, colon), name: match.substring(colon + 1)};
+                    })
+                };
+            })
+            .sort(function (a, b) {
+                return b.score - a.score || a.address.length - b.address.length;
+            })
+            .slice(0, data.limit);
+        self.postMessage({
+            type: "search",
+            id: data.id,
+            query: data.query,
+            results: results,
+            time: Date.now() - start
+        });
+    }).catch(function (err) {
+        // always reply, otherwise the pending search never completes
+        error("Unable to search " + data.database + " for '" + data.query + "': " + err);
+        self.postMessage({
+            type: "search",
+            id: data.id,
+            query: data.query,
+            results: [],
+            time: Date.now() - start,
+            error: String(err)
+        });
+    });
+};
+
+
+// ------------------------------------------------------ messages
+
+self.addEventListener("message", function (e) {
+    if (e.data.type === "search") {
+        search(e.data);
+    } else {
+        update(e.data);
+    }
 }, false);
 
+
+// ------------------------------------------------------ logging
+
 self.info = function (message) {
     // use the same log format as HAL
     console.info(timestamp() + " INFO  worker.js                                " + message);
@@ -19,6 +19,7 @@ import com.google.gwt.inject.client.AbstractGinModule;
 import com.google.inject.Singleton;
 import org.jboss.hal.client.bootstrap.endpoint.EndpointManager;
 import org.jboss.hal.client.bootstrap.endpoint.EndpointStorage;
+import org.jboss.hal.client.bootstrap.tasks.BootstrapGraph;
 import org.jboss.hal.client.bootstrap.tasks.BootstrapTasks;
 import org.jboss.hal.client.bootstrap.tasks.CheckForUpdate;
 import org.jboss.hal.client.bootstrap.tasks.CheckTargetVersion;
@@ -38,6 +39,7 @@ public class BootstrapModule extends AbstractGinModule {
 
     @Override
     protected void configure() {
+        bind(BootstrapGraph.class).in(Singleton.class);
         bind(BootstrapTasks.class).in(Singleton.class);
         bind(CheckForUpdate.class).in(Singleton.class);
         bind(CheckTargetVersion.class).in(Singleton.class);
@@ -21,11 +21,10 @@ import com.gwtplatform.mvp.client.Bootstrapper;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import elemental2.dom.Event;
 import org.jboss.hal.client.bootstrap.endpoint.EndpointManager;
-import org.jboss.hal.client.bootstrap.tasks.BootstrapTasks;
+import org.jboss.hal.client.bootstrap.tasks.BootstrapGraph;
 import org.jboss.hal.client.bootstrap.tasks.InitializationTasks;
 import org.jboss.hal.client.bootstrap.tasks.InitializedTask;
 import org.jboss.hal.core.ExceptionHandler;
-import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Outcome;
 import org.jboss.hal.js.Browser;
@@ -40,19 +39,19 @@ public class HalBootstrapper implements Bootstrapper {
 
     private final PlaceManager placeManager;
     private final EndpointManager endpointManager;
-    private final BootstrapTasks bootstrapTasks;
+    private final BootstrapGraph bootstrapGraph;
     private final InitializationTasks initializationTasks;
     private final ExceptionHandler exceptionHandler;
 
     @Inject
     public HalBootstrapper(PlaceManager placeManager,
             EndpointManager endpointManager,
-            BootstrapTasks bootstrapTasks,
+            BootstrapGraph bootstrapGraph,
             InitializationTasks initializationTasks,
             ExceptionHandler exceptionHandler) {
         this.placeManager = placeManager;
         this.endpointManager = endpointManager;
-        this.bootstrapTasks = bootstrapTasks;
+        this.bootstrapGraph = bootstrapGraph;
         this.initializationTasks = initializationTasks;
         this.exceptionHandler = exceptionHandler;
     }
@@ -69,7 +68,7 @@ public class HalBootstrapper implements Bootstrapper {
 
         endpointManager.select(() -> {
             LoadingPanel.get().on();
-            Flow.series(new FlowContext(), bootstrapTasks.tasks()).subscribe(new Outcome<FlowContext>() {
+            bootstrapGraph.execute(new FlowContext()).subscribe(new Outcome<FlowContext>() {
                 @Override
                 public void onError(FlowContext context, Throwable error) {
                     logger.error("Bootstrap error: {}", error.getMessage());
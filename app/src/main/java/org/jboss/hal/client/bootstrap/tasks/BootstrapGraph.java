@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.bootstrap.tasks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.FlowException;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.spi.Footer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Completable;
+import rx.Single;
+import rx.SingleSubscriber;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Executes the {@linkplain BootstrapTasks bootstrap tasks} according to the data they {@linkplain
+ * BootstrapTask#requires() require} and {@linkplain BootstrapTask#provides() provide}.
+ * <p>
+ * A task is called as soon as all its required data has been provided. Tasks which become ready at the same time
+ * form a phase: The {@linkplain BootstrapTask#reads(FlowContext) reads} of all tasks of a phase are merged into one
+ * composite and the tasks are called in parallel. Reads which were already executed in an earlier phase are not
+ * executed again. The time spent per phase is logged and reported to the progress indicator in the footer.
+ */
+public class BootstrapGraph {
+
+    private static final String READ_PREFIX = "bootstrap.read.";
+    private static final Logger logger = LoggerFactory.getLogger(BootstrapGraph.class);
+
+    /**
+     * @return the result of a read declared in {@link BootstrapTask#reads(FlowContext)} or an undefined model node if
+     * the read was not executed.
+     */
+    static ModelNode result(FlowContext context, Operation operation) {
+        ModelNode result = context.get(readKey(operation));
+        return result != null ? result : new ModelNode();
+    }
+
+    private static String readKey(Operation operation) {
+        return READ_PREFIX + operation.toJSONString(true);
+    }
+
+    private static String name(BootstrapTask task) {
+        return task.getClass().getSimpleName();
+    }
+
+    private static String names(List<BootstrapTask> tasks) {
+        return tasks.stream().map(BootstrapGraph::name).collect(joining(", "));
+    }
+
+    private final BootstrapTasks bootstrapTasks;
+    private final Dispatcher dispatcher;
+    private final Provider<Progress> progress;
+
+    @Inject
+    public BootstrapGraph(BootstrapTasks bootstrapTasks, Dispatcher dispatcher, @Footer Provider<Progress> progress) {
+        this.bootstrapTasks = bootstrapTasks;
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+    }
+
+    public Single<FlowContext> execute(FlowContext context) {
+        return Single.create(subscriber -> new Execution(context, subscriber).next());
+    }
+
+
+    /** Holds the state of one bootstrap run. */
+    private class Execution {
+
+        private final FlowContext context;
+        private final SingleSubscriber<? super FlowContext> subscriber;
+        private final Progress progress;
+        private final List<BootstrapTask> pending;
+        private final Set<BootstrapTask> running;
+        private final Set<String> provided;
+        private final long start;
+        private int phase;
+        private boolean failed;
+
+        private Execution(FlowContext context, SingleSubscriber<? super FlowContext> subscriber) {
+            this.context = context;
+            this.subscriber = subscriber;
+            this.progress = BootstrapGraph.this.progress.get();
+            this.pending = new ArrayList<>(asList(bootstrapTasks.tasks()));
+            this.running = new HashSet<>();
+            this.provided = new HashSet<>();
+            this.start = System.currentTimeMillis();
+            this.phase = 0;
+            this.failed = false;
+            progress.reset(pending.size());
+        }
+
+        /** Starts a new phase with all tasks whose requirements are met. */
+        private void next() {
+            if (failed) {
+                return;
+            }
+            if (pending.isEmpty() && running.isEmpty()) {
+                logger.debug("Bootstrap finished after {} phases in {} ms", phase, System.currentTimeMillis() - start);
+                progress.finish();
+                subscriber.onSuccess(context);
+                return;
+            }
+
+            List<BootstrapTask> ready = pending.stream()
+                    .filter(task -> provided.containsAll(task.requires()))
+                    .collect(toList());
+            if (ready.isEmpty()) {
+                if (running.isEmpty()) {
+                    fail(new FlowException("Unable to satisfy the requirements of the bootstrap tasks " +
+                            names(pending) + ". Provided: " + provided, context));
+                }
+                return;
+            }
+            pending.removeAll(ready);
+            running.addAll(ready);
+
+            int currentPhase = ++phase;
+            long phaseStart = System.currentTimeMillis();
+            logger.debug("Start bootstrap phase {}: {}", currentPhase, names(ready));
+            read(ready).andThen(Completable.merge(ready.stream().map(this::call).collect(toList())))
+                    .subscribe(() -> logger.debug("Finished bootstrap phase {} in {} ms", currentPhase,
+                            System.currentTimeMillis() - phaseStart), this::fail);
+        }
+
+        /** Executes the reads of the specified tasks which haven't been executed so far as one composite. */
+        private Completable read(List<BootstrapTask> tasks) {
+            Map<String, Operation> reads = new LinkedHashMap<>();
+            for (BootstrapTask task : tasks) {
+                for (Operation operation : task.reads(context)) {
+                    String key = readKey(operation);
+                    if (context.get(key) == null) {
+                        reads.putIfAbsent(key, operation);
+                    }
+                }
+            }
+            if (reads.isEmpty()) {
+                return Completable.complete();
+            }
+
+            List<String> keys = new ArrayList<>(reads.keySet());
+            List<Operation> operations = new ArrayList<>(reads.values());
+            if (operations.size() == 1) {
+                return dispatcher.execute(operations.get(0))
+                        .doOnSuccess(result -> context.set(keys.get(0), result))
+                        .toCompletable();
+            } else {
+                return dispatcher.execute(new Composite(operations))
+                        .doOnSuccess(result -> {
+                            for (int i = 0; i < keys.size(); i++) {
+                                context.set(keys.get(i), result.step(i).get(RESULT));
+                            }
+                        })
+                        .toCompletable();
+            }
+        }
+
+        /** Calls the task and starts the next phase once the task has been finished. */
+        private Completable call(BootstrapTask task) {
+            return Completable.defer(() -> task.call(context))
+                    .doOnCompleted(() -> {
+                        running.remove(task);
+                        provided.addAll(task.provides());
+                        progress.tick(name(task));
+                        next();
+                    });
+        }
+
+        private void fail(Throwable error) {
+            if (!failed) {
+                failed = true;
+                progress.finish();
+                subscriber.onError(error);
+            }
+        }
+    }
+}
@@ -15,9 +15,39 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Task;
 
-/** A task executed as part of the bootstrap process. */
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+/**
+ * A task executed as part of the bootstrap process. Tasks declare the data they need and provide. The {@link
+ * BootstrapGraph} calls a task as soon as all required data has been provided.
+ */
 public interface BootstrapTask extends Task<FlowContext> {
+
+    /** @return the keys of the data which must be provided by other tasks before this task is called. */
+    default Set<String> requires() {
+        return emptySet();
+    }
+
+    /** @return the keys of the data which is provided by this task once it has been called. */
+    default Set<String> provides() {
+        return emptySet();
+    }
+
+    /**
+     * Returns the read operations this task needs. The reads of all tasks which are ready at the same time are merged
+     * into one composite and executed before the tasks are called. Use {@link BootstrapGraph#result(FlowContext,
+     * Operation)} to get the results. Reads which might fail must not be returned here, since they'd fail the whole
+     * composite.
+     */
+    default List<Operation> reads(FlowContext context) {
+        return emptyList();
+    }
 }
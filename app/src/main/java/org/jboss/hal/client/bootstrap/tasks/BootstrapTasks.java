@@ -17,12 +17,14 @@ package org.jboss.hal.client.bootstrap.tasks;
 
 import javax.inject.Inject;
 
-/** Simple wrapper around an ordered array of bootstrap tasks. */
+/**
+ * Simple wrapper around an array of bootstrap tasks. The tasks are executed by the {@link BootstrapGraph} according to
+ * their dependencies. Tasks which are ready at the same time are started in the order of this array.
+ */
 public class BootstrapTasks {
 
     private final BootstrapTask[] tasks;
 
-    // Don't change the order unless you know what you're doing!
     @Inject
     public BootstrapTasks(ReadEnvironment readEnvironment,
             ReadAuthentication readAuthentication,
@@ -16,6 +16,7 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -30,12 +31,18 @@ import org.slf4j.LoggerFactory;
 import rx.Completable;
 import rx.Single;
 
+import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.bootstrap.tasks.ReadHostNames.HOST_NAMES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
+/**
+ * Finds the domain controller by reading the hosts in parallel. Only executed in domain mode. Depends on {@link
+ * ReadHostNames}.
+ */
 public class FindDomainController implements BootstrapTask {
 
+    static final String DOMAIN_CONTROLLER = "bootstrap.domainController";
     private static final Logger logger = LoggerFactory.getLogger(FindDomainController.class);
 
     private final Dispatcher dispatcher;
@@ -47,6 +54,16 @@ public class FindDomainController implements BootstrapTask {
         this.environment = environment;
     }
 
+    @Override
+    public Set<String> requires() {
+        return singleton(HOST_NAMES);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(DOMAIN_CONTROLLER);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         if (!environment.isStandalone()) {
@@ -75,7 +92,8 @@ public class FindDomainController implements BootstrapTask {
                                     .toCompletable();
                         })
                         .collect(toList());
-                return Completable.concat(completables);
+                // reading a host might fail, so the reads are not merged into one composite
+                return Completable.merge(completables);
             } else {
                 return Completable.complete();
             }
@@ -63,17 +63,29 @@ public class FindNonProgressingTask implements Action1<SingleEmitter<ModelNode>>
         this.progress = progress;
     }
 
+    /**
+     * The single operation which is executed in standalone mode. Use it together with {@link
+     * #onStandaloneResult(ModelNode)}, if the operation should be executed as part of a composite.
+     */
+    Operation standaloneOperation() {
+        ResourceAddress address = MGMT_OPERATIONS_TEMPLATE.resolve(statementContext);
+        return new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
+    }
+
+    void onStandaloneResult(ModelNode result) {
+        boolean hasNonProgressinOp = result != null && result.isDefined();
+        eventBus.fireEvent(new NonProgressingOperationEvent(hasNonProgressinOp));
+    }
+
     @Override
     public void call(SingleEmitter<ModelNode> em) {
         if (environment.isStandalone()) {
-            ResourceAddress address = MGMT_OPERATIONS_TEMPLATE.resolve(statementContext);
-            Operation operation = new Operation.Builder(address, FIND_NON_PROGRESSING_OPERATION).build();
-
-            dispatcher.execute(operation, result -> {
-                boolean hasNonProgressinOp = result != null && result.isDefined();
-                eventBus.fireEvent(new NonProgressingOperationEvent(hasNonProgressinOp));
-                em.onSuccess(result);
-            });
+            dispatcher.execute(standaloneOperation(), result -> {
+                        onStandaloneResult(result);
+                        em.onSuccess(result);
+                    },
+                    (op, failure) -> em.onError(new RuntimeException(failure)),
+                    (op, exception) -> em.onError(exception));
         } else {
 
             // return running hosts, to later call a find-non-progressing-operation on each host
@@ -164,6 +176,7 @@ public class FindNonProgressingTask implements Action1<SingleEmitter<ModelNode>>
                         public void onSuccess(FlowContext context) {
                             boolean nonProgressingOp = context.get("nonProgressingOp");
                             eventBus.fireEvent(new NonProgressingOperationEvent(nonProgressingOp));
+                            em.onSuccess(new ModelNode().set(nonProgressingOp));
                         }
                     });
         }
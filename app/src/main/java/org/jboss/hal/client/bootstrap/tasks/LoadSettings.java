@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Build;
@@ -26,15 +29,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.jboss.hal.client.bootstrap.tasks.FindDomainController.DOMAIN_CONTROLLER;
+import static org.jboss.hal.client.bootstrap.tasks.ReadAuthentication.AUTHENTICATION;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
 import static org.jboss.hal.config.Settings.Key.*;
 
 /**
- * Loads the settings. Please make sure this is one of the last bootstrap function. This function loads the run-as role
- * which is then used by the dispatcher. But all previous bootstrap functions must not have a run-as role in the
- * dispatcher.
+ * Loads the settings. Please make sure this task requires the data of all bootstrap tasks which execute operations.
+ * This task loads the run-as role which is then used by the dispatcher. But all previous bootstrap tasks must not
+ * have a run-as role in the dispatcher.
  */
 public class LoadSettings implements BootstrapTask {
 
+    static final String SETTINGS = "bootstrap.settings";
     private static final Logger logger = LoggerFactory.getLogger(LoadSettings.class);
 
     private final Environment environment;
@@ -46,14 +55,29 @@ public class LoadSettings implements BootstrapTask {
         this.settings = settings;
     }
 
+    @Override
+    public Set<String> requires() {
+        return new HashSet<>(asList(ENVIRONMENT, AUTHENTICATION, DOMAIN_CONTROLLER));
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(SETTINGS);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         settings.load(TITLE, Names.BROWSER_DEFAULT_TITLE);
         settings.load(COLLECT_USER_DATA, environment.getHalBuild() == Build.COMMUNITY);
         settings.load(LOCALE, Settings.DEFAULT_LOCALE);
+        settings.load(MACRO_BATCH_SIZE, Settings.DEFAULT_MACRO_BATCH_SIZE);
         settings.load(PAGE_SIZE, Settings.DEFAULT_PAGE_SIZE);
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
+        settings.load(READ_BATCH_DELAY, Settings.DEFAULT_READ_BATCH_DELAY);
+        settings.load(READ_BATCH_SIZE, Settings.DEFAULT_READ_BATCH_SIZE);
+        settings.load(READ_CACHE_SIZE, Settings.DEFAULT_READ_CACHE_SIZE);
+        settings.load(RRD_CONCURRENCY, Settings.DEFAULT_RRD_CONCURRENCY);
         settings.load(RUN_AS, null);
         logger.debug("Load settings: {}", settings);
         return Completable.complete();
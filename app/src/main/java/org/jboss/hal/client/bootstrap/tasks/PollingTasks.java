@@ -23,24 +23,27 @@ import javax.inject.Provider;
 import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
-import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.core.Polling;
+import org.jboss.hal.core.PollingJob;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.spi.Footer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import rx.Observable;
 import rx.Single;
 
 import static java.util.Collections.singletonList;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 
 public class PollingTasks implements InitializedTask {
 
+    /** Polling jobs whose result doesn't change are executed less often, but at least every n-th poll time. */
+    private static final int BACKOFF = 4;
+
     private static Logger logger = LoggerFactory.getLogger(PollingTasks.class);
     private EventBus eventBus;
     private Dispatcher dispatcher;
@@ -48,16 +51,18 @@ public class PollingTasks implements InitializedTask {
     private Settings settings;
     private Provider<Progress> progress;
     private Environment environment;
+    private Polling polling;
 
     @Inject
     public PollingTasks(EventBus eventBus, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            @Footer Provider<Progress> progress, Environment environment) {
+            @Footer Provider<Progress> progress, Environment environment, Polling polling) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.settings = settings;
         this.progress = progress;
         this.environment = environment;
+        this.polling = polling;
     }
 
     @Override
@@ -66,17 +71,26 @@ public class PollingTasks implements InitializedTask {
         int pollTime = settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME);
         logger.info("Polling mechanism is: {}", (pollEnabled ? "on" : "off"));
         if (pollEnabled) {
-            // polling implementations should be added in the pollingActions list
-            List<Single<ModelNode>> pollingActions = singletonList(Single.fromEmitter(
-                    new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext, progress))
-            );
-            for (Single<ModelNode> singleAction : pollingActions) {
-                Observable
-                        .interval(pollTime, SECONDS) // execute a operation each INTERVAL millis
-                        .flatMapSingle(n -> singleAction, false, 1)
-                        .toCompletable()
-                        .subscribe();
+            // polling implementations should be added in the pollingJobs list
+            double interval = pollTime * 1000;
+            List<PollingJob> pollingJobs = singletonList(findNonProgressing(interval));
+            for (PollingJob pollingJob : pollingJobs) {
+                polling.start(pollingJob);
             }
         }
     }
+
+    private PollingJob findNonProgressing(double interval) {
+        FindNonProgressingTask task = new FindNonProgressingTask(eventBus, dispatcher, environment, statementContext,
+                progress);
+        PollingJob.Builder builder = new PollingJob.Builder(FIND_NON_PROGRESSING_OPERATION, interval)
+                .maxInterval(BACKOFF * interval);
+        if (environment.isStandalone()) {
+            // a single operation can be executed together with other polling jobs which are due at the same time
+            builder.operation(task.standaloneOperation()).onResult(task::onStandaloneResult);
+        } else {
+            builder.task(Single.fromEmitter(task));
+        }
+        return builder.build();
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.List;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -22,8 +23,6 @@ import javax.inject.Inject;
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Role;
-import org.jboss.hal.dmr.Composite;
-import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
@@ -39,7 +38,12 @@ import org.slf4j.LoggerFactory;
 import rx.Completable;
 import rx.Single;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapGraph.result;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.READ_WHOAMI;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.AccessControlProvider.SIMPLE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
@@ -48,10 +52,11 @@ import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 /**
  * Reads attributes from {@code /core-service=management/access=authorization}. This is implemented in an extra
  * bootstrap function, because the operation might fail in some corner cases (e.g. when the current user is a host
- * scoped role scoped to a slave host).
+ * scoped role scoped to a slave host). The {@code :whoami} fallback reuses the result of {@link ReadEnvironment}.
  */
 public class ReadAuthentication implements BootstrapTask {
 
+    static final String AUTHENTICATION = "bootstrap.authentication";
     private static final Logger logger = LoggerFactory.getLogger(ReadAuthentication.class);
     private static final AddressTemplate CORE_SERVICE_TEMPLATE = AddressTemplate.of("/core-service=management");
 
@@ -66,6 +71,21 @@ public class ReadAuthentication implements BootstrapTask {
         this.statementContext = statementContext;
     }
 
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(AUTHENTICATION);
+    }
+
+    @Override
+    public List<Operation> reads(FlowContext context) {
+        return singletonList(READ_WHOAMI);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         logger.debug("Read authentication");
@@ -75,13 +95,8 @@ public class ReadAuthentication implements BootstrapTask {
                 .param(INCLUDE_RUNTIME, true)
                 .param(RECURSIVE_DEPTH, 1)
                 .build();
-        Operation opWhoami = new Operation.Builder(ResourceAddress.root(), WHOAMI)
-                .param(VERBOSE, true)
-                .build();
-        return dispatcher.execute(new Composite(opAuthorization, opWhoami))
-                .doOnSuccess((CompositeResult compositeResult) -> {
-
-                    ModelNode result = compositeResult.step(0).get(RESULT);
+        return dispatcher.execute(opAuthorization)
+                .doOnSuccess((ModelNode result) -> {
                     if (result.isDefined() && !result.asString().equals("{}")) {
                         result = result.get(AUTHORIZATION);
                         // provider
@@ -112,7 +127,7 @@ public class ReadAuthentication implements BootstrapTask {
                     } else {
                         logger.warn("Unable to read {} (insufficient rights?). Use :whoami values as fallback.",
                                 CORE_SERVICE_TEMPLATE.append("access=authorization"));
-                        ModelNode resultWhoami = compositeResult.step(1).get(RESULT);
+                        ModelNode resultWhoami = result(context, READ_WHOAMI);
                         environment.setAccessControlProvider(RBAC);
                         environment.getRoles().clear();
                         if (resultWhoami.hasDefined(ROLES)) {
@@ -125,7 +140,7 @@ public class ReadAuthentication implements BootstrapTask {
                 .onErrorResumeNext(throwable -> {
                     if (throwable instanceof DispatchFailure) {
                         logger.error("Unable to read {}. Use :whoami values as fallback.", CORE_SERVICE_TEMPLATE);
-                        return Single.just(new CompositeResult(new ModelNode()));
+                        return Single.just(new ModelNode());
                     } else {
                         return Single.error(throwable);
                     }
@@ -15,8 +15,8 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -28,42 +28,69 @@ import org.jboss.hal.config.Version;
 import org.jboss.hal.config.keycloak.Keycloak;
 import org.jboss.hal.config.keycloak.KeycloakHolder;
 import org.jboss.hal.core.runtime.server.Server;
-import org.jboss.hal.dmr.Composite;
-import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.meta.ManagementModel;
+import org.jboss.hal.meta.MetadataVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapGraph.result;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 
 /**
  * Reads important information from the root resource like product name and version, operation mode and management
- * version. Executes the {@code :whoami} operation to get the current user / roles.
+ * version. Executes the {@code :whoami} operation to get the current user / roles and reads the installed extensions
+ * which are part of the {@linkplain MetadataVersion metadata version}. The operations are declared as {@linkplain
+ * #reads(FlowContext) reads}, so that they're merged with the reads of other tasks.
  */
 public class ReadEnvironment implements BootstrapTask {
 
+    static final String ENVIRONMENT = "bootstrap.environment";
+    static final Operation READ_ROOT = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION)
+            .param(ATTRIBUTES_ONLY, true)
+            .param(INCLUDE_RUNTIME, true)
+            .build();
+    static final Operation READ_WHOAMI = new Operation.Builder(ResourceAddress.root(), WHOAMI)
+            .param(VERBOSE, true)
+            .build();
+    private static final Operation READ_EXTENSIONS = new Operation.Builder(ResourceAddress.root(),
+            READ_CHILDREN_NAMES_OPERATION)
+            .param(CHILD_TYPE, EXTENSION)
+            .build();
     private static final Logger logger = LoggerFactory.getLogger(ReadEnvironment.class);
 
-    private final Dispatcher dispatcher;
     private final Environment environment;
     private final User user;
+    private final MetadataVersion metadataVersion;
     private KeycloakHolder keycloakHolder;
 
     @Inject
-    public ReadEnvironment(Dispatcher dispatcher, Environment environment, User user, KeycloakHolder keycloakHolder) {
-        this.dispatcher = dispatcher;
+    public ReadEnvironment(Environment environment, User user, KeycloakHolder keycloakHolder,
+            MetadataVersion metadataVersion) {
         this.environment = environment;
         this.user = user;
+        this.metadataVersion = metadataVersion;
         this.keycloakHolder = keycloakHolder;
     }
 
+    @Override
+    public Set<String> provides() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public List<Operation> reads(FlowContext context) {
+        return asList(READ_ROOT, READ_WHOAMI, READ_EXTENSIONS);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         logger.debug("Read environment");
@@ -74,73 +101,73 @@ public class ReadEnvironment implements BootstrapTask {
             logger.debug("Keycloak token: {}", keycloak.token);
         }
 
-        List<Operation> ops = new ArrayList<>();
-        ops.add(new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION)
-                .param(ATTRIBUTES_ONLY, true)
-                .param(INCLUDE_RUNTIME, true)
-                .build());
-        ops.add(new Operation.Builder(ResourceAddress.root(), WHOAMI).param(VERBOSE, true).build());
-
-        return dispatcher.execute(new Composite(ops))
-                .doOnSuccess((CompositeResult result) -> {
-                    ModelNode node = result.step(0).get(RESULT);
-
-                    // operation mode
-                    OperationMode operationMode = asEnumValue(node, LAUNCH_TYPE, (name) -> OperationMode.valueOf(name),
-                            OperationMode.UNDEFINED);
-                    environment.setOperationMode(operationMode);
-                    logger.debug("Operation mode: {}", operationMode);
-
-                    // name and org
-                    if (node.get(NAME).isDefined()) {
-                        String name = node.get(NAME).asString();
-                        environment.setName(name);
+        return Completable.fromAction(() -> {
+            ModelNode node = result(context, READ_ROOT);
+
+            // operation mode
+            OperationMode operationMode = asEnumValue(node, LAUNCH_TYPE, (name) -> OperationMode.valueOf(name),
+                    OperationMode.UNDEFINED);
+            environment.setOperationMode(operationMode);
+            logger.debug("Operation mode: {}", operationMode);
+
+            // name and org
+            if (node.get(NAME).isDefined()) {
+                String name = node.get(NAME).asString();
+                environment.setName(name);
+            }
+            String orgAttribute = environment.isStandalone() ? ORGANIZATION : DOMAIN_ORGANIZATION;
+            if (node.get(orgAttribute).isDefined()) {
+                String org = node.get(orgAttribute).asString();
+                environment.setOrganization(org);
+            }
+
+            // server info
+            environment.setInstanceInfo(node.get(PRODUCT_NAME).asString(), node.get(PRODUCT_VERSION).asString(),
+                    node.get(RELEASE_CODENAME).asString(), node.get(RELEASE_VERSION).asString());
+
+            // management version
+            Version version = ManagementModel.parseVersion(node);
+            environment.setManagementVersion(version);
+            logger.debug("Management model version: {}", version);
+
+            // extensions
+            ModelNode extensions = result(context, READ_EXTENSIONS);
+            if (extensions.isDefined()) {
+                metadataVersion.setExtensions(extensions.asList().stream()
+                        .map(ModelNode::asString)
+                        .collect(toList()));
+            }
+            logger.debug("Metadata version: {}", metadataVersion.id());
+
+            if (environment.isStandalone()) {
+                Server.STANDALONE.addServerAttributes(node);
+            }
+
+            // user info
+            if (environment.isSingleSignOn()) {
+                user.setName(keycloak.userProfile.username);
+                // as Keycloak is a native js object, the Java 8 collection methods as: stream, foreach, iterator
+                // are not supported on the javascript side when run in the browser.
+                if (keycloak.realmAccess != null && keycloak.realmAccess.roles != null) {
+                    for (int i = 0; i < keycloak.realmAccess.roles.length; i++) {
+                        String role = keycloak.realmAccess.roles[i];
+                        user.addRole(new Role(role));
                     }
-                    String orgAttribute = environment.isStandalone() ? ORGANIZATION : DOMAIN_ORGANIZATION;
-                    if (node.get(orgAttribute).isDefined()) {
-                        String org = node.get(orgAttribute).asString();
-                        environment.setOrganization(org);
-                    }
-
-                    // server info
-                    environment.setInstanceInfo(node.get(PRODUCT_NAME).asString(), node.get(PRODUCT_VERSION).asString(),
-                            node.get(RELEASE_CODENAME).asString(), node.get(RELEASE_VERSION).asString());
-
-                    // management version
-                    Version version = ManagementModel.parseVersion(node);
-                    environment.setManagementVersion(version);
-                    logger.debug("Management model version: {}", version);
-
-                    if (environment.isStandalone()) {
-                        Server.STANDALONE.addServerAttributes(node);
-                    }
-
-                    // user info
-                    if (environment.isSingleSignOn()) {
-                        user.setName(keycloak.userProfile.username);
-                        // as Keycloak is a native js object, the Java 8 collection methods as: stream, foreach, iterator
-                        // are not supported on the javascript side when run in the browser.
-                        if (keycloak.realmAccess != null && keycloak.realmAccess.roles != null) {
-                            for (int i = 0; i < keycloak.realmAccess.roles.length; i++) {
-                                String role = keycloak.realmAccess.roles[i];
-                                user.addRole(new Role(role));
-                            }
-                        }
-                    } else {
-                        ModelNode whoami = result.step(1).get(RESULT);
-                        String username = whoami.get("identity").get("username").asString();
-                        user.setName(username);
-                        if (whoami.hasDefined("mapped-roles")) {
-                            List<ModelNode> roles = whoami.get("mapped-roles").asList();
-                            for (ModelNode role : roles) {
-                                String roleName = role.asString();
-                                user.addRole(new Role(roleName));
-                            }
-                        }
+                }
+            } else {
+                ModelNode whoami = result(context, READ_WHOAMI);
+                String username = whoami.get("identity").get("username").asString();
+                user.setName(username);
+                if (whoami.hasDefined("mapped-roles")) {
+                    List<ModelNode> roles = whoami.get("mapped-roles").asList();
+                    for (ModelNode role : roles) {
+                        String roleName = role.asString();
+                        user.addRole(new Role(roleName));
                     }
-                    user.setAuthenticated(true);
-                    logger.debug("User info: {} {}", user.getName(), user.getRoles());
-                })
-                .toCompletable();
+                }
+            }
+            user.setAuthenticated(true);
+            logger.debug("User info: {} {}", user.getName(), user.getRoles());
+        });
     }
 }
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.core.extension.ExtensionRegistry;
@@ -25,6 +27,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
 
+import static java.util.Collections.singleton;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
+
+/** Injects the installed extensions. Depends on {@link ReadEnvironment}. */
 public class ReadExtensions implements BootstrapTask {
 
     private static final Logger logger = LoggerFactory.getLogger(ReadExtensions.class);
@@ -38,6 +44,11 @@ public class ReadExtensions implements BootstrapTask {
         this.extensionStorage = extensionStorage;
     }
 
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         // TODO Load server side extensions from /core-service=management/console-extension=*
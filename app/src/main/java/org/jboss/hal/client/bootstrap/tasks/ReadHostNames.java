@@ -16,6 +16,7 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -23,45 +24,58 @@ import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import rx.Completable;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.client.bootstrap.tasks.BootstrapGraph.result;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 
-/** Reads the domain controller. Only executed in domain mode. Depends on {@link ReadEnvironment}. */
+/** Reads the host names. Only executed in domain mode. Depends on {@link ReadEnvironment}. */
 public class ReadHostNames implements BootstrapTask {
 
     static final String HOST_NAMES = "bootstrap.hostNames";
+    private static final Operation READ_HOST_NAMES = new Operation.Builder(ResourceAddress.root(),
+            READ_CHILDREN_NAMES_OPERATION)
+            .param(CHILD_TYPE, HOST)
+            .build();
 
-    private final Dispatcher dispatcher;
     private final Environment environment;
 
     @Inject
-    public ReadHostNames(Dispatcher dispatcher, Environment environment) {
-        this.dispatcher = dispatcher;
+    public ReadHostNames(Environment environment) {
         this.environment = environment;
     }
 
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
+    @Override
+    public Set<String> provides() {
+        return singleton(HOST_NAMES);
+    }
+
+    @Override
+    public List<Operation> reads(FlowContext context) {
+        return environment.isStandalone() ? emptyList() : singletonList(READ_HOST_NAMES);
+    }
+
     @Override
     public Completable call(FlowContext context) {
-        if (environment.isStandalone()) {
-            return Completable.complete();
-        } else {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, HOST)
-                    .build();
-            return dispatcher.execute(operation)
-                    .doOnSuccess(result -> {
-                        List<String> hosts = result.asList().stream()
-                                .map(ModelNode::asString)
-                                .collect(toList());
-                        context.set(HOST_NAMES, hosts);
-                    })
-                    .toCompletable();
+        if (!environment.isStandalone()) {
+            List<String> hosts = result(context, READ_HOST_NAMES).asList().stream()
+                    .map(ModelNode::asString)
+                    .collect(toList());
+            context.set(HOST_NAMES, hosts);
         }
+        return Completable.complete();
     }
 }
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
@@ -26,9 +28,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
 
+import static java.util.Collections.singleton;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_PROFILE;
 
-/** Reads the capabilities from the capability registry. Depends on {@link ReadHostNames}. */
+/**
+ * Registers well-known capabilities if the management model doesn't support the capability registry. Depends on
+ * {@link ReadEnvironment}.
+ */
 public class RegisterStaticCapabilities implements BootstrapTask {
 
     private static final Logger logger = LoggerFactory.getLogger(RegisterStaticCapabilities.class);
@@ -42,6 +49,11 @@ public class RegisterStaticCapabilities implements BootstrapTask {
         this.capabilities = capabilities;
     }
 
+    @Override
+    public Set<String> requires() {
+        return singleton(ENVIRONMENT);
+    }
+
     @Override
     public Completable call(FlowContext context) {
         if (!ManagementModel.supportsCapabilitiesRegistry(environment.getManagementVersion())) {
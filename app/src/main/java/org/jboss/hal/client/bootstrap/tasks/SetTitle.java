@@ -16,7 +16,9 @@
 package org.jboss.hal.client.bootstrap.tasks;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -31,6 +33,9 @@ import rx.Completable;
 
 import static com.google.common.base.Strings.emptyToNull;
 import static elemental2.dom.DomGlobal.document;
+import static java.util.Arrays.asList;
+import static org.jboss.hal.client.bootstrap.tasks.LoadSettings.SETTINGS;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
 
 public class SetTitle implements BootstrapTask {
 
@@ -50,6 +55,11 @@ public class SetTitle implements BootstrapTask {
         data.put(ORGANIZATION_PLACEHOLDER, environment::getOrganization);
     }
 
+    @Override
+    public Set<String> requires() {
+        return new HashSet<>(asList(ENVIRONMENT, SETTINGS));
+    }
+
     @Override
     public Completable call(FlowContext context) {
         String title = settings.get(Settings.Key.TITLE).value();
@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
@@ -35,6 +38,10 @@ import rx.Completable;
 
 import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.window;
+import static java.util.Arrays.asList;
+import static org.jboss.hal.client.bootstrap.tasks.LoadSettings.SETTINGS;
+import static org.jboss.hal.client.bootstrap.tasks.ReadAuthentication.AUTHENTICATION;
+import static org.jboss.hal.client.bootstrap.tasks.ReadEnvironment.ENVIRONMENT;
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
 import static org.jboss.hal.js.Json.stringify;
@@ -61,6 +68,11 @@ public class StartAnalytics implements BootstrapTask {
         this.eventBus = eventBus;
     }
 
+    @Override
+    public Set<String> requires() {
+        return new HashSet<>(asList(ENVIRONMENT, AUTHENTICATION, SETTINGS));
+    }
+
     @Override
     public Completable call(FlowContext context) {
         String pathname = window.location.getPathname();
@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.client.deployment;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -22,7 +25,6 @@ import java.util.function.Consumer;
 import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
-import elemental2.core.JsArray;
 import elemental2.dom.File;
 import elemental2.dom.File.ConstructorContentsArrayUnionType;
 import elemental2.dom.HTMLButtonElement;
@@ -74,7 +76,6 @@ import rx.Single;
 import static com.google.common.base.Strings.nullToEmpty;
 import static elemental2.dom.DomGlobal.window;
 import static java.lang.Math.max;
-import static java.util.Collections.emptyList;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.click;
 import static org.jboss.hal.ballroom.LayoutBuilder.column;
@@ -83,6 +84,7 @@ import static org.jboss.hal.ballroom.Skeleton.MARGIN_BIG;
 import static org.jboss.hal.ballroom.Skeleton.MARGIN_SMALL;
 import static org.jboss.hal.ballroom.Skeleton.applicationHeight;
 import static org.jboss.hal.ballroom.Skeleton.applicationOffset;
+import static org.jboss.hal.client.deployment.ContentParser.MORE_ID;
 import static org.jboss.hal.client.deployment.ContentParser.NODE_ID;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.CSS.*;
@@ -150,6 +152,7 @@ class BrowseContentElement implements IsElement, Attachable {
     private final Dispatcher dispatcher;
     private final EventBus eventBus;
     private final Resources resources;
+    private final ReadContent readContent;
 
     private final HTMLElement root;
     private final Search treeSearch;
@@ -186,6 +189,7 @@ class BrowseContentElement implements IsElement, Attachable {
         this.dispatcher = dispatcher;
         this.eventBus = eventBus;
         this.resources = resources;
+        this.readContent = new ReadContent(dispatcher, resources);
         this.surroundingHeight = 0;
 
         treeSearch = new Search.Builder(Ids.CONTENT_TREE_SEARCH, query -> tree.search(query))
@@ -396,15 +400,9 @@ class BrowseContentElement implements IsElement, Attachable {
         return dispatcher.downloadUrl(builder.build());
     }
 
+    /** Re-reads the opened directories. The opened and selected nodes are restored by the tree. */
     private void refresh() {
-        String selectedId = selectedId();
-        browseContent()
-                .andThen(awaitTreeReady())
-                .subscribe(() -> {
-                    if (selectedId != null) {
-                        tree.selectNode(selectedId);
-                    }
-                });
+        refreshTree().subscribe();
     }
 
 
@@ -419,7 +417,9 @@ class BrowseContentElement implements IsElement, Attachable {
         setVisible(saveContentButton.orElse(null), content.isExploded());
         editor.getEditor().setReadOnly(!content.isExploded());
 
-        browseContent().subscribe(this::noSelection);
+        readContent.reset(content.getName());
+        initTree();
+        noSelection();
     }
 
     private void addContent() {
@@ -440,12 +440,11 @@ class BrowseContentElement implements IsElement, Attachable {
                     .build();
             dispatcher.upload(file(filename(path), ""), operation)
                     .toCompletable()
-                    .andThen(browseContent())
-                    .andThen(awaitTreeReady())
+                    .andThen(refreshTree())
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        reveal(path);
                     });
         });
         targetPathItem.setValue(selectedPath());
@@ -495,12 +494,11 @@ class BrowseContentElement implements IsElement, Attachable {
                     ? dispatcher.execute(operation)
                     : dispatcher.upload(fileItem.getValue(), operation);
             single.toCompletable()
-                    .andThen(browseContent())
-                    .andThen(awaitTreeReady())
+                    .andThen(refreshTree())
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().newContentSuccess(content.getName(), path)));
-                        tree.selectNode(NODE_ID.apply(path));
+                        reveal(path);
                     });
         });
 
@@ -517,36 +515,34 @@ class BrowseContentElement implements IsElement, Attachable {
         form.edit(new ModelNode());
     }
 
-    private Completable browseContent() {
-        ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, content.getName());
-        Operation operation = new Operation.Builder(address, BROWSE_CONTENT).build();
-        return dispatcher.execute(operation)
-                .doOnSuccess(result -> {
-                    String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
-                    Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName,
-                            new ContentEntry())
-                            .root()
-                            .folder()
-                            .open()
-                            .build();
-                    JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
-
-                    if (tree != null) {
-                        tree.destroy();
-                        tree = null;
-                    }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
-                    Elements.removeChildrenFrom(treeContainer);
-                    treeContainer.appendChild(tree.element());
-                    tree.attach();
-                    tree.onSelectionChange((event, selectionContext) -> {
-                        if (!"ready".equals(selectionContext.action)) { //NON-NLS
-                            onNodeSelected(selectionContext);
-                        }
-                    });
-                })
-                .toCompletable();
+    private void initTree() {
+        String contentName = SafeHtmlUtils.htmlEscapeAllowEntities(content.getName());
+        Node<ContentEntry> root = new Node.Builder<>(Ids.CONTENT_TREE_ROOT, contentName, new ContentEntry())
+                .root()
+                .asyncFolder()
+                .open()
+                .build();
+
+        if (tree != null) {
+            tree.destroy();
+            tree = null;
+        }
+        tree = new Tree<>(Ids.CONTENT_TREE, root, readContent);
+        Elements.removeChildrenFrom(treeContainer);
+        treeContainer.appendChild(tree.element());
+        tree.attach();
+        tree.onSelectionChange((event, selectionContext) -> {
+            if (!"ready".equals(selectionContext.action)) { //NON-NLS
+                onNodeSelected(selectionContext);
+            }
+        });
+    }
+
+    private Completable refreshTree() {
+        return Completable.fromEmitter(emitter -> {
+            readContent.invalidate();
+            tree.refresh(emitter::onCompleted);
+        });
     }
 
     private void loadContent(ContentEntry contentEntry, Consumer<String> successCallback) {
@@ -578,8 +574,7 @@ class BrowseContentElement implements IsElement, Attachable {
             dispatcher.upload(file(filename, editorContent), operation)
                     .doOnSuccess(result -> saveContentButton.ifPresent(button -> button.disabled = true))
                     .toCompletable()
-                    .andThen(browseContent())
-                    .andThen(awaitTreeReady())
+                    .andThen(refreshTree())
                     .subscribe(() -> {
                         MessageEvent.fire(eventBus,
                                 Message.success(resources.messages().saveContentSuccess(content.getName(), filename)));
@@ -601,8 +596,7 @@ class BrowseContentElement implements IsElement, Attachable {
                                 .build();
                         dispatcher.execute(operation)
                                 .toCompletable()
-                                .andThen(browseContent())
-                                .andThen(awaitTreeReady())
+                                .andThen(refreshTree())
                                 .subscribe(() -> {
                                     MessageEvent.fire(eventBus, Message.success(
                                             resources.messages().removeContentSuccess(content.getName(), path)));
@@ -621,6 +615,12 @@ class BrowseContentElement implements IsElement, Attachable {
             if (selection.node.id.equals(Ids.CONTENT_TREE_ROOT)) {
                 deploymentPreview();
 
+            } else if (selection.node.id.equals(MORE_ID.apply(ReadContent.directory(selection.node)))) {
+                // the data of the 'more' node is the content entry of the parent directory
+                readContent.nextPage(ReadContent.directory(selection.node));
+                tree.refreshNode(selection.node.parent);
+                directory();
+
             } else {
                 ContentEntry contentEntry = selection.node.data;
                 if (contentEntry.directory) {
@@ -761,16 +761,6 @@ class BrowseContentElement implements IsElement, Attachable {
 
     // ------------------------------------------------------ helper methods
 
-    private String selectedId() {
-        if (tree != null) {
-            Node<ContentEntry> selection = tree.getSelected();
-            if (selection != null) {
-                return selection.id;
-            }
-        }
-        return null;
-    }
-
     private String selectedPath() {
         String path = null;
         Node<ContentEntry> selection = tree.getSelected();
@@ -811,7 +801,23 @@ class BrowseContentElement implements IsElement, Attachable {
         return new File(new ConstructorContentsArrayUnionType[]{contents}, name);
     }
 
-    private Completable awaitTreeReady() {
-        return Completable.fromEmitter(emitter -> tree.onReady((event, any) -> emitter.onCompleted()));
+    /** Opens the parent directories of the specified path one after another and selects the path. */
+    private void reveal(String path) {
+        String strippedPath = Strings.strip(path, "/");
+        List<String> directories = new ArrayList<>();
+        int index = strippedPath.indexOf('/');
+        while (index != -1) {
+            directories.add(strippedPath.substring(0, index + 1));
+            index = strippedPath.indexOf('/', index + 1);
+        }
+        reveal(directories.iterator(), NODE_ID.apply(strippedPath));
+    }
+
+    private void reveal(Iterator<String> directories, String id) {
+        if (directories.hasNext()) {
+            tree.openNode(NODE_ID.apply(directories.next()), () -> reveal(directories, id));
+        } else {
+            tree.selectNode(id);
+        }
     }
 }
@@ -16,66 +16,52 @@
 package org.jboss.hal.client.deployment;
 
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
-import elemental2.core.JsArray;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.resources.Ids;
 
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
+/** Turns the result of a {@code browse-content(depth=1)} operation into content entries and tree nodes. */
 class ContentParser {
 
+    private static final Comparator<ContentEntry> DIRECTORIES_FIRST = Comparator.comparing(c -> !c.directory);
     private static final Comparator<ContentEntry> BY_NAME = Comparator.comparing(c -> c.name);
-    private static final Comparator<ContentEntry> BY_DEPTH = Comparator.comparingInt(c -> c.depth);
 
     private static final String DIRECTORY = "directory";
     private static final String FILE_SIZE = "file-size";
 
     static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
-
-    @SuppressWarnings("unchecked")
-    void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
-        nodes.push(root);
-
-        Map<String, Node<ContentEntry>> nodesByPath = new HashMap<>();
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> contentEntry.directory)
-                .sorted(BY_DEPTH.thenComparing(BY_NAME))
-                .forEach(directory -> {
-                    String parentPath = parentPath(directory);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-
-                    if (parent != null) {
-                        Node<ContentEntry> node = pushFolder(nodes, parent, directory);
-                        nodesByPath.put(directory.path, node);
-                    }
-                });
-
-        content.stream()
-                .map(this::contentEntry)
-                .filter(contentEntry -> !contentEntry.directory)
-                .sorted(BY_NAME)
-                .forEach(file -> {
-                    String parentPath = parentPath(file);
-                    Node<ContentEntry> parent = parentPath == null ? root : nodesByPath.get(parentPath);
-                    if (parent != null) {
-                        pushEntry(nodes, parent, file);
-                    }
-                });
+    static final Function<String, String> MORE_ID = path -> Ids.build("bct", path, "more");
+
+    /**
+     * Parses the direct children of the specified directory. The directories are sorted before the files.
+     *
+     * @param directory the path of the directory or an empty string for the root directory
+     * @param content   the result of the {@code browse-content} operation
+     */
+    List<ContentEntry> parse(String directory, List<ModelNode> content) {
+        return content.stream()
+                .map(node -> contentEntry(directory, node))
+                .sorted(DIRECTORIES_FIRST.thenComparing(BY_NAME))
+                .collect(toList());
     }
 
-    private ContentEntry contentEntry(ModelNode node) {
+    private ContentEntry contentEntry(String directory, ModelNode node) {
         String path = node.get(PATH).asString();
         Iterable<String> segments = Splitter.on('/').omitEmptyStrings().split(path);
+        if (!directory.isEmpty() && Iterables.size(segments) == 1) {
+            // a single segment means the path is relative to the directory
+            path = directory + path;
+            segments = Splitter.on('/').omitEmptyStrings().split(path);
+        }
 
         ContentEntry contentEntry = new ContentEntry();
         contentEntry.name = Iterables.getLast(segments);
@@ -86,36 +72,14 @@ class ContentParser {
         return contentEntry;
     }
 
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushFolder(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .folder()
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Node<ContentEntry> pushEntry(JsArray<Node<ContentEntry>> nodes, Node<ContentEntry> parent,
-            ContentEntry contentEntry) {
-        Node<ContentEntry> node = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name, contentEntry)
-                .parent(parent.id)
-                .icon(fontAwesome("file-text-o"))
-                .build();
-        nodes.push(node);
-        return node;
-    }
-
-    private String parentPath(ContentEntry contentEntry) {
-        String path = contentEntry.path.endsWith("/")
-                ? contentEntry.path.substring(0, contentEntry.path.length() - 1)
-                : contentEntry.path;
-        int index = path.lastIndexOf('/');
-        if (index != -1) {
-            return path.substring(0, index + 1);
+    Node<ContentEntry> node(Node<ContentEntry> parent, ContentEntry contentEntry) {
+        Node.Builder<ContentEntry> builder = new Node.Builder<>(NODE_ID.apply(contentEntry.path), contentEntry.name,
+                contentEntry).parent(parent.id);
+        if (contentEntry.directory) {
+            builder.asyncFolder();
+        } else {
+            builder.icon(fontAwesome("file-text-o"));
         }
-        return null;
+        return builder.build();
     }
 }
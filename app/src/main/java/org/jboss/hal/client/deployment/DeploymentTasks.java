@@ -52,8 +52,11 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
+import rx.Observable;
+import rx.Single;
 
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
@@ -65,7 +68,11 @@ import static org.jboss.hal.flow.Flow.series;
 class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
+    static final int UPLOAD_CONCURRENCY = 3;
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
+    private static final String EXISTING_DEPLOYMENTS = "deploymentsFunctions.existingDeployments";
+    private static final String UPLOADED_DEPLOYMENTS = "deploymentsFunctions.uploadedDeployments";
+    private static final int PROGRESS_STEPS = 100;
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
     /** Uploads or updates one or multiple deployment in standalone mode resp. content in domain mode. */
@@ -74,18 +81,13 @@ class DeploymentTasks {
             Resources resources) {
         if (files.getLength() > 0) {
 
-            StringBuilder builder = new StringBuilder();
+            List<File> fileList = asList(files);
             List<Task<FlowContext>> tasks = new ArrayList<>();
+            tasks.add(new CheckDeployments(dispatcher));
+            tasks.add(new UploadDeployments(environment, dispatcher, progress.get(), fileList, true));
 
-            for (int i = 0; i < files.getLength(); i++) {
-                String filename = files.item(i).name;
-                builder.append(filename).append(" ");
-                tasks.add(new CheckDeployment(dispatcher, filename));
-                tasks.add(new UploadOrReplace(environment, dispatcher, filename, filename, files.item(i), true));
-            }
-
-            logger.debug("About to upload / update {} file(s): {}", files.getLength(), builder);
-            series(new FlowContext(progress.get()), tasks)
+            logger.debug("About to upload / update {} file(s): {}", files.getLength(), names(fileList));
+            series(new FlowContext(), tasks)
                     .subscribe(new UploadOutcome<>(column, eventBus, files, resources));
         }
     }
@@ -96,24 +98,62 @@ class DeploymentTasks {
             FileList files, String serverGroup, Resources resources) {
         if (files.getLength() > 0) {
 
-            StringBuilder builder = new StringBuilder();
+            List<File> fileList = asList(files);
             List<Task<FlowContext>> tasks = new ArrayList<>();
-
-            for (int i = 0; i < files.getLength(); i++) {
-                String filename = files.item(i).name;
-                builder.append(filename).append(" ");
-                tasks.add(new CheckDeployment(dispatcher, filename));
-                tasks.add(new UploadOrReplace(environment, dispatcher, filename, filename, files.item(i), false));
-                tasks.add(new AddServerGroupDeployment(environment, dispatcher, filename, filename, serverGroup));
-            }
+            tasks.add(new CheckDeployments(dispatcher));
+            tasks.add(new UploadDeployments(environment, dispatcher, progress.get(), fileList, false));
+            tasks.add(new AddServerGroupDeployments(environment, dispatcher, serverGroup));
 
             logger.debug("About to upload and deploy {} file(s): {} to server group {}",
-                    files.getLength(), builder, serverGroup);
-            series(new FlowContext(progress.get()), tasks)
+                    files.getLength(), names(fileList), serverGroup);
+            series(new FlowContext(), tasks)
                     .subscribe(new UploadOutcome<>(column, eventBus, files, resources));
         }
     }
 
+    private static List<File> asList(FileList files) {
+        List<File> list = new ArrayList<>();
+        for (int i = 0; i < files.getLength(); i++) {
+            list.add(files.item(i));
+        }
+        return list;
+    }
+
+    private static String names(List<File> files) {
+        return files.stream().map(file -> file.name).collect(joining(" "));
+    }
+
+    /**
+     * Returns an operation which adds a new deployment or replaces an existing one. The content is expected as first
+     * attachment of the upload.
+     */
+    private static Operation uploadOperation(String name, String runtimeName, boolean replace, boolean enabled) {
+        Operation.Builder builder;
+        if (replace) {
+            builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) //NON-NLS
+                    .param(NAME, name)
+                    .param(RUNTIME_NAME, runtimeName);
+            // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
+        } else {
+            builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
+                    .param(RUNTIME_NAME, runtimeName)
+                    .param(ENABLED, enabled);
+
+        }
+        Operation operation = builder.build();
+        operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); //NON-NLS
+        return operation;
+    }
+
+    private static UploadStatistics statistics(FlowContext context, Environment environment) {
+        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
+        if (statistics == null) {
+            statistics = new UploadStatistics(environment);
+            context.set(UPLOAD_STATISTICS, statistics);
+        }
+        return statistics;
+    }
+
     private DeploymentTasks() {
     }
 
@@ -389,55 +429,236 @@ class DeploymentTasks {
         @Override
         public Completable call(FlowContext context) {
             boolean replace;
-            Operation.Builder builder;
-
             if (context.emptyStack()) {
                 replace = false;
             } else {
                 Integer status = context.pop();
                 replace = status == 200;
             }
-
-            if (replace) {
-                builder = new Operation.Builder(ResourceAddress.root(), FULL_REPLACE_DEPLOYMENT) //NON-NLS
-                        .param(NAME, name)
-                        .param(RUNTIME_NAME, runtimeName);
-                // leave "enabled" as undefined to indicate that the state of the existing deployment should be retained
-            } else {
-                builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, name), ADD)
-                        .param(RUNTIME_NAME, runtimeName)
-                        .param(ENABLED, enabled);
-
-            }
-            Operation operation = builder.build();
-            operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); //NON-NLS
+            Operation operation = uploadOperation(name, runtimeName, replace, enabled);
 
             return dispatcher.upload(file, operation)
                     .doOnSuccess(result -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics == null) {
-                            statistics = new UploadStatistics(environment);
-                            context.set(UPLOAD_STATISTICS, statistics);
-                        }
+                        UploadStatistics statistics = statistics(context, environment);
                         if (ADD.equals(operation.getName())) {
                             statistics.recordAdded(name);
                         } else {
                             statistics.recordReplaced(name);
                         }
                     })
-                    .doOnError(throwable -> {
-                        UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
-                        if (statistics == null) {
-                            statistics = new UploadStatistics(environment);
-                            context.set(UPLOAD_STATISTICS, statistics);
-                        }
-                        statistics.recordFailed(name);
+                    .doOnError(throwable -> statistics(context, environment).recordFailed(name))
+                    .toCompletable();
+        }
+    }
+
+
+    /**
+     * Reads the names of all deployments using one operation and stores them as {@code Set<String>} in the context
+     * under the key {@link DeploymentTasks#EXISTING_DEPLOYMENTS}.
+     */
+    static class CheckDeployments implements Task<FlowContext> {
+
+        private final Dispatcher dispatcher;
+
+        CheckDeployments(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public Completable call(FlowContext context) {
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, DEPLOYMENT)
+                    .build();
+            return dispatcher.execute(operation)
+                    .doOnSuccess(result -> {
+                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
+                        context.set(EXISTING_DEPLOYMENTS, names);
                     })
                     .toCompletable();
         }
     }
 
 
+    /**
+     * Creates new or replaces existing deployments for a list of files. Expects the names of the existing deployments
+     * under the key {@link DeploymentTasks#EXISTING_DEPLOYMENTS} in the context.
+     * <p>
+     * At most {@link DeploymentTasks#UPLOAD_CONCURRENCY} files are uploaded at the same time. The number of bytes sent
+     * is reflected in the progress. A failed upload does not cancel the other uploads, but is recorded in the {@link
+     * UploadStatistics} which are stored under the key {@link DeploymentTasks#UPLOAD_STATISTICS}. The names of the
+     * successfully uploaded deployments are stored as {@code List<String>} under the key {@link
+     * DeploymentTasks#UPLOADED_DEPLOYMENTS}.
+     */
+    static class UploadDeployments implements Task<FlowContext> {
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final Progress progress;
+        private final List<File> files;
+        private final boolean enabled;
+        private final int concurrency;
+
+        UploadDeployments(Environment environment, Dispatcher dispatcher, Progress progress, List<File> files,
+                boolean enabled) {
+            this(environment, dispatcher, progress, files, enabled, UPLOAD_CONCURRENCY);
+        }
+
+        UploadDeployments(Environment environment, Dispatcher dispatcher, Progress progress, List<File> files,
+                boolean enabled, int concurrency) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.progress = progress;
+            this.files = files;
+            this.enabled = enabled;
+            this.concurrency = concurrency;
+        }
+
+        @Override
+        public Completable call(FlowContext context) {
+            Set<String> existing = context.get(EXISTING_DEPLOYMENTS);
+            UploadStatistics statistics = statistics(context, environment);
+            List<String> uploaded = new ArrayList<>();
+            context.set(UPLOADED_DEPLOYMENTS, uploaded);
+
+            double total = files.stream().mapToDouble(file -> file.size).sum();
+            double[] loaded = new double[files.size()];
+            int[] ticks = new int[]{0};
+
+            List<Completable> uploads = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                File file = files.get(i);
+                String name = file.name;
+                boolean replace = existing != null && existing.contains(name);
+                Operation operation = uploadOperation(name, name, replace, enabled);
+
+                uploads.add(Completable.defer(() -> dispatcher
+                        .upload(file, operation, (bytes, size) -> {
+                            loaded[index] = bytes;
+                            int percent = total > 0 ? (int) (sum(loaded) / total * PROGRESS_STEPS) : PROGRESS_STEPS;
+                            while (ticks[0] < percent) {
+                                ticks[0]++;
+                                progress.tick();
+                            }
+                        })
+                        .doOnSuccess(result -> {
+                            if (replace) {
+                                statistics.recordReplaced(name);
+                            } else {
+                                statistics.recordAdded(name);
+                            }
+                            uploaded.add(name);
+                        })
+                        .doOnError(throwable -> {
+                            logger.error("Unable to upload {}: {}", name, throwable.getMessage());
+                            statistics.recordFailed(name);
+                        })
+                        .toCompletable()
+                        .onErrorComplete()));
+            }
+
+            return Completable.merge(Observable.from(uploads), concurrency)
+                    .doOnSubscribe(subscription -> progress.reset(PROGRESS_STEPS))
+                    .doOnTerminate(progress::finish);
+        }
+
+        private double sum(double[] values) {
+            double sum = 0;
+            for (double value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+
+
+    /**
+     * Deploys the contents stored under the key {@link DeploymentTasks#UPLOADED_DEPLOYMENTS} to the specified server
+     * group using one composite operation. The deployments are enabled on the server group. Replaced contents which
+     * are already deployed to the server group are left out.
+     * <p>
+     * If the composite fails, the contents are deployed one by one and each failure is recorded in the {@link
+     * UploadStatistics} stored under the key {@link DeploymentTasks#UPLOAD_STATISTICS}.
+     */
+    static class AddServerGroupDeployments implements Task<FlowContext> {
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final String serverGroup;
+
+        AddServerGroupDeployments(Environment environment, Dispatcher dispatcher, String serverGroup) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.serverGroup = serverGroup;
+        }
+
+        @Override
+        public Completable call(FlowContext context) {
+            List<String> names = context.get(UPLOADED_DEPLOYMENTS);
+            if (environment.isStandalone() || names == null || names.isEmpty()) {
+                return Completable.complete();
+
+            } else {
+                // only replaced contents can be deployed to the server group already
+                Set<String> existing = context.get(EXISTING_DEPLOYMENTS);
+                boolean replaced = existing != null && names.stream().anyMatch(existing::contains);
+                Single<Set<String>> deployed = replaced
+                        ? readDeployments()
+                        : Single.just(Collections.<String>emptySet());
+                return deployed.flatMapCompletable(serverGroupDeployments -> {
+                    List<String> undeployed = names.stream()
+                            .filter(name -> !serverGroupDeployments.contains(name))
+                            .collect(toList());
+                    if (undeployed.isEmpty()) {
+                        return Completable.complete();
+                    }
+                    List<Operation> operations = undeployed.stream().map(this::addOperation).collect(toList());
+                    return dispatcher.execute(new Composite(operations))
+                            .toCompletable()
+                            .onErrorResumeNext(throwable -> {
+                                logger.warn("Unable to deploy {} to server group {}: {}. Deploy one by one.",
+                                        undeployed, serverGroup, throwable.getMessage());
+                                return addOneByOne(context, undeployed);
+                            });
+                });
+            }
+        }
+
+        private Single<Set<String>> readDeployments() {
+            Operation operation = new Operation.Builder(new ResourceAddress().add(SERVER_GROUP, serverGroup),
+                    READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, DEPLOYMENT)
+                    .build();
+            return dispatcher.execute(operation)
+                    .map(result -> result.asList().stream().map(ModelNode::asString).collect(toSet()));
+        }
+
+        private Completable addOneByOne(FlowContext context, List<String> names) {
+            UploadStatistics statistics = statistics(context, environment);
+            return Completable.concat(names.stream()
+                    .map(name -> dispatcher.execute(addOperation(name))
+                            .toCompletable()
+                            .doOnError(throwable -> {
+                                logger.error("Unable to deploy {} to server group {}: {}", name, serverGroup,
+                                        throwable.getMessage());
+                                statistics.recordFailed(name);
+                            })
+                            .onErrorComplete())
+                    .collect(toList()));
+        }
+
+        private Operation addOperation(String name) {
+            ResourceAddress address = new ResourceAddress()
+                    .add(SERVER_GROUP, serverGroup)
+                    .add(DEPLOYMENT, name);
+            return new Operation.Builder(address, ADD)
+                    .param(RUNTIME_NAME, name)
+                    .param(ENABLED, true)
+                    .build();
+        }
+    }
+
+
     /** Adds an unmanaged deployment. */
     static class AddUnmanagedDeployment implements Task<FlowContext> {
 
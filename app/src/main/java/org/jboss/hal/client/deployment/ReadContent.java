@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.deployment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.tree.DataFunction;
+import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.client.deployment.ContentParser.MORE_ID;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.resources.CSS.fontAwesome;
+
+/**
+ * Function which gets invoked when the user opens a directory in the content tree. Reads the direct children using
+ * {@code browse-content(path=<directory>, depth=1)} and caches the listing per directory.
+ * <p>
+ * Directories with more than {@value #PAGE_SIZE} entries are rendered in pages: Only the first page is added to the
+ * tree followed by a node which shows the next page when selected.
+ */
+final class ReadContent implements DataFunction<ContentEntry> {
+
+    static final int PAGE_SIZE = 200;
+    private static final Logger logger = LoggerFactory.getLogger(ReadContent.class);
+
+    private final Dispatcher dispatcher;
+    private final Resources resources;
+    private final ContentParser parser;
+    private final Map<String, List<ContentEntry>> listings;
+    private final Map<String, Integer> visibleEntries;
+    private String deployment;
+
+    ReadContent(Dispatcher dispatcher, Resources resources) {
+        this.dispatcher = dispatcher;
+        this.resources = resources;
+        this.parser = new ContentParser();
+        this.listings = new HashMap<>();
+        this.visibleEntries = new HashMap<>();
+    }
+
+    /** Switches to another deployment and drops all cached listings and pages. */
+    void reset(String deployment) {
+        this.deployment = deployment;
+        listings.clear();
+        visibleEntries.clear();
+    }
+
+    /** Drops all cached listings, but keeps the number of visible entries per directory. */
+    void invalidate() {
+        listings.clear();
+    }
+
+    /** Shows the next page of the specified directory the next time the directory is loaded. */
+    void nextPage(String directory) {
+        visibleEntries.put(directory, visibleEntries.getOrDefault(directory, PAGE_SIZE) + PAGE_SIZE);
+    }
+
+    @Override
+    public void load(Node<ContentEntry> node, ResultCallback<ContentEntry> callback) {
+        String directory = directory(node);
+        List<ContentEntry> entries = listings.get(directory);
+        if (entries != null) {
+            callback.result(nodes(node, directory, entries));
+
+        } else {
+            Operation.Builder builder = new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, deployment),
+                    BROWSE_CONTENT).param(DEPTH, 1);
+            if (!directory.isEmpty()) {
+                builder.param(PATH, directory);
+            }
+            dispatcher.execute(builder.build()).subscribe(
+                    result -> {
+                        List<ContentEntry> parsed = parser.parse(directory,
+                                result.isDefined() ? result.asList() : emptyList());
+                        listings.put(directory, parsed);
+                        callback.result(nodes(node, directory, parsed));
+                    },
+                    error -> {
+                        // an unresolved callback would leave the node in the loading state forever
+                        logger.error("Unable to browse '{}' of deployment {}: {}", directory, deployment,
+                                error.getMessage());
+                        callback.result(nodes(node, directory, emptyList()));
+                    });
+        }
+    }
+
+    static String directory(Node<ContentEntry> node) {
+        return Ids.CONTENT_TREE_ROOT.equals(node.id) || node.data.path == null ? "" : node.data.path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<ContentEntry>[] nodes(Node<ContentEntry> parent, String directory, List<ContentEntry> entries) {
+        int visible = min(entries.size(), visibleEntries.getOrDefault(directory, PAGE_SIZE));
+        List<Node<ContentEntry>> nodes = new ArrayList<>(visible + 1);
+        for (int i = 0; i < visible; i++) {
+            nodes.add(parser.node(parent, entries.get(i)));
+        }
+        if (visible < entries.size()) {
+            nodes.add(new Node.Builder<>(MORE_ID.apply(directory),
+                    resources.messages().moreContentEntries(entries.size() - visible), parent.data)
+                    .parent(parent.id)
+                    .icon(fontAwesome("ellipsis-h"))
+                    .build());
+        }
+        return nodes.toArray(new Node[nodes.size()]);
+    }
+}
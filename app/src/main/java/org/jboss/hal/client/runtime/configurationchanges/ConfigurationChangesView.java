@@ -36,6 +36,7 @@ import org.jboss.hal.resources.Resources;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.ballroom.dataprovider.Filter.containsIgnoreCase;
 import static org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesPresenter.HOST_CONFIGURATION_CHANGES_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.Ids.CONFIGURATION_CHANGES;
@@ -88,7 +89,7 @@ public class ConfigurationChangesView extends HalViewImpl implements Configurati
                 .toolbarAttribute(new Toolbar.Attribute<>(ADDRESS, resources.constants().address(),
                         (model, filter) -> model.getAddressSegments().contains(filter), null))
                 .toolbarAttribute(new Toolbar.Attribute<>(REMOTE_ADDRESS, constants.remoteAddress(),
-                        (node, filter) -> node.getRemoteAddress().toLowerCase().contains(filter.toLowerCase()),
+                        containsIgnoreCase(ConfigurationChange::getRemoteAddress),
                         comparing(ConfigurationChange::getRemoteAddress)))
                 .toolbarAttribute(new Toolbar.Attribute<>(ACCESS_MECHANISM, constants.accessMechanism(),
                         (node, filter) -> node.getAccessMechanism().toLowerCase().equals(filter.toLowerCase()),
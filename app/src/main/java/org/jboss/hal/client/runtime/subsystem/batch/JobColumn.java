@@ -31,6 +31,8 @@ import elemental2.dom.HTMLElement;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.client.runtime.subsystem.batch.ExecutionNode.BatchStatus;
+import org.jboss.hal.core.Polling;
+import org.jboss.hal.core.PollingJob;
 import org.jboss.hal.core.deployment.DeploymentResources;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
@@ -58,8 +60,6 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
-import static elemental2.dom.DomGlobal.clearInterval;
-import static elemental2.dom.DomGlobal.setInterval;
 import static java.util.Arrays.asList;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_TEMPLATE;
@@ -75,7 +75,8 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final Polling polling;
+    private final Map<String, PollingJob> pollingJobs;
 
     @Inject
     public JobColumn(Finder finder,
@@ -87,6 +88,7 @@ public class JobColumn extends FinderColumn<JobNode> {
             EventBus eventBus,
             Dispatcher dispatcher,
             MetadataRegistry metadataRegistry,
+            Polling polling,
             Resources resources) {
 
         super(new Builder<JobNode>(finder, Ids.JOB, Names.JOB)
@@ -100,19 +102,20 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.polling = polling;
+        this.pollingJobs = new HashMap<>();
 
         setItemsProvider(
                 (context, callback) -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new, jobs -> {
                     callback.onSuccess(jobs);
 
                     // turn progress animation on/off
-                    clearIntervals();
+                    stopPolling();
                     for (JobNode job : jobs) {
                         String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
                         if (job.getRunningExecutions() > 0) {
                             ItemMonitor.startProgress(jobId);
-                            intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                            startPolling(jobId, job);
                         } else {
                             ItemMonitor.stopProgress(jobId);
                         }
@@ -195,24 +198,34 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
+    private void startPolling(String jobId, JobNode job) {
+        // the polling jobs of all running batch jobs are executed in one composite
         Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, RUNNING_EXECUTIONS)
                 .build();
-        String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
-                result -> {
+        PollingJob pollingJob = new PollingJob.Builder(jobId, POLLING_INTERVAL)
+                .operation(operation)
+                .onResult(result -> {
                     if (result.asInt() == 0) {
                         ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
-                        }
+                        stopPolling(jobId);
                         JobColumn.this.refresh(RESTORE_SELECTION);
                     }
-                },
-                (o, failure) -> ItemMonitor.stopProgress(jobId),
-                (o, exception) -> ItemMonitor.stopProgress(jobId));
+                })
+                .onFailure(failure -> {
+                    ItemMonitor.stopProgress(jobId);
+                    stopPolling(jobId);
+                })
+                .build();
+        pollingJobs.put(jobId, pollingJob);
+        polling.start(pollingJob);
+    }
+
+    private void stopPolling(String jobId) {
+        PollingJob pollingJob = pollingJobs.remove(jobId);
+        if (pollingJob != null) {
+            polling.stop(pollingJob);
+        }
     }
 
     private void startJob(JobNode job) {
@@ -269,13 +282,13 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
+        stopPolling();
     }
 
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
+    private void stopPolling() {
+        for (PollingJob pollingJob : pollingJobs.values()) {
+            polling.stop(pollingJob);
         }
-        intervalHandles.clear();
+        pollingJobs.clear();
     }
 }
@@ -62,6 +62,7 @@ import static org.jboss.hal.client.runtime.subsystem.datasource.AddressTemplates
 import static org.jboss.hal.client.runtime.subsystem.datasource.DataSourcePresenter.XA_PARAM;
 import static org.jboss.hal.core.finder.FinderColumn.RefreshMode.RESTORE_SELECTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.ModelNodeHelper.asPropertyList;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_HOST;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER;
 import static org.jboss.hal.resources.CSS.fontAwesome;
@@ -110,40 +111,35 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
             List<Operation> operations = new ArrayList<>(); // 6 ops in standalone, 7 in domain
 
             // subsystem
+            // select only the attributes needed by the column, the preview reads the statistics on demand
             ResourceAddress dsSubsystemAddress = DATA_SOURCE_SUBSYSTEM_TEMPLATE.resolve(statementContext);
-            operations.add(new Operation.Builder(dsSubsystemAddress, READ_CHILDREN_RESOURCES_OPERATION)
-                    .param(CHILD_TYPE, DATA_SOURCE)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+            operations.add(new Operation.Builder(new ResourceAddress(dsSubsystemAddress).add(DATA_SOURCE, "*"),
+                    READ_RESOURCE_OPERATION)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
-            operations.add(new Operation.Builder(dsSubsystemAddress, READ_CHILDREN_RESOURCES_OPERATION)
-                    .param(CHILD_TYPE, XA_DATA_SOURCE)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+            operations.add(new Operation.Builder(new ResourceAddress(dsSubsystemAddress).add(XA_DATA_SOURCE, "*"),
+                    READ_RESOURCE_OPERATION)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
 
             // deployment
             operations.add(new Operation.Builder(DATA_SOURCE_DEPLOYMENT_TEMPLATE.resolve(statementContext),
                     READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
             operations.add(new Operation.Builder(XA_DATA_SOURCE_DEPLOYMENT_TEMPLATE.resolve(statementContext),
                     READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
 
             // subdeployment
             operations.add(new Operation.Builder(DATA_SOURCE_SUBDEPLOYMENT_TEMPLATE.resolve(statementContext),
                     READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
             operations.add(new Operation.Builder(XA_DATA_SOURCE_SUBDEPLOYMENT_TEMPLATE.resolve(statementContext),
                     READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .param(RECURSIVE, true)
+                    .select(ENABLED, STATISTICS_ENABLED)
                     .build());
 
             if (!environment.isStandalone()) {
@@ -159,9 +155,9 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
 
                 // 6 steps in standalone, 7 in domain
                 // subsystem
-                combined.addAll(result.step(0).get(RESULT).asPropertyList().stream()
+                combined.addAll(asPropertyList(result.step(0).get(RESULT)).stream()
                         .map(property -> new DataSource(property, false)).collect(toList()));
-                combined.addAll(result.step(1).get(RESULT).asPropertyList().stream()
+                combined.addAll(asPropertyList(result.step(1).get(RESULT)).stream()
                         .map(property -> new DataSource(property, true)).collect(toList()));
 
                 // deployment
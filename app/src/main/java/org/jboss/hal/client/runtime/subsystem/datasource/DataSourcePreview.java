@@ -226,18 +226,15 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                         .param(ATTRIBUTES_ONLY, true)
                         .build());
             }
-            if (ds == null) {
-                operations.add(new Operation.Builder(dataSourceAddress, READ_RESOURCE_OPERATION)
-                        .param(INCLUDE_RUNTIME, true)
-                        .param(RECURSIVE, true)
-                        .build());
-            }
+            // the column reads only the attributes it needs, the statistics are read here
+            operations.add(new Operation.Builder(dataSourceAddress, READ_RESOURCE_OPERATION)
+                    .param(INCLUDE_RUNTIME, true)
+                    .param(RECURSIVE, true)
+                    .build());
 
             dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
                 server.addServerAttributes(result.step(0).get(RESULT));
-                if (ds == null) {
-                    dataSource.update(result.step(1).get(RESULT));
-                }
+                dataSource.update(result.step(1).get(RESULT));
 
                 boolean statisticsEnabled = dataSource.isStatisticsEnabled();
                 setVisible(noStatistics.element(), !statisticsEnabled);
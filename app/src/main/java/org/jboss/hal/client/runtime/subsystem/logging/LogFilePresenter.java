@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.client.runtime.subsystem.logging;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import javax.inject.Inject;
 
@@ -30,6 +32,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.Polling;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -44,29 +47,43 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
-import static java.util.stream.Collectors.joining;
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.PROFILE_LOG_FILE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 
+/**
+ * Presenter for a log file. In tail mode the presenter polls the {@code file-size} and {@code
+ * last-modified-timestamp} attributes of the log file. Only if they change, the new lines are read and appended to
+ * the editor. If the log file doesn't change, the polling interval is doubled up to {@link #MAX_REFRESH_INTERVAL}.
+ * While the browser tab is hidden, polling is paused (see {@link Polling#whenResumed(Runnable)}).
+ */
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
     private static final int REFRESH_INTERVAL = 1000;
+    private static final int MAX_REFRESH_INTERVAL = 16000;
+
+    /** Number of lines read first in tail mode to find the new lines. */
+    private static final int TAIL_LINES = 20;
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
+    private final Polling polling;
     private final StatementContext statementContext;
     private final Resources resources;
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
-    private double intervalHandle;
+    private List<String> lastLines;
+    private boolean tailMode;
+    private double tailHandle;
+    private boolean tailPaused;
+    private int refreshInterval;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -75,18 +92,24 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
             Finder finder,
             FinderPathFactory finderPathFactory,
             Dispatcher dispatcher,
+            Polling polling,
             StatementContext statementContext,
             Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
+        this.polling = polling;
         this.statementContext = statementContext;
         this.resources = resources;
 
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.lastLines = new ArrayList<>();
+        this.tailMode = false;
+        this.tailHandle = -1;
+        this.tailPaused = false;
+        this.refreshInterval = REFRESH_INTERVAL;
     }
 
     @Override
@@ -114,12 +137,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     protected void reload() {
         if (logFileName != null) {
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
+            ResourceAddress address = address();
             Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
                     .param(INCLUDE_RUNTIME, true)
                     .build();
@@ -136,10 +154,9 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
                         } else {
                             logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
                         }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
+                        List<String> linesRead = asStrings(result.step(1).get(RESULT));
+                        lastLines = linesRead;
+                        getView().show(logFile, linesRead.size(), String.join("\n", linesRead));
                     },
                     (operation, failure) -> {
                         clearTimeout(handle);
@@ -158,24 +175,21 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
+            int linesToRead = tailMode ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
             //noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
+            Operation operation = new Operation.Builder(address(), READ_LOG_FILE)
                     .param(LINES, linesToRead)
                     .param(TAIL, true)
                     .build();
             dispatcher.execute(operation, result -> {
                         clearTimeout(handle);
-                        List<ModelNode> linesRead = result.asList();
-                        String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                        getView().refresh(linesRead.size(), content);
+                        List<String> linesRead = asStrings(result);
+                        lastLines = linesRead;
+                        getView().refresh(linesRead.size(), String.join("\n", linesRead));
+                        if (tailMode) {
+                            scheduleTail();
+                        }
                     },
                     (op, failure) -> {
                         clearTimeout(handle);
@@ -195,12 +209,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     void toggleTailMode(boolean on) {
         if (logFile != null) {
             if (on) {
-                if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                if (!tailMode) {
+                    tailMode = true;
+                    refreshInterval = REFRESH_INTERVAL;
+                    scheduleTail();
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                stopTail();
                 reloadFile();
             }
         } else {
@@ -208,8 +223,150 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
-    private boolean inTailMode() {
-        return intervalHandle != -1;
+
+    // ------------------------------------------------------ tail mode
+
+    private void scheduleTail() {
+        clearTimeout(tailHandle);
+        tailHandle = setTimeout((o) -> pollTail(), refreshInterval);
+    }
+
+    private void stopTail() {
+        tailMode = false;
+        clearTimeout(tailHandle);
+        tailHandle = -1;
+    }
+
+    /** Reads the size and timestamp of the log file and reads the new lines if they've changed. */
+    private void pollTail() {
+        if (!tailMode) {
+            return;
+        }
+        if (polling.isPaused()) {
+            // don't poll while the browser tab is hidden, but check for new lines as soon as it's visible again
+            if (!tailPaused) {
+                tailPaused = true;
+                polling.whenResumed(() -> {
+                    tailPaused = false;
+                    refreshInterval = REFRESH_INTERVAL;
+                    pollTail();
+                });
+            }
+            return;
+        }
+        Operation operation = new Operation.Builder(address(), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        dispatcher.execute(operation, result -> {
+                    if (!tailMode) {
+                        return;
+                    }
+                    LogFile current = loggingProfile == null
+                            ? new LogFile(logFileName, result)
+                            : new LogFile(logFileName, loggingProfile, result);
+                    boolean unchanged = current.getSize() == logFile.getSize() &&
+                            Objects.equals(current.getLastModifiedDate(), logFile.getLastModifiedDate());
+                    boolean truncated = current.getSize() < logFile.getSize();
+                    boolean grown = current.getSize() > logFile.getSize();
+                    logFile = current;
+                    if (unchanged) {
+                        refreshInterval = min(2 * refreshInterval, MAX_REFRESH_INTERVAL);
+                        scheduleTail();
+                    } else {
+                        refreshInterval = REFRESH_INTERVAL;
+                        if (truncated) {
+                            // the log file has been rotated
+                            reloadFile();
+                        } else {
+                            readNewLines(min(TAIL_LINES, getView().visibleLines()), grown);
+                        }
+                    }
+                },
+                (op, failure) -> tailFailed(failure),
+                (op, exception) -> tailFailed(exception.getMessage()));
+    }
+
+    /**
+     * Reads the last {@code lines} lines and appends the ones which follow the last known lines. If the last known
+     * lines are not part of the lines read, the number of lines is increased up to the visible lines. If that's not
+     * enough, the editor content is replaced.
+     * <p>
+     * If the log file has {@code grown}, but all lines read match the last known lines, the new lines are identical to
+     * the known ones and the overlap is ambiguous. In that case more lines are read, too.
+     */
+    private void readNewLines(int lines, boolean grown) {
+        //noinspection HardCodedStringLiteral
+        Operation operation = new Operation.Builder(address(), READ_LOG_FILE)
+                .param(LINES, lines)
+                .param(TAIL, true)
+                .build();
+        dispatcher.execute(operation, result -> {
+                    if (!tailMode) {
+                        return;
+                    }
+                    List<String> linesRead = asStrings(result);
+                    int overlap = overlap(lastLines, linesRead);
+                    int visibleLines = getView().visibleLines();
+                    boolean ambiguous = grown && overlap == linesRead.size();
+                    if ((overlap > 0 || lastLines.isEmpty()) && !ambiguous) {
+                        List<String> newLines = linesRead.subList(overlap, linesRead.size());
+                        if (!newLines.isEmpty()) {
+                            lastLines.addAll(newLines);
+                            if (lastLines.size() > LogFiles.LINES) {
+                                lastLines = new ArrayList<>(
+                                        lastLines.subList(lastLines.size() - LogFiles.LINES, lastLines.size()));
+                            }
+                            getView().append(newLines);
+                        }
+                        scheduleTail();
+                    } else if (linesRead.size() == lines && lines < visibleLines) {
+                        readNewLines(min(4 * lines, visibleLines), grown);
+                    } else {
+                        reloadFile();
+                    }
+                },
+                (op, failure) -> tailFailed(failure),
+                (op, exception) -> tailFailed(exception.getMessage()));
+    }
+
+    private void tailFailed(String failure) {
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
+        if (tailMode) {
+            refreshInterval = min(2 * refreshInterval, MAX_REFRESH_INTERVAL);
+            scheduleTail();
+        }
+    }
+
+    /**
+     * Returns the number of lines at the start of {@code read} which match the lines at the end of {@code known}.
+     * Returns 0 if there's no overlap.
+     */
+    static int overlap(List<String> known, List<String> read) {
+        for (int length = min(known.size(), read.size()); length > 0; length--) {
+            int offset = known.size() - length;
+            boolean match = true;
+            for (int i = 0; i < length && match; i++) {
+                match = known.get(offset + i).equals(read.get(i));
+            }
+            if (match) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    private ResourceAddress address() {
+        if (loggingProfile == null) {
+            return LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            return PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+    }
+
+    private List<String> asStrings(ModelNode lines) {
+        return lines.isDefined()
+                ? lines.asList().stream().map(ModelNode::asString).collect(toList())
+                : new ArrayList<>();
     }
 
 
@@ -224,6 +381,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         void loading();
         void show(LogFile logFile, int lines, String content);
         void refresh(int lines, String content);
+        void append(List<String> lines);
         int visibleLines();
     }
     // @formatter:on
@@ -16,6 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.logging;
 
 import java.util.Date;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -30,6 +31,8 @@ import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
 import org.jboss.hal.ballroom.editor.Options;
+import org.jboss.hal.ballroom.editor.Session;
+import org.jboss.hal.ballroom.editor.Session.Position;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.mvp.HalViewImpl;
@@ -243,6 +246,27 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         editor.getEditor().gotoLine(lines, 0, false);
     }
 
+    @Override
+    public void append(List<String> lines) {
+        Session session = editor.getEditor().getSession();
+        String text = String.join("\n", lines);
+        if (session.getLength() <= 1 && session.getValue().isEmpty()) {
+            session.setValue(text);
+        } else {
+            // Ace clips the column to the length of the last line
+            Position end = new Position();
+            end.row = session.getLength() - 1;
+            end.column = Integer.MAX_VALUE;
+            session.insert(end, "\n" + text);
+        }
+        int excess = session.getLength() - LogFiles.LINES;
+        if (excess > 0) {
+            session.getDocument().removeFullLines(0, excess - 1);
+        }
+        statusUpdate(session.getLength());
+        editor.getEditor().gotoLine(session.getLength(), 0, false);
+    }
+
     @Override
     public int visibleLines() {
         int lineHeight = 15;
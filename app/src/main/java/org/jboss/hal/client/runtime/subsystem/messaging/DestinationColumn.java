@@ -112,14 +112,14 @@ public class DestinationColumn extends FinderColumn<Destination> {
                     ResourceAddress address = MESSAGING_SERVER_TEMPLATE.append(type.resource + "=*")
                             .resolve(statementContext, server);
                     operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                            .param(INCLUDE_RUNTIME, true)
+                            .select(PAUSED)
                             .build());
                 }
                 for (Type type : DEPLOYMENT_RESOURCES) {
                     ResourceAddress address = MESSAGING_DEPLOYMENT_TEMPLATE.append(type.resource + "=*")
                             .resolve(statementContext);
                     operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                            .param(INCLUDE_RUNTIME, true)
+                            .select(PAUSED)
                             .build());
                 }
                 dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
@@ -134,11 +134,11 @@ class DestinationPreview extends PreviewContent<Destination> {
                 .param(INCLUDE_RUNTIME, true)
                 .build();
         dispatcher.execute(operation, result -> {
-            Destination update = new Destination(item.getAddress(), item);
+            Destination update = new Destination(item.getAddress(), result);
             attributes.refresh(update);
             messages.refresh(update);
             if (update.type == Destination.Type.JMS_TOPIC) {
-                subscriptions.refresh(item);
+                subscriptions.refresh(update);
             }
         });
     }
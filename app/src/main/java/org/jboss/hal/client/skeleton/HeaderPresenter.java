@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.skeleton;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
@@ -60,11 +62,14 @@ import org.jboss.hal.core.runtime.server.ServerActionEvent.ServerActionHandler;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent.ProcessStateHandler;
 import org.jboss.hal.dmr.dispatch.ServerState;
 import org.jboss.hal.dmr.dispatch.ServerState.State;
+import org.jboss.hal.meta.processing.WorkerChannel;
+import org.jboss.hal.meta.search.SearchResult;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
@@ -72,6 +77,8 @@ import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.MessageEvent.MessageHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static elemental2.dom.DomGlobal.location;
 import static elemental2.dom.DomGlobal.window;
@@ -122,6 +129,9 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         UserChangedHandler {
 
     static final int MAX_BREADCRUMB_VALUE_LENGTH = 20;
+    private static final int MAX_SEARCH_RESULTS = 10;
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final Logger logger = LoggerFactory.getLogger(HeaderPresenter.class);
 
     private final PlaceManager placeManager;
     private final Places places;
@@ -130,6 +140,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     private final Settings settings;
     private final User user;
     private final ServerActions serverActions;
+    private final WorkerChannel workerChannel;
     private final Resources resources;
     private KeycloakHolder keycloakHolder;
 
@@ -139,6 +150,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     private ServerState serverState;
     // to display the message only once as it is fired by a polling mechanism
     private boolean nonProgressingOpDisplayedOnce;
+    private String lastQuery;
 
     @Inject
     public HeaderPresenter(EventBus eventBus,
@@ -150,6 +162,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
             Settings settings,
             User user,
             ServerActions serverActions,
+            WorkerChannel workerChannel,
             Resources resources, KeycloakHolder keycloakHolder) {
         super(eventBus, view);
         this.placeManager = placeManager;
@@ -159,6 +172,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         this.settings = settings;
         this.user = user;
         this.serverActions = serverActions;
+        this.workerChannel = workerChannel;
         this.resources = resources;
         this.keycloakHolder = keycloakHolder;
     }
@@ -394,6 +408,48 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     }
 
 
+    // ------------------------------------------------------ search
+
+    void search(String query) {
+        lastQuery = query;
+        if (query == null || query.trim().length() < MIN_QUERY_LENGTH) {
+            getView().clearSearchResults();
+        } else {
+            workerChannel.search(query.trim(), MAX_SEARCH_RESULTS).subscribe(
+                    results -> {
+                        // ignore results of outdated queries
+                        if (query.equals(lastQuery)) {
+                            getView().showSearchResults(results);
+                        }
+                    },
+                    error -> {
+                        logger.error("Search for '{}' failed: {}", query, error.getMessage());
+                        if (query.equals(lastQuery)) {
+                            getView().clearSearchResults();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Opens the model browser for the search result. Since the address of a resource description might contain
+     * wildcards, the model browser is opened for the parent of the first wildcard segment.
+     */
+    void showSearchResult(SearchResult result) {
+        ResourceAddress address = new ResourceAddress();
+        for (Property segment : result.getAddress().asPropertyList()) {
+            String value = segment.getValue().asString();
+            if ("*".equals(value)) {
+                break;
+            }
+            address.add(segment.getName(), value);
+        }
+        lastQuery = null;
+        getView().clearSearchResults();
+        switchToExpertMode(address);
+    }
+
+
     // ------------------------------------------------------ place management
 
     void switchToExpertMode(ResourceAddress address) {
@@ -455,6 +511,9 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
 
         void showExternal(PlaceRequest placeRequest);
         void hideExternal();
+
+        void showSearchResults(List<SearchResult> results);
+        void clearSearchResults();
     }
     // @formatter:on
 }
@@ -30,8 +30,10 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
 import elemental2.dom.HTMLLIElement;
 import org.jboss.gwt.elemento.core.Elements;
+import org.jboss.gwt.elemento.core.InputType;
 import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.config.Endpoints;
@@ -51,6 +53,8 @@ import org.jboss.hal.core.modelbrowser.ModelBrowserPath.Segment;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.search.SearchResult;
+import org.jboss.hal.meta.search.SearchResult.Match;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.CSS;
 import org.jboss.hal.resources.Ids;
@@ -69,6 +73,7 @@ import static org.jboss.gwt.elemento.core.Elements.nav;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.bind;
 import static org.jboss.gwt.elemento.core.EventType.click;
+import static org.jboss.gwt.elemento.core.EventType.keyup;
 import static org.jboss.hal.client.skeleton.HeaderPresenter.MAX_BREADCRUMB_VALUE_LENGTH;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
@@ -95,6 +100,9 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private final HTMLElement nonProgressingOperationContainer;
     private final HTMLElement messages;
     private final HTMLElement badgeIcon;
+    private final HTMLElement searchContainer;
+    private final HTMLInputElement searchBox;
+    private final HTMLElement searchResults;
     private final HTMLElement userName;
     private final HTMLElement userDropdown;
     private final HTMLElement logoutItem;
@@ -169,6 +177,17 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                                                 .add(reloadLabel = span().element())
                                                 .element())
                                         .element())
+                                .add(searchContainer = li().css(dropdown)
+                                        .add(div().css(navbarForm)
+                                                .add(searchBox = input(InputType.search)
+                                                        .id(Ids.HEADER_SEARCH)
+                                                        .css(formControl)
+                                                        .attr(UIConstants.PLACEHOLDER, resources.constants().search())
+                                                        .element()))
+                                        .add(searchResults = ul().css(dropdownMenu)
+                                                .id(Ids.HEADER_SEARCH_RESULTS)
+                                                .element())
+                                        .element())
                                 .add(li().css(drawerPfTrigger, dropdown)
                                         .add(messages = a().css(navItemIconic, drawerPfTriggerIcon)
                                                 .title(resources.messages().notifications(0))
@@ -320,7 +339,13 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                 bind(reloadLink, click, event -> presenter.reload()),
                 bind(messages, click, event -> notificationDrawer.toggle()),
                 bind(logout, click, event -> presenter.logout()),
-                bind(reconnect, click, event -> presenter.reconnect())));
+                bind(reconnect, click, event -> presenter.reconnect()),
+                bind(searchBox, keyup, event -> {
+                    if ("Escape".equals(event.key)) { //NON-NLS
+                        searchBox.value = "";
+                    }
+                    presenter.search(searchBox.value);
+                })));
     }
 
     private void initTlc(HTMLElement root, String[] tokens, String[] ids) {
@@ -744,4 +769,40 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     public void hideExternal() {
         setVisible(externalLink, false);
     }
+
+
+    // ------------------------------------------------------ search
+
+    @Override
+    public void showSearchResults(List<SearchResult> results) {
+        Elements.removeChildrenFrom(searchResults);
+        if (results.isEmpty()) {
+            searchResults.appendChild(li().css(static_)
+                    .textContent(resources.constants().noMatchingItems())
+                    .element());
+        } else {
+            for (SearchResult result : results) {
+                List<String> names = new ArrayList<>();
+                for (int i = 0; i < result.matches.getLength(); i++) {
+                    Match match = result.matches.getAt(i);
+                    if (!Strings.isNullOrEmpty(match.name) && !names.contains(match.name)) {
+                        names.add(match.name);
+                    }
+                }
+                searchResults.appendChild(li()
+                        .add(a().css(clickable)
+                                .on(click, event -> presenter.showSearchResult(result))
+                                .add(span().textContent(result.address))
+                                .add(span().css(subtitle).textContent(String.join(", ", names))))
+                        .element());
+            }
+        }
+        searchContainer.classList.add(open);
+    }
+
+    @Override
+    public void clearSearchResults() {
+        searchContainer.classList.remove(open);
+        Elements.removeChildrenFrom(searchResults);
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.macro.MacroBatches;
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.flow.Task;
+import rx.Completable;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Executes a batch of macro operations as one composite and ticks the progress once per operation. A failure is
+ * reported as {@link DispatchFailure} which references the failed operation.
+ */
+class MacroBatchTask implements Task<FlowContext> {
+
+    enum FailureMode {
+        /**
+         * Operations executed before the failed operation stay applied. If a batch fails, it is replayed operation by
+         * operation up to the failed operation.
+         */
+        STOP_ON_FAILURE,
+
+        /** The failed batch is rolled back as a whole. Batches executed before stay applied. */
+        ROLLBACK_BATCH
+    }
+
+
+    private final Dispatcher dispatcher;
+    private final Progress progress;
+    private final List<Operation> batch;
+    private final FailureMode failureMode;
+
+    MacroBatchTask(Dispatcher dispatcher, Progress progress, List<Operation> batch, FailureMode failureMode) {
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+        this.batch = batch;
+        this.failureMode = failureMode;
+    }
+
+    @Override
+    public Completable call(FlowContext context) {
+        if (batch.size() == 1) {
+            return execute(batch.get(0));
+        }
+
+        Composite composite = new Composite(batch);
+        return dispatcher.execute(composite)
+                .doOnSuccess(result -> tick(MacroBatches.operationCount(batch)))
+                .toCompletable()
+                .onErrorResumeNext(error -> {
+                    if (error instanceof DispatchFailure) {
+                        if (failureMode == FailureMode.STOP_ON_FAILURE) {
+                            // the composite has been rolled back: replay the batch one by one
+                            // to stop at exactly the same operation as without batching
+                            return Completable.concat(batch.stream().map(this::execute).collect(toList()));
+                        } else {
+                            int step = MacroBatches.failedStep(error.getMessage());
+                            Operation failed = step >= 0 && step < batch.size() ? batch.get(step) : composite;
+                            return Completable.error(new DispatchFailure(error.getMessage(), failed));
+                        }
+                    }
+                    return Completable.error(error);
+                });
+    }
+
+    private Completable execute(Operation operation) {
+        if (operation instanceof Composite) {
+            return dispatcher.execute((Composite) operation)
+                    .doOnSuccess(result -> tick(((Composite) operation).size()))
+                    .toCompletable();
+        } else {
+            return dispatcher.execute(operation)
+                    .doOnSuccess(result -> tick(1))
+                    .toCompletable();
+        }
+    }
+
+    private void tick(int operations) {
+        for (int i = 0; i < operations; i++) {
+            progress.tick();
+        }
+    }
+}
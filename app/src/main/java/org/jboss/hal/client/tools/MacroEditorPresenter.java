@@ -27,11 +27,16 @@ import com.gwtplatform.mvp.client.annotations.ProxyStandard;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.hal.ballroom.HasTitle;
+import org.jboss.hal.client.tools.MacroBatchTask.FailureMode;
+import org.jboss.hal.config.Settings;
 import org.jboss.hal.core.mvp.ApplicationPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.dmr.macro.Macro;
+import org.jboss.hal.dmr.macro.MacroBatches;
 import org.jboss.hal.dmr.macro.Macros;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Outcome;
@@ -45,6 +50,7 @@ import org.jboss.hal.spi.MessageEvent;
 
 import static elemental2.dom.DomGlobal.alert;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.config.Settings.Key.MACRO_BATCH_SIZE;
 import static org.jboss.hal.flow.Flow.series;
 
 public class MacroEditorPresenter
@@ -56,16 +62,18 @@ public class MacroEditorPresenter
     private final Dispatcher dispatcher;
     private final Macros macros;
     private final Provider<Progress> progress;
+    private final Settings settings;
     private final Resources resources;
     private Macro macro;
 
     @Inject
     public MacroEditorPresenter(EventBus eventBus, MyView view, MyProxy proxy, Dispatcher dispatcher,
-            Macros macros, @Footer Provider<Progress> progress, Resources resources) {
+            Macros macros, @Footer Provider<Progress> progress, Settings settings, Resources resources) {
         super(eventBus, view, proxy);
         this.dispatcher = dispatcher;
         this.macros = macros;
         this.progress = progress;
+        this.settings = settings;
         this.resources = resources;
     }
 
@@ -109,21 +117,47 @@ public class MacroEditorPresenter
         }
     }
 
-    void play(Macro macro) {
-        List<MacroOperationTask> tasks = macro.getOperations().stream()
-                .map(operation -> new MacroOperationTask(dispatcher, operation)).collect(toList());
+    /**
+     * Replays the macro. Independent operations are sent as composites of at most {@link Settings.Key#MACRO_BATCH_SIZE}
+     * operations (see {@link MacroBatches}).
+     */
+    void play(Macro macro, FailureMode failureMode) {
+        int batchSize = settings.get(MACRO_BATCH_SIZE).asInt(Settings.DEFAULT_MACRO_BATCH_SIZE);
+        Progress progress = this.progress.get();
+        List<Operation> operations;
+        try {
+            operations = macro.getOperations();
+        } catch (IllegalStateException e) {
+            // the macro was removed from the local storage and is dropped from the index
+            MessageEvent.fire(getEventBus(), Message.error(resources.messages().macroPlaybackError(), e.getMessage()));
+            this.macro = null;
+            load();
+            return;
+        }
+        List<MacroBatchTask> tasks = MacroBatches.batches(operations, batchSize).stream()
+                .map(batch -> new MacroBatchTask(dispatcher, progress, batch, failureMode))
+                .collect(toList());
+
         getView().disableMacro(macro);
-        series(new FlowContext(progress.get()), tasks)
+        progress.reset(macro.getOperationCount());
+        // the tasks tick the progress once per operation, not once per batch
+        series(new FlowContext(), tasks)
                 .subscribe(new Outcome<FlowContext>() {
                     @Override
                     public void onError(FlowContext context, Throwable error) {
+                        progress.finish();
                         getView().enableMacro(macro);
-                        MessageEvent.fire(getEventBus(), Message.error(resources.messages().macroPlaybackError(),
-                                error.getMessage()));
+                        String details = error.getMessage();
+                        if (error instanceof DispatchFailure && ((DispatchFailure) error).getOperation() != null) {
+                            details = ((DispatchFailure) error).getOperation().asCli() + ": " + details;
+                        }
+                        MessageEvent.fire(getEventBus(),
+                                Message.error(resources.messages().macroPlaybackError(), details));
                     }
 
                     @Override
                     public void onSuccess(FlowContext context) {
+                        progress.finish();
                         getView().enableMacro(macro);
                         MessageEvent.fire(getEventBus(),
                                 Message.success(resources.messages().macroPlaybackSuccessful()));
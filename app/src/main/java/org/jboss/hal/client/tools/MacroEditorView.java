@@ -34,6 +34,7 @@ import org.jboss.hal.ballroom.listview.ItemAction;
 import org.jboss.hal.ballroom.listview.ItemDisplay;
 import org.jboss.hal.ballroom.listview.ItemRenderer;
 import org.jboss.hal.ballroom.listview.ListView;
+import org.jboss.hal.client.tools.MacroBatchTask.FailureMode;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.dmr.macro.Macro;
 import org.jboss.hal.resources.CSS;
@@ -57,6 +58,7 @@ import static org.jboss.hal.resources.CSS.*;
 public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter.MyView {
 
     private static final String PLAY_ACTION = "play";
+    private static final String PLAY_ROLLBACK_ACTION = "play-rollback";
     private static final String RENAME_ACTION = "rename";
     private static final String REMOVE_ACTION = "remove";
     private static final int MIN_HEIGHT = 70;
@@ -106,7 +108,9 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
             public List<ItemAction<Macro>> actions() {
                 return asList(
                         new ItemAction<>(PLAY_ACTION, resources.constants().play(),
-                                macro -> presenter.play(macro)),
+                                macro -> presenter.play(macro, FailureMode.STOP_ON_FAILURE)),
+                        new ItemAction<>(PLAY_ROLLBACK_ACTION, resources.constants().playWithRollback(),
+                                macro -> presenter.play(macro, FailureMode.ROLLBACK_BATCH)),
                         // new ItemAction<Macro>(RENAME_ACTION, resources.constants().rename(),
                         //         macro -> presenter.rename(macro)),
                         new ItemAction<>(REMOVE_ACTION, resources.constants().remove(),
@@ -204,6 +208,7 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void enableMacro(Macro macro) {
         macroList.enableAction(macro, PLAY_ACTION);
+        macroList.enableAction(macro, PLAY_ROLLBACK_ACTION);
         macroList.enableAction(macro, RENAME_ACTION);
         macroList.enableAction(macro, REMOVE_ACTION);
     }
@@ -211,6 +216,7 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void disableMacro(Macro macro) {
         macroList.disableAction(macro, PLAY_ACTION);
+        macroList.disableAction(macro, PLAY_ROLLBACK_ACTION);
         macroList.disableAction(macro, RENAME_ACTION);
         macroList.disableAction(macro, REMOVE_ACTION);
     }
@@ -378,7 +378,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
 
     private void sort(Attribute<T> attribute) {
         setSelectedSort(attribute);
-        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.comparator.reversed());
+        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.reversed);
     }
 
     private void setSelectedSort(Attribute<T> attribute) {
@@ -401,7 +401,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
         } else {
             sortOrderIcon.className = fontAwesome("sort-alpha-desc");
         }
-        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.comparator.reversed());
+        dataProvider.setComparator(asc ? selectedSort.comparator : selectedSort.reversed);
     }
 
     private void selectDropdownItem(HTMLElement ul, String data, Attribute<T> attribute) {
@@ -421,6 +421,8 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
         private final String title;
         private final Filter<T> filter;
         private final Comparator<T> comparator;
+        // the data provider caches the sorted items per comparator: always use the same reversed comparator
+        private final Comparator<T> reversed;
 
         public Attribute(String name, Filter<T> filter) {
             this(name, new LabelBuilder().label(name), filter, null);
@@ -447,6 +449,7 @@ public class Toolbar<T> implements Display<T>, IsElement<HTMLElement>, Attachabl
             this.title = title;
             this.filter = filter;
             this.comparator = comparator;
+            this.reversed = comparator != null ? comparator.reversed() : null;
         }
 
         @Override
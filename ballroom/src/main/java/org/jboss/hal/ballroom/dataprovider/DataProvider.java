@@ -16,42 +16,45 @@
 package org.jboss.hal.ballroom.dataprovider;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
 
-import com.google.common.collect.Lists;
 import org.jboss.hal.ballroom.listview.ListView;
 import org.jboss.hal.config.Settings;
 
 import static java.lang.Math.min;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 import static org.jboss.hal.config.Settings.DEFAULT_PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 
 /**
  * Holds items and state for displays like {@link ListView}. Changes to the state is reflected in the connected
  * displays.
+ * <p>
+ * Filter, sort order and paging are applied incrementally: Adding or narrowing a filter only re-tests the current
+ * matches, the sorted items are kept per comparator and changing the page only slices the sorted items.
  */
 public class DataProvider<T> {
 
+    /** Number of sort orders kept for the current matches (e.g. ascending and descending for two attributes). */
+    private static final int SORT_ORDERS = 4;
+
     private final Function<T, String> identifier;
     private final PageInfo pageInfo;
     private final SelectionInfo<T> selectionInfo;
     private final Map<String, T> allItems;
     private final Map<String, FilterValue<T>> filterValues;
+    private final Map<Comparator<T>, List<T>> sortedItems;
+    private final Map<String, T> visibleItems;
     private final List<Display<T>> displays;
     private List<SelectHandler<T>> selectHandler;
-    private Map<String, T> filteredItems;
-    private Map<String, T> visibleItems;
+    private List<T> matchingItems;
+    private List<T> filteredItems;
     private Comparator<T> comparator;
 
     public DataProvider(Function<T, String> identifier, boolean multiSelect) {
@@ -63,9 +66,16 @@ public class DataProvider<T> {
         this.pageInfo = new PageInfo(pageSize);
         this.selectionInfo = new SelectionInfo<>(identifier, multiSelect);
         this.allItems = new LinkedHashMap<>();
-        this.filteredItems = new LinkedHashMap<>();
-        this.visibleItems = new LinkedHashMap<>();
         this.filterValues = new HashMap<>();
+        this.sortedItems = new LinkedHashMap<Comparator<T>, List<T>>(SORT_ORDERS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Comparator<T>, List<T>> eldest) {
+                return size() > SORT_ORDERS;
+            }
+        };
+        this.visibleItems = new LinkedHashMap<>();
+        this.matchingItems = new ArrayList<>();
+        this.filteredItems = matchingItems;
         this.selectHandler = new ArrayList<>();
         this.displays = new ArrayList<>();
 
@@ -81,9 +91,8 @@ public class DataProvider<T> {
         for (T item : items) {
             allItems.put(getId(item), item);
         }
-        applyFilterSortAndPaging();
-        showItems();
-        updateSelection();
+        filterAll();
+        sortAndPage();
     }
 
     public boolean contains(T item) {
@@ -103,7 +112,7 @@ public class DataProvider<T> {
     }
 
     public Iterable<T> getFilteredItems() {
-        return filteredItems.values();
+        return Collections.unmodifiableList(filteredItems);
     }
 
     public Iterable<T> getVisibleItems() {
@@ -116,41 +125,71 @@ public class DataProvider<T> {
         selectionInfo.reset();
     }
 
-    private void applyFilterSortAndPaging() {
-        Stream<T> stream = allItems.values().stream();
-        if (!filterValues.isEmpty()) {
-            Predicate<T> predicate = null;
-            for (FilterValue<T> filterValue : filterValues.values()) {
-                if (predicate == null) {
-                    predicate = i -> filterValue.getFilter().test(i, filterValue.getValue());
-                } else {
-                    predicate = predicate.and(i -> filterValue.getFilter().test(i, filterValue.getValue()));
-                }
+    /** Tests all items against the current filters. Drops the sorted items. */
+    private void filterAll() {
+        List<T> matches = new ArrayList<>();
+        for (T item : allItems.values()) {
+            if (matches(item)) {
+                matches.add(item);
+            }
+        }
+        matchingItems = matches;
+        sortedItems.clear();
+    }
+
+    /** Re-tests only the current matches against the specified filter value. Drops the sorted items. */
+    private void filterMatches(FilterValue<T> filterValue) {
+        List<T> matches = new ArrayList<>();
+        for (T item : matchingItems) {
+            if (filterValue.getFilter().test(item, filterValue.getValue())) {
+                matches.add(item);
             }
-            stream = stream.filter(predicate);
         }
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
+        matchingItems = matches;
+        sortedItems.clear();
+    }
+
+    private boolean matches(T item) {
+        for (FilterValue<T> filterValue : filterValues.values()) {
+            if (!filterValue.getFilter().test(item, filterValue.getValue())) {
+                return false;
+            }
         }
-        List<T> values = stream.collect(toList());
-        if (values.size() > pageInfo.getPageSize()) {
-            filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
-            values = paged(values);
-            visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+        return true;
+    }
+
+    private void sortAndPage() {
+        if (comparator == null) {
+            filteredItems = matchingItems;
         } else {
-            filteredItems = visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+            filteredItems = sortedItems.computeIfAbsent(comparator, c -> {
+                List<T> sorted = new ArrayList<>(matchingItems);
+                sorted.sort(c);
+                return sorted;
+            });
+        }
+        page();
+    }
+
+    /** Slices the visible items from the filtered and sorted items and updates the displays. */
+    private void page() {
+        int total = filteredItems.size();
+        int from = 0;
+        int to = total;
+        if (total > pageInfo.getPageSize()) {
+            int lastPage = (total - 1) / pageInfo.getPageSize();
+            from = min(pageInfo.getPage(), lastPage) * pageInfo.getPageSize();
+            to = min(from + pageInfo.getPageSize(), total);
+        }
+        visibleItems.clear();
+        for (T item : filteredItems.subList(from, to)) {
+            visibleItems.put(getId(item), item);
         }
-        pageInfo.setTotal(filteredItems.size()); // total first!
+        pageInfo.setTotal(total); // total first!
         pageInfo.setVisible(visibleItems.size());
-    }
 
-    private Collector<T, ?, Map<String, T>> toLinkedMap(Function<? super T, ? extends String> keyMapper,
-            Function<? super T, ? extends T> valueMapper) {
-        return toMap(keyMapper, valueMapper,
-                (u, v) -> {
-                    throw new IllegalStateException("Duplicate key " + u); //NON-NLS
-                },
-                LinkedHashMap::new);
+        showItems();
+        updateSelection();
     }
 
 
@@ -163,7 +202,7 @@ public class DataProvider<T> {
     /** Selects all items if {@ocde multiSelect == true}. Does not fire selection events */
     public void selectAll() {
         if (selectionInfo.isMultiSelect()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, true));
+            filteredItems.forEach(item -> selectInternal(getId(item), item, true));
             updateSelection();
         }
     }
@@ -179,7 +218,7 @@ public class DataProvider<T> {
     /** Clears the selection for all items */
     public void clearAllSelection() {
         if (selectionInfo.hasSelection()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, false));
+            filteredItems.forEach(item -> selectInternal(getId(item), item, false));
             updateSelection();
         }
     }
@@ -222,28 +261,33 @@ public class DataProvider<T> {
 
     // ------------------------------------------------------ filter
 
+    /**
+     * Adds or replaces the filter with the specified name. If the filter is new or {@linkplain Filter#narrows(String,
+     * String) narrows} the previous value, only the current matches are re-tested.
+     */
     public void addFilter(String name, FilterValue<T> filter) {
-        filterValues.put(name, filter);
-        applyFilterSortAndPaging();
-        showItems();
-        updateSelection();
+        FilterValue<T> previous = filterValues.put(name, filter);
+        if (previous == null || narrows(previous, filter)) {
+            filterMatches(filter);
+        } else {
+            filterAll();
+        }
+        sortAndPage();
     }
 
     public void removeFilter(String name) {
         if (filterValues.containsKey(name)) {
             filterValues.remove(name);
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            filterAll();
+            sortAndPage();
         }
     }
 
     public void clearFilters() {
         if (!filterValues.isEmpty()) {
             filterValues.clear();
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            filterAll();
+            sortAndPage();
         }
     }
 
@@ -256,14 +300,22 @@ public class DataProvider<T> {
         return !filterValues.isEmpty();
     }
 
+    private boolean narrows(FilterValue<T> previous, FilterValue<T> current) {
+        return previous.getFilter() == current.getFilter() &&
+                (Objects.equals(previous.getValue(), current.getValue()) ||
+                        current.getFilter().narrows(previous.getValue(), current.getValue()));
+    }
+
 
     // ------------------------------------------------------ sort
 
+    /**
+     * Sorts the matching items. The sorted items are cached per comparator instance, so reuse the comparators (incl.
+     * reversed ones) instead of creating new instances for each call.
+     */
     public void setComparator(Comparator<T> comparator) {
         this.comparator = comparator;
-        applyFilterSortAndPaging();
-        showItems();
-        updateSelection();
+        sortAndPage();
     }
 
     public Comparator<T> getComparator() {
@@ -277,9 +329,7 @@ public class DataProvider<T> {
         int oldPageSize = pageInfo.getPageSize();
         pageInfo.setPageSize(pageSize);
         if (oldPageSize != pageInfo.getPageSize()) {
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            page();
         }
     }
 
@@ -303,9 +353,7 @@ public class DataProvider<T> {
         int oldPage = pageInfo.getPage();
         pageInfo.setPage(page);
         if (oldPage != pageInfo.getPage()) {
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            page();
         }
     }
 
@@ -313,12 +361,6 @@ public class DataProvider<T> {
         return pageInfo;
     }
 
-    private List<T> paged(List<T> values) {
-        List<List<T>> pages = Lists.partition(values, pageInfo.getPageSize());
-        return pages.get(min(pageInfo.getPage(), pages.size() - 1));
-    }
-
-
     // ------------------------------------------------------ displays
 
     public void addDisplay(Display<T> display) {
@@ -15,9 +15,38 @@
  */
 package org.jboss.hal.ballroom.dataprovider;
 
+import java.util.function.Function;
+
 /** A filter for an attribute in a {@link DataProvider} */
 @FunctionalInterface
 public interface Filter<T> {
 
+    /**
+     * Returns a filter which matches if the value of the model contains the filter (case insensitive). The filter
+     * narrows its matches as the filter value grows.
+     */
+    static <T> Filter<T> containsIgnoreCase(Function<T, String> value) {
+        return new Filter<T>() {
+            @Override
+            public boolean test(T model, String filter) {
+                String v = value.apply(model);
+                return v != null && v.toLowerCase().contains(filter.toLowerCase());
+            }
+
+            @Override
+            public boolean narrows(String previous, String current) {
+                return current.toLowerCase().contains(previous.toLowerCase());
+            }
+        };
+    }
+
     boolean test(T model, String filter);
+
+    /**
+     * Whether every model matching {@code current} also matches {@code previous}. If so the {@link DataProvider} only
+     * re-tests the current matches instead of all items. Defaults to {@code false}.
+     */
+    default boolean narrows(String previous, String current) {
+        return false;
+    }
 }
@@ -13,26 +13,16 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.jboss.hal.client.tools;
+package org.jboss.hal.ballroom.editor;
 
-import org.jboss.hal.dmr.Operation;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Task;
-import rx.Completable;
+import jsinterop.annotations.JsType;
 
-class MacroOperationTask implements Task<FlowContext> {
+/** The document behind an edit {@link Session}. */
+@JsType(isNative = true)
+public class Document {
 
-    private final Dispatcher dispatcher;
-    private final Operation operation;
+    public native int getLength();
 
-    MacroOperationTask(Dispatcher dispatcher, Operation operation) {
-        this.dispatcher = dispatcher;
-        this.operation = operation;
-    }
-
-    @Override
-    public Completable call(FlowContext context) {
-        return dispatcher.execute(operation).toCompletable();
-    }
+    /** Removes the lines from {@code firstRow} to {@code lastRow} (both inclusive). */
+    public native void removeFullLines(int firstRow, int lastRow);
 }
@@ -18,6 +18,9 @@ package org.jboss.hal.ballroom.editor;
 import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsType;
 
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
 @JsType(isNative = true)
 public class Session {
 
@@ -29,6 +32,10 @@ public class Session {
 
     public native int getLength();
 
+    public native Document getDocument();
+
+    public native Position insert(Position position, String text);
+
     public native void on(String event, OnChange onChange);
 
 
@@ -38,4 +45,12 @@ public class Session {
 
         void onChange(Object delta);
     }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    public static class Position {
+
+        public int row;
+        public int column;
+    }
 }
@@ -43,6 +43,9 @@ class Api<T> {
     @JsMethod
     native void refresh_node(String id);
 
+    @JsMethod
+    native void refresh(boolean skipLoading, boolean forgetState);
+
     @JsMethod
     native void search(String query);
 
@@ -32,4 +32,6 @@ class Bridge<T> {
     native Api<T> jstree(boolean _true);
 
     native <E> void on(String event, EventHandler<E> handler);
+
+    native <E> void one(String event, EventHandler<E> handler);
 }
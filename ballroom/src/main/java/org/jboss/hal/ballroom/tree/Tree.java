@@ -148,6 +148,15 @@ public class Tree<T> implements IsElement, Attachable {
         api().refresh_node(id);
     }
 
+    /**
+     * Reloads the tree and restores the state (opened and selected nodes). If the tree was created using a {@link
+     * DataFunction}, the function is called for the root node and for each opened node.
+     */
+    public void refresh(JsCallback callback) {
+        bridge().one("refresh.jstree", (event, payload) -> callback.execute());
+        api().refresh(false, false);
+    }
+
     public void selectNode(String id) {
         selectNode(id, false);
     }
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.ballroom.dataprovider;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.google.common.collect.Lists;
 import com.google.common.primitives.Ints;
@@ -31,8 +33,10 @@ import org.mockito.ArgumentMatcher;
 
 import static com.google.common.primitives.Ints.asList;
 import static java.lang.Integer.parseInt;
+import static java.lang.Math.min;
 import static java.lang.System.arraycopy;
 import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -82,6 +86,8 @@ public class DataProviderTest {
     private static final int[] COMBINED = new int[]{0, 6};
     private static final Function<Integer, String> IDENTIFIER = String::valueOf;
     private static final Filter<Integer> DIVISIBLE = (number, filter) -> number % parseInt(filter) == 0;
+    private static final int MANY_ITEMS = 10_000;
+    private static final String[] TYPING = {"1", "12", "123", "1234"};
 
 
     private DataProvider<Integer> single;
@@ -397,6 +403,36 @@ public class DataProviderTest {
         verify(display).showItems(itemsMatcher(BY_THREE), eq(new PageInfo(PAGE_SIZE, 0, 4, 4)));
     }
 
+    @Test
+    public void narrowFilter() throws Exception {
+        Filter<Integer> startsWith = new Filter<Integer>() {
+            @Override
+            public boolean test(Integer model, String filter) {
+                return String.valueOf(model).startsWith(filter);
+            }
+
+            @Override
+            public boolean narrows(String previous, String current) {
+                return current.startsWith(previous);
+            }
+        };
+        single.update(asList(items(42)));
+
+        reset(display);
+        single.addFilter("startsWith", new FilterValue<>(startsWith, "1"));
+        verify(display).showItems(itemsMatcher(new int[]{1, 10, 11, 12, 13, 14, 15, 16, 17, 18}),
+                eq(new PageInfo(PAGE_SIZE, 0, 10, 11)));
+
+        reset(display);
+        single.addFilter("startsWith", new FilterValue<>(startsWith, "11"));
+        verify(display).showItems(itemsMatcher(new int[]{11}), eq(new PageInfo(PAGE_SIZE, 0, 1, 1)));
+
+        reset(display);
+        single.addFilter("startsWith", new FilterValue<>(startsWith, "2"));
+        verify(display).showItems(itemsMatcher(new int[]{2, 20, 21, 22, 23, 24, 25, 26, 27, 28}),
+                eq(new PageInfo(PAGE_SIZE, 0, 10, 11)));
+    }
+
     @Test
     public void removeUnknownFilter() throws Exception {
         single.update(asList(items(PAGE_SIZE)));
@@ -446,6 +482,118 @@ public class DataProviderTest {
     }
 
 
+    @Test
+    public void sortFilterAndPage() throws Exception {
+        int[] items = {7, 3, 9, 0, 4, 8, 1, 6, 2, 5, 10, 11};
+        single.update(asList(items));
+        single.setComparator(naturalOrder());
+        assertVisibleFilteredAll(single, items(PAGE_SIZE), items(12), items);
+
+        single.gotoNextPage();
+        assertVisibleFilteredAll(single, items(10, 11), items(12), items);
+
+        single.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        assertVisibleFilteredAll(single, new int[]{0, 2, 4, 6, 8, 10}, new int[]{0, 2, 4, 6, 8, 10}, items);
+
+        single.setComparator(Comparator.<Integer>naturalOrder().reversed());
+        assertVisibleFilteredAll(single, new int[]{10, 8, 6, 4, 2, 0}, new int[]{10, 8, 6, 4, 2, 0}, items);
+    }
+
+
+    // ------------------------------------------------------ incremental filter, sort and page
+
+    /*
+     * The following tests compare the incremental engine with filtering, sorting and paging all items from scratch
+     * (the way the data provider used to work). Instead of measuring the time, they count the filter tests and
+     * comparisons, which is what the incremental engine saves.
+     */
+
+    @Test
+    public void typeFilter() throws Exception {
+        List<Integer> items = manyItems();
+        int[] tests = new int[1];
+        Filter<Integer> contains = Filter.containsIgnoreCase(String::valueOf);
+        Filter<Integer> counting = new Filter<Integer>() {
+            @Override
+            public boolean test(Integer model, String filter) {
+                tests[0]++;
+                return contains.test(model, filter);
+            }
+
+            @Override
+            public boolean narrows(String previous, String current) {
+                return contains.narrows(previous, current);
+            }
+        };
+        single.update(items);
+
+        // each narrowed value only re-tests the matches of the previous value
+        int expected = 0;
+        String previous = null;
+        for (String value : TYPING) {
+            expected += previous == null ? items.size() : restream(items, contains, previous, null, -1).size();
+            single.addFilter("contains", new FilterValue<>(counting, value));
+            previous = value;
+        }
+        assertEquals(expected, tests[0]);
+        assertTrue(tests[0] < TYPING.length * items.size());
+        assertEquals(restream(items, contains, previous, null, -1), Lists.newArrayList(single.getFilteredItems()));
+    }
+
+    @Test
+    public void toggleSort() throws Exception {
+        List<Integer> items = manyItems();
+        int[] comparisons = new int[1];
+        Comparator<Integer> ascending = (i1, i2) -> {
+            comparisons[0]++;
+            return Integer.compare(i1, i2);
+        };
+        Comparator<Integer> descending = ascending.reversed();
+        single.update(items);
+
+        single.setComparator(ascending);
+        single.setComparator(descending);
+        int sorted = comparisons[0];
+        assertTrue(sorted > 0);
+
+        // both orders are cached: toggling the sort order must not sort again
+        for (int i = 0; i < 10; i++) {
+            single.setComparator(i % 2 == 0 ? ascending : descending);
+        }
+        assertEquals(sorted, comparisons[0]);
+        assertEquals(restream(items, null, null, descending, -1), Lists.newArrayList(single.getFilteredItems()));
+
+        // a new comparator instance is a new sort order
+        single.setComparator(ascending.reversed());
+        assertTrue(comparisons[0] > sorted);
+    }
+
+    @Test
+    public void pageSorted() throws Exception {
+        List<Integer> items = manyItems();
+        int[] comparisons = new int[1];
+        Comparator<Integer> descending = (i1, i2) -> {
+            comparisons[0]++;
+            return Integer.compare(i2, i1);
+        };
+        single.update(items);
+        single.setComparator(descending);
+        int sorted = comparisons[0];
+
+        // page changes only slice the sorted items
+        int pages = items.size() / PAGE_SIZE;
+        for (int page = 0; page < pages; page++) {
+            single.gotoPage(page);
+            if (page % 100 == 0) {
+                assertEquals(restream(items, null, null, descending, page),
+                        Lists.newArrayList(single.getVisibleItems()));
+            }
+        }
+        assertEquals(sorted, comparisons[0]);
+        assertEquals(restream(items, null, null, descending, pages - 1), Lists.newArrayList(single.getVisibleItems()));
+    }
+
+
     // ------------------------------------------------------ helper methods
 
     private void assertVisibleFilteredAll(DataProvider<Integer> dp, int[] visible, int[] filtered, int[] all) {
@@ -469,6 +617,32 @@ public class DataProviderTest {
         assertArrayEquals(selection, dpSelection);
     }
 
+    private List<Integer> manyItems() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < MANY_ITEMS; i++) {
+            items.add((i * 7919) % MANY_ITEMS); // shuffled, but unique
+        }
+        return items;
+    }
+
+    /** Filters, sorts and pages all items from scratch. Returns all filtered items for {@code page < 0}. */
+    private List<Integer> restream(List<Integer> items, Filter<Integer> filter, String value,
+            Comparator<Integer> comparator, int page) {
+        Stream<Integer> stream = items.stream();
+        if (filter != null) {
+            stream = stream.filter(item -> filter.test(item, value));
+        }
+        if (comparator != null) {
+            stream = stream.sorted(comparator);
+        }
+        List<Integer> values = stream.collect(toList());
+        if (page < 0) {
+            return values;
+        }
+        List<List<Integer>> pages = Lists.partition(values, PAGE_SIZE);
+        return pages.isEmpty() ? values : pages.get(min(page, pages.size() - 1));
+    }
+
     private int[] items(int size) {
         return items(0, size - 1);
     }
@@ -37,6 +37,19 @@ public class Settings {
     // keep in sync with the poll-time attribute of settings.dmr
     public static final int DEFAULT_POLL_TIME = 10;
     public static final int[] PAGE_SIZE_VALUES = new int[]{10, 20, 50};
+    /**
+     * Milliseconds the dispatcher waits for further read operations which are then executed in one composite. Use 0
+     * to batch the reads of one event loop tick and -1 to disable batching.
+     */
+    public static final int DEFAULT_READ_BATCH_DELAY = -1;
+    /** Maximum number of read operations which are executed in one batch composite. */
+    public static final int DEFAULT_READ_BATCH_SIZE = 20;
+    /** Maximum number of read results cached by the CRUD operations. Use 0 to disable the cache. */
+    public static final int DEFAULT_READ_CACHE_SIZE = 0;
+    /** Number of r-r-d composites which are executed in parallel. Use 1 to execute them one after another. */
+    public static final int DEFAULT_RRD_CONCURRENCY = 3;
+    /** Maximum number of macro operations which are replayed in one composite. Use 1 to disable batching. */
+    public static final int DEFAULT_MACRO_BATCH_SIZE = 50;
     private static final int EXPIRES = 365; // days
 
     private final Map<Key, Value> values;
@@ -87,9 +100,14 @@ public class Settings {
         TITLE("title", true),
         COLLECT_USER_DATA("collect-user-data", true),
         LOCALE("locale", true),
+        MACRO_BATCH_SIZE("macro-batch-size", true),
         PAGE_SIZE("page-size", true),
         POLL("poll", true),
         POLL_TIME("poll-time", true),
+        READ_BATCH_DELAY("read-batch-delay", true),
+        READ_BATCH_SIZE("read-batch-size", true),
+        READ_CACHE_SIZE("read-cache-size", true),
+        RRD_CONCURRENCY("rrd-concurrency", true),
         RUN_AS("run-as", false); // can contain multiple roles separated by ","
 
         public static Key from(String key) {
@@ -100,12 +118,22 @@ public class Settings {
                     return COLLECT_USER_DATA;
                 case "locale":
                     return LOCALE;
+                case "macro-batch-size":
+                    return MACRO_BATCH_SIZE;
                 case "page-size":
                     return PAGE_SIZE;
                 case "poll":
                     return POLL;
                 case "poll-time":
                     return POLL_TIME;
+                case "read-batch-delay":
+                    return READ_BATCH_DELAY;
+                case "read-batch-size":
+                    return READ_BATCH_SIZE;
+                case "read-cache-size":
+                    return READ_CACHE_SIZE;
+                case "rrd-concurrency":
+                    return RRD_CONCURRENCY;
                 case "run-as":
                     return RUN_AS;
                 default:
@@ -71,6 +71,7 @@ public class Core {
     private final ExtensionRegistry extensionRegistry;
     private final MetadataProcessor metadataProcessor;
     private final MetadataRegistry metadataRegistry;
+    private final Polling polling;
     private final StatementContext statementContext;
     private final TableButtonFactory tableButtonFactory;
 
@@ -84,6 +85,7 @@ public class Core {
             ExtensionRegistry extensionRegistry,
             MetadataProcessor metadataProcessor,
             MetadataRegistry metadataRegistry,
+            Polling polling,
             StatementContext statementContext,
             TableButtonFactory tableButtonFactory) {
         this.crud = crud;
@@ -94,6 +96,7 @@ public class Core {
         this.extensionRegistry = extensionRegistry;
         this.metadataProcessor = metadataProcessor;
         this.metadataRegistry = metadataRegistry;
+        this.polling = polling;
         this.statementContext = statementContext;
         this.tableButtonFactory = tableButtonFactory;
     }
@@ -159,6 +162,14 @@ public class Core {
         return metadataRegistry;
     }
 
+    /**
+     * @return polling
+     */
+    @JsProperty(name = "polling")
+    public Polling polling() {
+        return polling;
+    }
+
     /**
      * @return statement context
      */
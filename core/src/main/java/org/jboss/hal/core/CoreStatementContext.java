@@ -17,6 +17,7 @@ package org.jboss.hal.core;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.inject.Inject;
 
@@ -44,6 +45,8 @@ public class CoreStatementContext implements StatementContext,
 
     private final Environment environment;
     private final Map<Expression, String> context;
+    private int generation;
+    private int environmentHash;
 
     @Inject
     public CoreStatementContext(Environment environment, EventBus eventBus) {
@@ -89,18 +92,21 @@ public class CoreStatementContext implements StatementContext,
     @Override
     public void onProfileSelection(ProfileSelectionEvent event) {
         context.put(SELECTED_PROFILE, event.getProfile());
+        generation++;
         logger.info("Selected profile {}", event.getProfile());
     }
 
     @Override
     public void onServerGroupSelection(ServerGroupSelectionEvent event) {
         context.put(SELECTED_GROUP, event.getServerGroup());
+        generation++;
         logger.info("Selected server-group {}", event.getServerGroup());
     }
 
     @Override
     public void onHostSelection(HostSelectionEvent event) {
         context.put(SELECTED_HOST, event.getHost());
+        generation++;
         logger.info("Selected host {}", event.getHost());
     }
 
@@ -108,9 +114,24 @@ public class CoreStatementContext implements StatementContext,
     public void onServerSelection(ServerSelectionEvent event) {
         context.put(SELECTED_SERVER_CONFIG, event.getServer());
         context.put(SELECTED_SERVER, event.getServer());
+        generation++;
         logger.info("Selected server {}", event.getServer());
     }
 
+    /**
+     * The generation changes whenever a selection event was received or the domain controller / operation mode
+     * reported by the environment have changed.
+     */
+    @Override
+    public int generation() {
+        int hash = Objects.hash(environment.isStandalone(), environment.getDomainController());
+        if (hash != environmentHash) {
+            environmentHash = hash;
+            generation++;
+        }
+        return generation;
+    }
+
     @Override
     public String domainController() {
         return environment.getDomainController();
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -30,6 +31,7 @@ import com.google.web.bindery.event.shared.EventBus;
 import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 import jsinterop.base.JsPropertyMap;
 import org.jboss.hal.ballroom.JsCallback;
@@ -42,6 +44,7 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelNodeHelper;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -71,6 +74,9 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 /**
  * Contains generic CRUD methods to add, read, update and remove (singleton) resources. Some methods just execute the
  * underlying DMR operations, other methods also interact with the user by showing (confirmation) dialogs.
+ * <p>
+ * The results of {@code read()}, {@code readRecursive()} and {@code readChildren()} for a single child type are
+ * cached by the {@link ReadCache}, if the cache is enabled.
  */
 @JsType
 @SuppressWarnings("DuplicateStringLiteralInspection")
@@ -83,6 +89,7 @@ public class CrudOperations {
     private final StatementContext statementContext;
     private final Resources resources;
     private final OperationFactory operationFactory;
+    private final ReadCache readCache;
 
     @Inject
     @JsIgnore
@@ -91,7 +98,8 @@ public class CrudOperations {
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             StatementContext statementContext,
-            Resources resources) {
+            Resources resources,
+            ReadCache readCache) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.metadataProcessor = metadataProcessor;
@@ -99,6 +107,7 @@ public class CrudOperations {
         this.statementContext = statementContext;
         this.resources = resources;
         this.operationFactory = new OperationFactory();
+        this.readCache = readCache;
     }
 
 
@@ -561,12 +570,64 @@ public class CrudOperations {
                 callback);
     }
 
+    /**
+     * Reads the specified attributes of all child resources of the given type using a {@code query} operation on a
+     * wildcard address and passes the result as {@code List<Property>} to the specified callback. Use this method
+     * instead of {@code read-children-resources} if only a few attributes are needed, e.g. to populate a finder
+     * column.
+     *
+     * @param template   the address template which is resolved against the current statement context to get the
+     *                   parent address
+     * @param childType  the child resource (not human readable, but the actual child resource name!)
+     * @param attributes the attributes which should be part of the result
+     * @param callback   the callback which gets the selected attributes as {@code List<Property>}
+     */
+    @JsIgnore
+    public void queryChildren(AddressTemplate template, String childType, Iterable<String> attributes,
+            ReadChildrenCallback callback) {
+        queryChildren(template.resolve(statementContext), childType, attributes, callback);
+    }
+
+    /**
+     * Reads the specified attributes of all child resources of the given type using a {@code query} operation on a
+     * wildcard address and passes the result as {@code List<Property>} to the specified callback.
+     *
+     * @param address    the fq address of the parent resource
+     * @param childType  the child resource (not human readable, but the actual child resource name!)
+     * @param attributes the attributes which should be part of the result
+     * @param callback   the callback which gets the selected attributes as {@code List<Property>}
+     */
+    @JsIgnore
+    public void queryChildren(ResourceAddress address, String childType, Iterable<String> attributes,
+            ReadChildrenCallback callback) {
+        ResourceAddress wildcard = new ResourceAddress(address).add(childType, "*");
+        Operation operation = new Operation.Builder(wildcard, READ_RESOURCE_OPERATION)
+                .select(Iterables.toArray(attributes, String.class))
+                .build();
+        dispatcher.execute(operation, result -> callback.execute(ModelNodeHelper.asPropertyList(result)));
+    }
+
     private void read(Operation operation, ReadCallback callback) {
-        dispatcher.execute(operation, callback::execute);
+        cachedRead(operation, callback::execute);
     }
 
     private void readChildren(Operation operation, ReadChildrenCallback callback) {
-        dispatcher.execute(operation, result -> callback.execute(result.asPropertyList()));
+        cachedRead(operation, result -> callback.execute(result.asPropertyList()));
+    }
+
+    private void cachedRead(Operation operation, Consumer<ModelNode> callback) {
+        ModelNode cached = readCache.get(operation);
+        if (cached != null) {
+            callback.accept(cached);
+        } else if (readCache.isEnabled()) {
+            int token = readCache.token();
+            dispatcher.execute(operation, result -> {
+                readCache.put(operation, result, token);
+                callback.accept(result);
+            });
+        } else {
+            dispatcher.execute(operation, callback);
+        }
     }
 
 
@@ -656,7 +717,17 @@ public class CrudOperations {
     }
 
     private Single<List<Property>> readChildren(Operation operation) {
-        return dispatcher.execute(operation).map(ModelNode::asPropertyList);
+        ModelNode cached = readCache.get(operation);
+        if (cached != null) {
+            return Single.just(cached.asPropertyList());
+        } else if (readCache.isEnabled()) {
+            int token = readCache.token();
+            return dispatcher.execute(operation)
+                    .doOnSuccess(result -> readCache.put(operation, result, token))
+                    .map(ModelNode::asPropertyList);
+        } else {
+            return dispatcher.execute(operation).map(ModelNode::asPropertyList);
+        }
     }
 
 
@@ -1330,6 +1401,12 @@ public class CrudOperations {
 
     // ------------------------------------------------------ JS methods
 
+    /** @return the cache for read operations including hit / miss statistics. */
+    @JsProperty(name = "readCache")
+    public ReadCache jsReadCache() {
+        return readCache;
+    }
+
     /**
      * Opens an add-resource dialog for the given resource type. The dialog contains fields for all required request
      * properties. When clicking "Add", a new resource is added using the specified address. After the resource has been
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import jsinterop.annotations.JsIgnore;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Central service to execute {@linkplain PollingJob polling jobs}. Instead of one timer per job, the service uses one
+ * timer for all jobs. The operations of all jobs which are due at the same time are executed as one composite.
+ * <p>
+ * Polling is paused as long as the browser tab is hidden (see Page Visibility API). When the tab becomes visible
+ * again, the jobs which became due in the meantime are executed immediately.
+ * <p>
+ * Use {@code hal.core.Core.getInstance().polling.jobs} in the browser console to see the counters of the jobs.
+ */
+@JsType
+public class Polling {
+
+    private static final Logger logger = LoggerFactory.getLogger(Polling.class);
+
+    private final Dispatcher dispatcher;
+    private final PollingSchedule schedule;
+    private final List<Runnable> resumeCallbacks;
+    private double timeoutHandle;
+    private boolean paused;
+
+    @Inject
+    @JsIgnore
+    public Polling(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.schedule = new PollingSchedule();
+        this.resumeCallbacks = new ArrayList<>();
+        this.timeoutHandle = -1;
+        this.paused = hidden();
+        document.addEventListener("visibilitychange", event -> onVisibilityChange(), false); //NON-NLS
+    }
+
+
+    // ------------------------------------------------------ start and stop
+
+    /** Starts the job. The job is executed the first time after its interval. */
+    @JsIgnore
+    public void start(PollingJob job) {
+        schedule.add(job, now());
+        logger.debug("Start polling {}", job);
+        reschedule();
+    }
+
+    /** Stops the job. If the job is in flight, its result is ignored. */
+    @JsIgnore
+    public void stop(PollingJob job) {
+        if (schedule.contains(job)) {
+            schedule.remove(job);
+            logger.debug("Stop polling {}", job);
+            reschedule();
+        }
+    }
+
+    /**
+     * Runs the callback once polling is resumed or right away if polling is not paused. Use this method for custom
+     * polling code which cannot be expressed as a {@link PollingJob}, but which should not run while the browser tab
+     * is hidden.
+     */
+    @JsIgnore
+    public void whenResumed(Runnable callback) {
+        if (paused) {
+            resumeCallbacks.add(callback);
+        } else {
+            callback.run();
+        }
+    }
+
+
+    // ------------------------------------------------------ internals
+
+    private void onVisibilityChange() {
+        boolean hidden = hidden();
+        if (hidden != paused) {
+            paused = hidden;
+            if (paused) {
+                logger.debug("Pause polling");
+            } else {
+                logger.debug("Resume polling");
+                schedule.resume(now());
+            }
+            reschedule();
+            if (!paused && !resumeCallbacks.isEmpty()) {
+                List<Runnable> callbacks = new ArrayList<>(resumeCallbacks);
+                resumeCallbacks.clear();
+                callbacks.forEach(Runnable::run);
+            }
+        }
+    }
+
+    private void reschedule() {
+        if (timeoutHandle >= 0) {
+            clearTimeout(timeoutHandle);
+            timeoutHandle = -1;
+        }
+        if (!paused) {
+            double next = schedule.next();
+            if (next >= 0) {
+                timeoutHandle = setTimeout(o -> tick(), Math.max(0, next - now()));
+            }
+        }
+    }
+
+    private void tick() {
+        timeoutHandle = -1;
+        if (paused) {
+            return;
+        }
+        List<PollingJob> due = schedule.due(now());
+        List<PollingJob> operationJobs = due.stream().filter(job -> job.getOperation() != null).collect(toList());
+        for (PollingJob job : due) {
+            if (job.getTask() != null) {
+                job.getTask().subscribe(result -> succeeded(job, result),
+                        error -> failed(job, error.getMessage()));
+            }
+        }
+        if (operationJobs.size() == 1) {
+            execute(operationJobs.get(0));
+        } else if (operationJobs.size() > 1) {
+            Composite composite = new Composite(operationJobs.stream().map(PollingJob::getOperation)
+                    .collect(toList()));
+            dispatcher.execute(composite,
+                    (CompositeResult result) -> {
+                        for (int i = 0; i < operationJobs.size(); i++) {
+                            succeeded(operationJobs.get(i), result.step(i).get(RESULT));
+                        }
+                    },
+                    (operation, failure) -> {
+                        // one failed step fails the whole composite: execute the jobs one by one, so that a failing
+                        // job doesn't stop the others
+                        logger.debug("Polling composite failed: {}. Execute jobs one by one.", failure);
+                        operationJobs.forEach(this::execute);
+                    },
+                    (operation, exception) -> {
+                        for (PollingJob job : operationJobs) {
+                            failed(job, exception.getMessage());
+                        }
+                    });
+        }
+        reschedule();
+    }
+
+    private void execute(PollingJob job) {
+        dispatcher.execute(job.getOperation(), result -> succeeded(job, result),
+                (operation, failure) -> failed(job, failure),
+                (operation, exception) -> failed(job, exception.getMessage()));
+    }
+
+    private void succeeded(PollingJob job, ModelNode result) {
+        if (schedule.succeeded(job, result, now())) {
+            job.onResult(result);
+            reschedule();
+        }
+    }
+
+    private void failed(PollingJob job, String failure) {
+        if (schedule.failed(job, now())) {
+            logger.debug("Polling {} failed: {}", job, failure);
+            job.onFailure(failure);
+            reschedule();
+        }
+    }
+
+    private boolean hidden() {
+        return Js.isTruthy(Js.asPropertyMap(document).get("hidden")); //NON-NLS
+    }
+
+    private double now() {
+        return System.currentTimeMillis();
+    }
+
+
+    // ------------------------------------------------------ JS methods
+
+    /** @return the registered jobs */
+    @JsProperty(name = "jobs")
+    public PollingJob[] jsJobs() {
+        return schedule.jobs().toArray(new PollingJob[0]);
+    }
+
+    /** @return whether polling is paused because the browser tab is hidden */
+    @JsProperty(name = "paused")
+    public boolean isPaused() {
+        return paused;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.function.Consumer;
+
+import jsinterop.annotations.JsIgnore;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import rx.Single;
+
+/**
+ * A job which is executed periodically by {@link Polling}. A job either executes an operation or a task. Operations
+ * of jobs which are due at the same time are executed as one composite. Tasks are always executed on their own.
+ * <p>
+ * If the result of a job doesn't change, its interval is doubled up to the {@linkplain Builder#maxInterval(double)
+ * maximum interval}. As soon as the result changes, the interval is reset. The counters of a job can be used for
+ * diagnostics.
+ */
+@JsType
+public class PollingJob {
+
+    private final String id;
+    private final Operation operation;
+    private final Single<ModelNode> task;
+    private final Consumer<ModelNode> onResult;
+    private final Consumer<String> onFailure;
+    private final double interval;
+    private final double maxInterval;
+
+    // state and counters maintained by the polling schedule
+    double currentInterval;
+    double due;
+    boolean inFlight;
+    ModelNode lastResult;
+    int executions;
+    int unchanged;
+    int failures;
+
+    private PollingJob(Builder builder) {
+        this.id = builder.id;
+        this.operation = builder.operation;
+        this.task = builder.task;
+        this.onResult = builder.onResult;
+        this.onFailure = builder.onFailure;
+        this.interval = builder.interval;
+        this.maxInterval = Math.max(builder.interval, builder.maxInterval);
+        this.currentInterval = interval;
+    }
+
+    @Override
+    public String toString() {
+        return "PollingJob(" + id + ", interval=" + currentInterval + "ms, executions=" + executions +
+                ", unchanged=" + unchanged + ", failures=" + failures + ")";
+    }
+
+    @JsIgnore
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @JsIgnore
+    public Single<ModelNode> getTask() {
+        return task;
+    }
+
+    void onResult(ModelNode result) {
+        onResult.accept(result);
+    }
+
+    void onFailure(String failure) {
+        onFailure.accept(failure);
+    }
+
+    double getInterval() {
+        return interval;
+    }
+
+    double getMaxInterval() {
+        return maxInterval;
+    }
+
+
+    // ------------------------------------------------------ JS methods
+
+    /** @return the unique id of this job */
+    @JsProperty
+    public String getId() {
+        return id;
+    }
+
+    /** @return the current interval in milliseconds */
+    @JsProperty
+    public double getCurrentInterval() {
+        return currentInterval;
+    }
+
+    /** @return the number of executions */
+    @JsProperty
+    public int getExecutions() {
+        return executions;
+    }
+
+    /** @return the number of executions which returned the same result as the previous execution */
+    @JsProperty
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /** @return the number of failed executions */
+    @JsProperty
+    public int getFailures() {
+        return failures;
+    }
+
+
+    // ------------------------------------------------------ builder
+
+    public static class Builder {
+
+        private final String id;
+        private final double interval;
+        private double maxInterval;
+        private Operation operation;
+        private Single<ModelNode> task;
+        private Consumer<ModelNode> onResult;
+        private Consumer<String> onFailure;
+
+        /**
+         * @param id       a unique id used for diagnostics
+         * @param interval the interval in milliseconds
+         */
+        public Builder(String id, double interval) {
+            this.id = id;
+            this.interval = interval;
+            this.maxInterval = interval;
+            this.onResult = result -> {
+            };
+            this.onFailure = failure -> {
+            };
+        }
+
+        /** The interval is doubled up to this value as long as the result doesn't change. */
+        public Builder maxInterval(double maxInterval) {
+            this.maxInterval = maxInterval;
+            return this;
+        }
+
+        /** Executes the specified operation. The result of the operation is passed to {@link #onResult(Consumer)}. */
+        public Builder operation(Operation operation) {
+            this.operation = operation;
+            return this;
+        }
+
+        /** Subscribes to the specified task. The result of the task is passed to {@link #onResult(Consumer)}. */
+        public Builder task(Single<ModelNode> task) {
+            this.task = task;
+            return this;
+        }
+
+        public Builder onResult(Consumer<ModelNode> onResult) {
+            this.onResult = onResult;
+            return this;
+        }
+
+        public Builder onFailure(Consumer<String> onFailure) {
+            this.onFailure = onFailure;
+            return this;
+        }
+
+        public PollingJob build() {
+            if ((operation == null) == (task == null)) {
+                throw new IllegalStateException("Polling job " + id + " needs either an operation or a task");
+            }
+            return new PollingJob(this);
+        }
+    }
+}
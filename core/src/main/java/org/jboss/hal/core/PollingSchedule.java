@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+
+import static java.lang.Math.min;
+
+/**
+ * Keeps track of the due dates and intervals of the {@linkplain PollingJob polling jobs}. The schedule doesn't know
+ * anything about timers, the DOM or the dispatcher. All methods take the current time in milliseconds, which makes
+ * the schedule easy to test.
+ */
+class PollingSchedule {
+
+    /** Jobs which are due within this number of milliseconds are executed together with the jobs due now. */
+    static final double SLACK = 250;
+
+    private final Map<String, PollingJob> jobs;
+
+    PollingSchedule() {
+        this.jobs = new LinkedHashMap<>();
+    }
+
+    /** Adds the job. The job is due after its interval. An existing job with the same id is replaced. */
+    void add(PollingJob job, double now) {
+        job.currentInterval = job.getInterval();
+        job.due = now + job.currentInterval;
+        job.inFlight = false;
+        job.lastResult = null;
+        jobs.put(job.getId(), job);
+    }
+
+    void remove(PollingJob job) {
+        if (contains(job)) {
+            jobs.remove(job.getId());
+        }
+    }
+
+    boolean contains(PollingJob job) {
+        return jobs.get(job.getId()) == job;
+    }
+
+    List<PollingJob> jobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /** @return the earliest due date of the jobs which are not in flight or -1 if there's no such job */
+    double next() {
+        double next = -1;
+        for (PollingJob job : jobs.values()) {
+            if (!job.inFlight && (next < 0 || job.due < next)) {
+                next = job.due;
+            }
+        }
+        return next;
+    }
+
+    /** Returns the jobs which are due (including a small slack) and marks them as in flight. */
+    List<PollingJob> due(double now) {
+        List<PollingJob> due = new ArrayList<>();
+        for (PollingJob job : jobs.values()) {
+            if (!job.inFlight && job.due <= now + SLACK) {
+                job.inFlight = true;
+                job.executions++;
+                due.add(job);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Records the result of the job and calculates the next due date: If the result is the same as last time, the
+     * interval is doubled up to the maximum interval, otherwise it's reset.
+     *
+     * @return {@code true} if the job is still part of this schedule, {@code false} otherwise
+     */
+    boolean succeeded(PollingJob job, ModelNode result, double now) {
+        job.inFlight = false;
+        if (job.lastResult != null && job.lastResult.equals(result)) {
+            job.unchanged++;
+            job.currentInterval = min(2 * job.currentInterval, job.getMaxInterval());
+        } else {
+            job.currentInterval = job.getInterval();
+        }
+        job.lastResult = result;
+        job.due = now + job.currentInterval;
+        return contains(job);
+    }
+
+    /**
+     * Records the failure of the job. Failed jobs back off like jobs with unchanged results.
+     *
+     * @return {@code true} if the job is still part of this schedule, {@code false} otherwise
+     */
+    boolean failed(PollingJob job, double now) {
+        job.inFlight = false;
+        job.failures++;
+        job.currentInterval = min(2 * job.currentInterval, job.getMaxInterval());
+        job.due = now + job.currentInterval;
+        return contains(job);
+    }
+
+    /**
+     * Resets the intervals after a pause. Jobs which became due during the pause are due immediately. All other jobs
+     * are due after their initial interval at the latest.
+     */
+    void resume(double now) {
+        for (PollingJob job : jobs.values()) {
+            job.currentInterval = job.getInterval();
+            job.due = min(job.due, now + job.currentInterval);
+        }
+    }
+}
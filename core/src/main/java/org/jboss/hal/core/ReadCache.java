@@ -0,0 +1,271 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import com.google.web.bindery.event.shared.EventBus;
+import jsinterop.annotations.JsIgnore;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+import static org.jboss.hal.config.Settings.Key.READ_CACHE_SIZE;
+import static org.jboss.hal.config.Settings.Key.RUN_AS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+
+/**
+ * Size bounded LRU cache for the results of the read operations executed by {@link CrudOperations}. The cache is
+ * opt-in: It's only used if {@link Settings.Key#READ_CACHE_SIZE} is greater than zero.
+ * <p>
+ * The cache is keyed by the normalized operation (address, name, sorted parameters and run-as roles). Successful
+ * operations which modify the management model invalidate all entries whose address is a prefix of the modified
+ * address or vice versa. A {@link ProcessStateEvent} invalidates all entries which include runtime attributes.
+ * <p>
+ * Use {@code hal.core.Core.getInstance().crud.readCache} in the browser console to see the hit / miss statistics.
+ */
+@JsType
+public class ReadCache {
+
+    private static final String WILDCARD = "*";
+    private static final Logger logger = LoggerFactory.getLogger(ReadCache.class);
+
+    private final IntSupplier capacity;
+    private final Supplier<String> runAs;
+    private final Map<String, Entry> entries;
+    private int modifications;
+    private int hits;
+    private int misses;
+    private int invalidations;
+
+    @Inject
+    @JsIgnore
+    public ReadCache(Dispatcher dispatcher, EventBus eventBus, Settings settings) {
+        this(() -> settings.get(READ_CACHE_SIZE).asInt(Settings.DEFAULT_READ_CACHE_SIZE),
+                () -> settings.get(RUN_AS).value());
+        dispatcher.addModificationHandler(this::invalidate);
+        eventBus.addHandler(ProcessStateEvent.getType(), event -> invalidateRuntime());
+    }
+
+    ReadCache(IntSupplier capacity, Supplier<String> runAs) {
+        this.capacity = capacity;
+        this.runAs = runAs;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity.getAsInt();
+            }
+        };
+    }
+
+
+    // ------------------------------------------------------ read and store
+
+    @JsIgnore
+    public boolean isEnabled() {
+        return capacity.getAsInt() > 0;
+    }
+
+    /**
+     * @return a copy of the cached result of the specified read operation or {@code null} if there's no such result
+     * or the cache is disabled.
+     */
+    @JsIgnore
+    public ModelNode get(Operation operation) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Entry entry = entries.get(key(operation));
+        if (entry != null) {
+            hits++;
+            logger.debug("Read cache hit for {}", operation.asCli());
+            return entry.result.clone();
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Returns a token which must be passed to {@link #put(Operation, ModelNode, int)}. Take the token before the read
+     * operation is executed. This makes sure results are not cached, if the model has been modified in the meantime.
+     */
+    @JsIgnore
+    public int token() {
+        return modifications;
+    }
+
+    /** Caches a copy of the result of the specified read operation. */
+    @JsIgnore
+    public void put(Operation operation, ModelNode result, int token) {
+        if (isEnabled() && token == modifications) {
+            entries.put(key(operation), new Entry(operation, result.clone()));
+        }
+    }
+
+
+    // ------------------------------------------------------ invalidation
+
+    /**
+     * Removes all entries whose address is a prefix of the address of the modifying operation (or of one of its steps)
+     * or vice versa.
+     */
+    @JsIgnore
+    public void invalidate(Operation operation) {
+        modifications++;
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                invalidate(step.getAddress());
+            }
+        } else {
+            invalidate(operation.getAddress());
+        }
+    }
+
+    private void invalidate(ResourceAddress address) {
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            if (related(iterator.next().address, address)) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /** Removes all entries which include runtime attributes. */
+    @JsIgnore
+    public void invalidateRuntime() {
+        modifications++;
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().runtime) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        modifications++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+
+    // ------------------------------------------------------ statistics
+
+    @JsProperty
+    public int getSize() {
+        return entries.size();
+    }
+
+    @JsProperty
+    public int getHits() {
+        return hits;
+    }
+
+    @JsProperty
+    public int getMisses() {
+        return misses;
+    }
+
+    @JsProperty
+    public int getInvalidations() {
+        return invalidations;
+    }
+
+    @Override
+    @JsMethod
+    public String toString() {
+        int total = hits + misses;
+        return "ReadCache(" + (isEnabled() ? "capacity=" + capacity.getAsInt() : "disabled") +
+                ", size=" + entries.size() + ", hits=" + hits + ", misses=" + misses +
+                ", hit rate=" + (total == 0 ? 0 : hits * 100 / total) + "%" +
+                ", invalidations=" + invalidations + ")";
+    }
+
+
+    // ------------------------------------------------------ helper methods
+
+    private String key(Operation operation) {
+        String parameters = operation.hasParameter()
+                ? operation.getParameter().asPropertyList().stream()
+                .sorted(comparing(Property::getName))
+                .map(property -> property.getName() + "=" + property.getValue().toJSONString(true))
+                .collect(joining(","))
+                : "";
+        String roles = runAs.get();
+        return operation.getAddress() + ":" + operation.getName() + "(" + parameters + ")" +
+                (roles != null ? "{roles=" + roles + "}" : "");
+    }
+
+    /** Whether one address is a prefix of the other. Wildcards match any value. */
+    private static boolean related(ResourceAddress first, ResourceAddress second) {
+        List<Property> firstSegments = segments(first);
+        List<Property> secondSegments = segments(second);
+        for (int i = 0; i < min(firstSegments.size(), secondSegments.size()); i++) {
+            Property firstSegment = firstSegments.get(i);
+            Property secondSegment = secondSegments.get(i);
+            if (!firstSegment.getName().equals(secondSegment.getName())) {
+                return false;
+            }
+            String firstValue = firstSegment.getValue().asString();
+            String secondValue = secondSegment.getValue().asString();
+            if (!firstValue.equals(secondValue) && !WILDCARD.equals(firstValue) && !WILDCARD.equals(secondValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Property> segments(ResourceAddress address) {
+        return address.isEmpty() ? emptyList() : address.asPropertyList();
+    }
+
+
+    private static class Entry {
+
+        private final ResourceAddress address;
+        private final boolean runtime;
+        private final ModelNode result;
+
+        private Entry(Operation operation, ModelNode result) {
+            this.address = operation.getAddress();
+            this.runtime = operation.hasParameter() && operation.getParameter().hasDefined(INCLUDE_RUNTIME) &&
+                    operation.getParameter().get(INCLUDE_RUNTIME).asBoolean();
+            this.result = result;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -43,6 +44,7 @@ import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Outcome;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.spi.Footer;
@@ -84,6 +86,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
     private final PlaceManager placeManager;
     private final ColumnRegistry columnRegistry;
     private final SecurityContextRegistry securityContextRegistry;
+    private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final FinderContext context;
     private final LinkedHashMap<String, FinderColumn> columns;
@@ -102,6 +105,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
             PlaceManager placeManager,
             ColumnRegistry columnRegistry,
             SecurityContextRegistry securityContextRegistry,
+            MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress) {
 
         this.environment = environment;
@@ -109,6 +113,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         this.placeManager = placeManager;
         this.columnRegistry = columnRegistry;
         this.securityContextRegistry = securityContextRegistry;
+        this.metadataProcessor = metadataProcessor;
         this.progress = progress;
 
         this.context = new FinderContext();
@@ -357,6 +362,13 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
         return securityContextRegistry;
     }
 
+    /** Prefetches the metadata of the columns and places reachable from the items of the last column. */
+    void prefetch(FinderColumn column, Set<String> ids) {
+        if (!ids.isEmpty() && column == Iterables.getLast(columns.values(), null)) {
+            metadataProcessor.prefetch(ids);
+        }
+    }
+
 
     // ------------------------------------------------------ public API
 
@@ -533,7 +545,7 @@ public class Finder implements IsElement<HTMLDivElement>, Attachable {
                         public void onSuccess(FinderColumn column) {
                             if (column.contains(segment.getItemId())) {
                                 column.markSelected(segment.getItemId());
-                                column.row(segment.getItemId()).element().scrollIntoView(false);
+                                column.scrollIntoView(segment.getItemId());
                                 updateContext();
                                 context.push(column);
                                 emitter.onCompleted();
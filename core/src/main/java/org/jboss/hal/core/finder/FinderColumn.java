@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,12 +29,10 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.web.bindery.event.shared.HandlerRegistration;
 import elemental2.dom.DragEvent;
-import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 import elemental2.dom.KeyboardEvent;
-import elemental2.dom.NodeList;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.gwt.elemento.core.EventCallbackFn;
 import org.jboss.gwt.elemento.core.IsElement;
@@ -65,11 +62,11 @@ import static org.jboss.gwt.elemento.core.EventType.bind;
 import static org.jboss.gwt.elemento.core.EventType.click;
 import static org.jboss.gwt.elemento.core.EventType.keydown;
 import static org.jboss.gwt.elemento.core.EventType.keyup;
+import static org.jboss.gwt.elemento.core.EventType.scroll;
 import static org.jboss.gwt.elemento.core.InputType.text;
 import static org.jboss.gwt.elemento.core.Key.ArrowUp;
 import static org.jboss.gwt.elemento.core.Key.Escape;
 import static org.jboss.hal.core.finder.Finder.DATA_BREADCRUMB;
-import static org.jboss.hal.core.finder.Finder.DATA_FILTER;
 import static org.jboss.hal.resources.CSS.*;
 import static org.jboss.hal.resources.Names.NOT_AVAILABLE;
 import static org.jboss.hal.resources.UIConstants.GROUP;
@@ -88,6 +85,11 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
  * Please do not use constants from {@code ModelDescriptionConstants} for the column ids (it makes refactoring harder).
  * Instead add an id to {@link org.jboss.hal.resources.Ids}.
  * <p>
+ * Columns with more than {@value #WINDOWED_THRESHOLD} items are rendered in a windowed mode: Only the rows in the
+ * visible part of the column plus an overscan buffer are part of the DOM. Spacers above and below the rendered rows
+ * keep the scroll height. The windowed mode assumes rows of equal height, which is measured from the first rendered
+ * row.
+ * <p>
  * TODO This class is huge! Try to refactor and break into smaller pieces.
  *
  * @param <T> The column and items type.
@@ -95,7 +97,9 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
 @SuppressWarnings("rawtypes")
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
-    private static final String DOT = ".";
+    private static final int WINDOWED_THRESHOLD = 250;
+    private static final int OVERSCAN = 15;
+    private static final int DEFAULT_ROW_HEIGHT = 50;
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
 
@@ -112,10 +116,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final HTMLElement clearFilterElement;
     private final HTMLElement ulElement;
     private final HTMLElement noItems;
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
     private final List<T> initialItems;
     private final ItemSelectionHandler<T> selectionHandler;
     private final List<HandlerRegistration> handlers;
     private final Map<String, FinderRow<T>> rows;
+    private final List<FinderRow<T>> orderedRows;
     private final FinderColumnStorage storage;
 
     private boolean asElement;
@@ -126,6 +133,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private PreviewCallback<T> previewCallback;
     private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
     private BreadcrumbItemHandler<T> breadcrumbItemHandler;
+    private List<FinderRow<T>> visibleRows;
+    private FinderRow<T> activeRow;
+    private String appliedFilter;
+    private boolean windowed;
+    private int rowHeight;
+    private int firstRendered;
+    private int lastRendered;
 
 
     // ------------------------------------------------------ ui
@@ -148,6 +162,8 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.asElement = false;
 
         this.rows = new HashMap<>();
+        this.orderedRows = new ArrayList<>();
+        this.visibleRows = new ArrayList<>();
         this.storage = new FinderColumnStorage(id);
         this.handlers = new ArrayList<>();
 
@@ -215,6 +231,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         noItems = li().css(empty)
                 .add(span().css(itemText).textContent(CONSTANTS.noItems()))
                 .element();
+
+        // spacers for the windowed mode
+        topSpacer = li().css(spacer).element();
+        bottomSpacer = li().css(spacer).element();
     }
 
     @SuppressWarnings("Duplicates")
@@ -306,6 +326,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
         }
+        handlers.add(bind(ulElement, scroll, event -> {
+            if (windowed) {
+                renderRows(false);
+            }
+        }));
     }
 
     @Override
@@ -329,27 +354,12 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             Elements.setVisible(clearFilterElement, true);
         }
 
-        int matched = 0;
+        // keyup is also fired for the navigation keys
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
-            }
-        }
-        updateHeader(matched);
-        if (matched == 0) {
-            Elements.lazyAppend(ulElement, noItems);
-        } else {
-            Elements.failSafeRemove(ulElement, noItems);
+        if (!filter.equals(appliedFilter)) {
+            filterRows();
+            renderRows(true);
+            updateHeader(visibleRows.size());
         }
         // when user deletes remaining chars, hide the 'clear' icon
         if (filter != null && filter.trim().length() == 0) {
@@ -359,14 +369,78 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void clearFilter() {
         filterElement.value = "";
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
+        filterRows();
+        renderRows(true);
+        updateHeader(visibleRows.size());
+        Elements.setVisible(clearFilterElement, false);
+    }
+
+    /** Filters the rows using the precomputed lower case filter data of each row. */
+    private void filterRows() {
+        String filter = filterElement != null ? filterElement.value : "";
+        appliedFilter = filter;
+        if (filter.trim().length() == 0) {
+            visibleRows = new ArrayList<>(orderedRows);
+        } else {
+            String lowerCaseFilter = filter.toLowerCase();
+            visibleRows = orderedRows.stream().filter(row -> row.matches(lowerCaseFilter)).collect(toList());
+        }
+    }
+
+    /**
+     * Renders the visible rows. In windowed mode only the rows in the viewport plus the overscan buffer are rendered.
+     * Unless {@code force} is set, nothing happens if the range of rendered rows didn't change.
+     */
+    private void renderRows(boolean force) {
+        int size = visibleRows.size();
+        int first = 0;
+        int last = size;
+        int height = rowHeight();
+        if (windowed) {
+            int top = (int) ulElement.scrollTop;
+            int viewport = ulElement.clientHeight > 0 ? (int) ulElement.clientHeight : height * OVERSCAN;
+            first = Math.max(0, top / height - OVERSCAN);
+            last = Math.min(size, (top + viewport) / height + 1 + OVERSCAN);
+        }
+        if (!force && first == firstRendered && last == lastRendered) {
+            return;
+        }
+        firstRendered = first;
+        lastRendered = last;
+
+        // removing the rows would reset the scroll position
+        double scrollTop = ulElement.scrollTop;
+        Elements.removeChildrenFrom(ulElement);
+        if (windowed) {
+            topSpacer.style.height = height(px(first * height));
+            ulElement.appendChild(topSpacer);
+        }
+        for (int i = first; i < last; i++) {
+            ulElement.appendChild(visibleRows.get(i).element());
+        }
+        if (windowed) {
+            bottomSpacer.style.height = height(px((size - last) * height));
+            ulElement.appendChild(bottomSpacer);
+        }
+        if (size == 0) {
+            ulElement.appendChild(noItems);
+        }
+        ulElement.scrollTop = scrollTop;
+        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); //NON-NLS
+    }
+
+    private int rowHeight() {
+        if (rowHeight == 0) {
+            HTMLElement rendered = firstRendered < lastRendered && firstRendered < visibleRows.size()
+                    ? visibleRows.get(firstRendered).element()
+                    : null;
+            if (rendered != null && rendered.offsetHeight > 0) {
+                rowHeight = (int) rendered.offsetHeight;
+            } else {
+                return DEFAULT_ROW_HEIGHT;
             }
-            Elements.setVisible(li, true);
         }
-        Elements.failSafeRemove(ulElement, noItems);
-        Elements.setVisible(clearFilterElement, false);
+        return rowHeight;
     }
 
     private void onNavigation(KeyboardEvent event) {
@@ -376,19 +450,19 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 case ArrowUp:
                 case ArrowDown: {
-                    HTMLElement activeElement = activeElement();
-                    if (!Elements.isVisible(activeElement)) {
-                        activeElement = null;
+                    int index = activeRow != null ? visibleRows.indexOf(activeRow) : -1;
+                    if (index == -1) {
+                        index = key == ArrowUp ? visibleRows.size() - 1 : 0;
+                    } else {
+                        index = key == ArrowUp ? index - 1 : index + 1;
                     }
-                    HTMLElement select = key == ArrowUp
-                            ? previousVisibleElement(activeElement)
-                            : nextVisibleElement(activeElement);
-                    if (select != null && select != noItems) {
+                    if (index >= 0 && index < visibleRows.size()) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        select.scrollIntoView(false);
-                        row(select).click();
+                        FinderRow<T> select = visibleRows.get(index);
+                        scrollIntoView(select.getId());
+                        select.click();
                     }
                     break;
                 }
@@ -407,7 +481,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                             FinderRow selectedRow = previousColumn.selectedRow();
                             if (selectedRow != null) {
                                 selectedRow.updatePreview();
-                                selectedRow.element().scrollIntoView(false);
+                                previousColumn.scrollIntoView(selectedRow.getId());
                             }
                             finder.updateContext();
                             finder.updateHistory();
@@ -417,9 +491,8 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    String nextColumn = activeRow != null ? activeRow.getNextColumn() : null;
+                    if (visibleRows.contains(activeRow) && nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
@@ -434,10 +507,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                                     @Override
                                     public void onSuccess(FinderColumn column) {
-                                        if (column.activeElement() == null && column.hasVisibleElements()) {
-                                            HTMLElement firstElement = column.nextVisibleElement(null);
-                                            column.markSelected(firstElement.id);
-                                            column.row(firstElement).updatePreview();
+                                        if (column.selectedRow() == null && column.hasVisibleElements()) {
+                                            FinderRow firstRow = column.firstVisibleRow();
+                                            column.markSelected(firstRow.getId());
+                                            firstRow.updatePreview();
                                         }
                                         finder.updateContext();
                                         finder.updateHistory();
@@ -449,15 +522,16 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
-                        event.preventDefault();
-                        event.stopPropagation();
+                    if (activeRow != null && visibleRows.contains(activeRow)) {
+                        T item = activeRow.getItem();
+                        ItemActionHandler<T> primaryAction = activeRow.getPrimaryAction();
+                        if (item != null && primaryAction != null) {
+                            event.preventDefault();
+                            event.stopPropagation();
 
-                        row(activeItem).click();
-                        primaryAction.execute(item);
+                            activeRow.click();
+                            primaryAction.execute(item);
+                        }
                     }
                     break;
                 }
@@ -479,52 +553,42 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         Elements.setVisible(hiddenColumns, show);
     }
 
-    private HTMLElement activeElement() {
-        return (HTMLElement) ulElement.querySelector("li." + active); //NON-NLS
-    }
-
     private boolean hasVisibleElements() {
-        for (HTMLElement element : Elements.children(ulElement)) {
-            if (Elements.isVisible(element) && element != noItems) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private HTMLElement previousVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.lastElementChild : start.previousElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.previousElementSibling;
-        }
-        return element;
+        return !visibleRows.isEmpty();
     }
 
-    private HTMLElement nextVisibleElement(HTMLElement start) {
-        HTMLElement element = (HTMLElement) (start == null ? ulElement.firstElementChild : start.nextElementSibling);
-        while (element != null && !Elements.isVisible(element)) {
-            element = (HTMLElement) element.nextElementSibling;
-        }
-        return element;
+    private FinderRow<T> firstVisibleRow() {
+        return visibleRows.isEmpty() ? null : visibleRows.get(0);
     }
 
     FinderRow<T> row(String itemId) {
         return rows.get(itemId);
     }
 
-    private FinderRow<T> row(Element element) {
-        if (element instanceof HTMLElement) {
-            return row(((HTMLElement) element).id);
-        }
-        return null;
+    FinderRow<T> selectedRow() {
+        return activeRow;
     }
 
-    FinderRow<T> selectedRow() {
-        HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); //NON-NLS
-        if (activeItem != null && rows.containsKey(activeItem.id)) {
-            return rows.get(activeItem.id);
+    /** Scrolls the specified row into view. In windowed mode the row is rendered if necessary. */
+    void scrollIntoView(String itemId) {
+        FinderRow<T> row = rows.get(itemId);
+        if (row != null) {
+            if (windowed) {
+                int index = visibleRows.indexOf(row);
+                if (index != -1) {
+                    int height = rowHeight();
+                    int top = index * height;
+                    if (top < ulElement.scrollTop) {
+                        ulElement.scrollTop = top;
+                    } else if (top + height > ulElement.scrollTop + ulElement.clientHeight) {
+                        ulElement.scrollTop = top + height - ulElement.clientHeight;
+                    }
+                    renderRows(false);
+                }
+            } else {
+                row.element().scrollIntoView(false);
+            }
         }
-        return null;
     }
 
     boolean contains(String itemId) {
@@ -532,19 +596,23 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void markSelected(String itemId) {
-        for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
-            boolean select = itemId.equals(entry.getKey());
-            entry.getValue().markSelected(select);
-            if (select && selectionHandler != null) {
-                selectionHandler.onSelect(entry.getValue().getItem());
+        FinderRow<T> row = rows.get(itemId);
+        if (activeRow != null && activeRow != row) {
+            activeRow.markSelected(false);
+        }
+        activeRow = row;
+        if (row != null) {
+            row.markSelected(true);
+            if (selectionHandler != null) {
+                selectionHandler.onSelect(row.getItem());
             }
         }
     }
 
     void resetSelection() {
-        HTMLElement element = activeElement();
-        if (element != null) {
-            element.classList.remove(active);
+        if (activeRow != null) {
+            activeRow.markSelected(false);
+            activeRow = null;
         }
     }
 
@@ -553,75 +621,52 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void unpin(FinderRow<T> row) {
-        row.element().classList.remove(pinned);
-        row.element().classList.add(unpinned);
-
         // move row to unpinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + unpinned);
-        if (nodes.getLength() == 0) {
-            // no unpinned rows append to bottom
-            ulElement.appendChild(row.element());
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                ulElement.appendChild(row.element());
-            }
-        }
+        orderedRows.remove(row);
+        row.markPinned(false);
+        orderedRows.add(insertPosition(row), row);
         adjustPinSeparator();
+        filterRows();
+        renderRows(true);
         storage.unpinItem(row.getId());
     }
 
     void pin(FinderRow<T> row) {
-        row.element().classList.remove(unpinned);
-        row.element().classList.add(pinned);
-
         // move row to pinned section
-        ulElement.removeChild(row.element());
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        if (nodes.getLength() == 0) {
-            // no pinned rows append to top
-            ulElement.insertBefore(row.element(), ulElement.firstChild);
-        } else {
-            Element before = findPosition(nodes, row);
-            if (before != null) {
-                ulElement.insertBefore(row.element(), before);
-            } else {
-                Element firstUnpinned = ulElement.querySelector(DOT + unpinned);
-                if (firstUnpinned != null) {
-                    ulElement.insertBefore(row.element(), firstUnpinned);
-                } else {
-                    ulElement.appendChild(row.element());
-                }
-            }
-        }
+        orderedRows.remove(row);
+        row.markPinned(true);
+        orderedRows.add(insertPosition(row), row);
         adjustPinSeparator();
-        row.element().scrollIntoView(false);
+        filterRows();
+        renderRows(true);
+        scrollIntoView(row.getId());
         storage.pinItem(row.getId());
     }
 
-    private Element findPosition(NodeList<Element> nodes, FinderRow<T> row) {
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element currentElement = nodes.item(i);
-            FinderRow<T> currentRow = row(currentElement);
-            if (currentRow.getDisplay().getTitle().compareTo(row.getDisplay().getTitle()) > 0) {
-                return currentElement;
+    /**
+     * Returns the position of the row in its section: Before the first row of the same section with a greater title,
+     * otherwise at the end of the section.
+     */
+    private int insertPosition(FinderRow<T> row) {
+        for (int i = 0; i < orderedRows.size(); i++) {
+            FinderRow<T> current = orderedRows.get(i);
+            if (current.isPinned() == row.isPinned()) {
+                if (current.getDisplay().getTitle().compareTo(row.getDisplay().getTitle()) > 0) {
+                    return i;
+                }
+            } else if (row.isPinned()) {
+                // first unpinned row
+                return i;
             }
         }
-        return null;
+        return orderedRows.size();
     }
 
     private void adjustPinSeparator() {
-        NodeList<Element> nodes = ulElement.querySelectorAll(DOT + pinned);
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element element = nodes.item(i);
-            if (i == nodes.getLength() - 1) {
-                element.classList.add(last);
-            } else {
-                element.classList.remove(last);
-            }
+        for (int i = 0; i < orderedRows.size(); i++) {
+            FinderRow<T> row = orderedRows.get(i);
+            boolean lastPinned = row.isPinned() && (i == orderedRows.size() - 1 || !orderedRows.get(i + 1).isPinned());
+            row.markLastPinned(lastPinned);
         }
     }
 
@@ -651,49 +696,44 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void setItems(List<T> items, AsyncCallback<FinderColumn> callback) {
         rows.clear();
+        orderedRows.clear();
+        activeRow = null;
         currentItems = items;
-        Elements.removeChildrenFrom(ulElement);
         if (filterElement != null) {
             filterElement.value = "";
         }
 
-        List<T> pinnedItems = new ArrayList<>();
-        List<T> unpinnedItems = new ArrayList<>();
-        Set<String> pinnedItemIds = storage.pinnedItems();
-        if (pinnable && !pinnedItemIds.isEmpty()) {
-            for (T item : items) {
-                String id = itemRenderer.render(item).getId();
-                if (pinnedItemIds.contains(id)) {
-                    pinnedItems.add(item);
-                } else {
-                    unpinnedItems.add(item);
-                }
-            }
-        } else {
-            unpinnedItems.addAll(items);
-        }
-        for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext(); ) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
+        // render the items only once and use the display for the pinned check and the row
+        List<FinderRow<T>> pinnedRows = new ArrayList<>();
+        List<FinderRow<T>> unpinnedRows = new ArrayList<>();
+        Set<String> pinnedItemIds = pinnable ? storage.pinnedItems() : Collections.emptySet();
+        for (T item : items) {
+            ItemDisplay<T> display = itemRenderer.render(item);
+            boolean pinned = pinnedItemIds.contains(display.getId());
+            FinderRow<T> row = new FinderRow<>(finder, this, item, pinned, display, previewCallback);
             rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-            if (!iterator.hasNext()) {
-                row.element().classList.add(last);
+            if (pinned) {
+                pinnedRows.add(row);
+            } else {
+                unpinnedRows.add(row);
             }
         }
-        for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-        }
+        orderedRows.addAll(pinnedRows);
+        orderedRows.addAll(unpinnedRows);
+        adjustPinSeparator();
+
+        windowed = orderedRows.size() > WINDOWED_THRESHOLD;
+        ulElement.scrollTop = 0;
+        filterRows();
+        renderRows(true);
         updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); //NON-NLS
 
-        if (items.isEmpty()) {
-            ulElement.appendChild(noItems);
+        // warm up the metadata of the columns and places the user is likely to visit next
+        Set<String> reachableIds = new HashSet<>();
+        for (FinderRow<T> row : rows.values()) {
+            reachableIds.addAll(row.reachableIds());
         }
+        finder.prefetch(this, reachableIds);
 
         if (callback != null) {
             callback.onSuccess(this);
@@ -870,7 +910,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                         FinderRow<T> updatedRow = rows.get(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
-                            updatedRow.element().scrollIntoView(false);
+                            scrollIntoView(updatedRow.getId());
                         } else {
                             finder.selectPreviousColumn(id);
                         }
@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.core.finder;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.google.gwt.core.client.GWT;
 import elemental2.dom.HTMLAnchorElement;
@@ -45,7 +47,12 @@ import static org.jboss.hal.resources.Names.NOT_AVAILABLE;
 import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.data;
 
-/** UI class for a single row in in a finder column. Only used internally in the finder. */
+/**
+ * UI class for a single row in in a finder column. Only used internally in the finder.
+ * <p>
+ * The DOM of a row and its preview are created lazily when they're needed for the first time. This allows the column
+ * to create rows for thousands of items, but to render only the rows which are visible.
+ */
 class FinderRow<T> implements IsElement<HTMLLIElement> {
 
     private static final Constants CONSTANTS = GWT.create(Constants.class);
@@ -58,9 +65,14 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     private final List<ItemAction<T>> actions;
     private final String nextColumn;
     private ItemActionHandler<T> primaryAction;
-    private final PreviewContent<T> previewContent;
+    private final PreviewCallback<T> previewCallback;
+    private final String filterText;
+    private PreviewContent<T> previewContent;
     private String id;
     private T item;
+    private boolean pinned;
+    private boolean lastPinned;
+    private boolean selected;
 
     private HTMLLIElement root;
     private HTMLElement folderElement;
@@ -79,18 +91,28 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         this.nextColumn = display.nextColumn();
         this.id = Strings.sanitize(display.getId());
         this.primaryAction = actions.isEmpty() ? null : actions.get(0).handler;
-        this.previewContent = previewCallback != null ? previewCallback.onPreview(item) : new PreviewContent<>(
-                display.getTitle());
+        this.previewCallback = previewCallback;
+        this.filterText = display.getFilterData() != null ? display.getFilterData().toLowerCase() : null;
+        this.pinned = pinned;
+        updateItem(item);
+    }
 
-        root = li().element();
-        folderElement = null;
-        if (column.isPinnable()) {
-            root.className = pinned ? CSS.pinned : unpinned;
+    private HTMLLIElement root() {
+        if (root == null) {
+            root = li().element();
+            folderElement = null;
+            if (column.isPinnable()) {
+                root.className = pinned ? CSS.pinned : unpinned;
+                if (lastPinned) {
+                    root.classList.add(last);
+                }
+            }
+            root.classList.add(finderItem);
+            drawItem();
+            markSelected(selected);
+            bind(root, click, event -> onClick(((HTMLElement) event.target)));
         }
-        root.classList.add(finderItem);
-        updateItem(item);
-        drawItem();
-        bind(root, click, event -> onClick(((HTMLElement) event.target)));
+        return root;
     }
 
     private List<ItemAction<T>> allowedActions(List<ItemAction<T>> actions) {
@@ -210,7 +232,7 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
                 }
             }
             root.appendChild(buttonContainer);
-            Elements.setVisible(buttonContainer, isSelected());
+            Elements.setVisible(buttonContainer, selected);
         }
         PatternFly.initComponents(HASH + id);
     }
@@ -257,6 +279,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     }
 
     void markSelected(boolean select) {
+        selected = select;
+        if (root == null) {
+            return;
+        }
         if (select) {
             root.classList.add(active);
             if (buttonContainer != null) {
@@ -271,7 +297,37 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         }
     }
 
+    void markPinned(boolean pinned) {
+        this.pinned = pinned;
+        if (root != null) {
+            root.classList.remove(pinned ? unpinned : CSS.pinned);
+            root.classList.add(pinned ? CSS.pinned : unpinned);
+        }
+    }
+
+    /** Marks the last row of the pinned section. */
+    void markLastPinned(boolean lastPinned) {
+        this.lastPinned = lastPinned;
+        if (root != null) {
+            if (lastPinned) {
+                root.classList.add(last);
+            } else {
+                root.classList.remove(last);
+            }
+        }
+    }
+
+    /** @param filter the lower case filter */
+    boolean matches(String filter) {
+        return filterText == null || filterText.contains(filter);
+    }
+
     void updatePreview() {
+        if (previewContent == null) {
+            previewContent = previewCallback != null
+                    ? previewCallback.onPreview(item)
+                    : new PreviewContent<>(display.getTitle());
+        }
         if (isSelected()) {
             finder.showPreview(previewContent);
         }
@@ -287,7 +343,7 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
 
     @Override
     public HTMLLIElement element() {
-        return root;
+        return root();
     }
 
 
@@ -301,6 +357,20 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
         return nextColumn;
     }
 
+    /** @return the ids of the next column and the name tokens of the places revealed by the actions of this row */
+    Set<String> reachableIds() {
+        Set<String> ids = new HashSet<>();
+        if (nextColumn != null) {
+            ids.add(nextColumn);
+        }
+        for (ItemAction<T> action : actions) {
+            if (action.nameToken != null) {
+                ids.add(action.nameToken);
+            }
+        }
+        return ids;
+    }
+
     ItemActionHandler<T> getPrimaryAction() {
         return primaryAction;
     }
@@ -312,4 +382,8 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     ItemDisplay<T> getDisplay() {
         return display;
     }
+
+    boolean isPinned() {
+        return pinned;
+    }
 }
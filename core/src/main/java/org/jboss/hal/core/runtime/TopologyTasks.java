@@ -46,6 +46,7 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
+import rx.Observable;
 import rx.Single;
 import rx.functions.Func1;
 
@@ -66,7 +67,13 @@ public final class TopologyTasks {
     public static final String SERVER_GROUPS = "topologyFunctions.serverGroups";     // List<ServerGroup>
     public static final String SERVERS = "topologyFunctions.servers";                // List<Server>
 
-    private static final String HOST_NAMES = "topologyFunctions.hostNames";           // List<String>
+    static final String HOST_NAMES = "topologyFunctions.hostNames";           // List<String>
+
+    /**
+     * Maximum number of hosts which are read in parallel. Matches the number of parallel connections most browsers
+     * open per origin.
+     */
+    static final int HOST_CONCURRENCY = 6;
     private static final String WILDCARD = "*";
     private static final Logger logger = LoggerFactory.getLogger(TopologyTasks.class);
 
@@ -334,14 +341,24 @@ public final class TopologyTasks {
         }
     }
 
-    private static class Hosts implements Task<FlowContext> {
+    /**
+     * Reads the hosts and their server configs. The hosts are read in parallel using at most {@link
+     * #HOST_CONCURRENCY} requests in flight. The order of the hosts and servers matches the order of the host names.
+     */
+    static class Hosts implements Task<FlowContext> {
 
         private final Environment environment;
         private final Dispatcher dispatcher;
+        private final int concurrency;
 
         private Hosts(Environment environment, Dispatcher dispatcher) {
+            this(environment, dispatcher, HOST_CONCURRENCY);
+        }
+
+        Hosts(Environment environment, Dispatcher dispatcher, int concurrency) {
             this.environment = environment;
             this.dispatcher = dispatcher;
+            this.concurrency = concurrency;
         }
 
         @Override
@@ -355,47 +372,64 @@ public final class TopologyTasks {
             if (!environment.isStandalone()) {
                 List<String> hostNames = context.get(HOST_NAMES);
                 if (hostNames != null && !hostNames.isEmpty()) {
-                    List<Completable> completables = hostNames.stream()
-                            .map(host -> {
-                                ResourceAddress hostAddress = new ResourceAddress()
-                                        .add(ModelDescriptionConstants.HOST, host);
-                                Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
-                                        .param(INCLUDE_RUNTIME, true)
-                                        .build();
-                                ResourceAddress serverConfigAddress = new ResourceAddress()
-                                        .add(ModelDescriptionConstants.HOST, host)
-                                        .add(SERVER_CONFIG, WILDCARD);
-                                Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
-                                        READ_RESOURCE_OPERATION)
-                                        .param(INCLUDE_RUNTIME, true)
-                                        .build();
-                                Composite composite = new Composite(hostOperation, serverConfigOperation);
-                                return dispatcher.execute(composite)
-                                        .doOnSuccess((CompositeResult result) -> {
-                                            Host h = new Host(result.step(0).get(RESULT));
-                                            hosts.add(h);
-
-                                            List<ModelNode> nodes = result.step(1).get(RESULT).asList();
-                                            nodes.stream()
-                                                    .filter(node -> !node.isFailure())
-                                                    .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
-                                                    .forEach(server -> {
-                                                        h.addServer(server);
-                                                        servers.add(server);
-                                                    });
-                                        })
-                                        .doOnError(throwable -> logger.error("TopologyTasks.Hosts failed: {}",
-                                                throwable.getMessage()))
-                                        .onErrorResumeNext(new HostError<>(host, hosts,
-                                                error -> new CompositeResult(new ModelNode())))
-                                        .toCompletable();
-                            })
-                            .collect(toList());
-                    completable = Completable.concat(completables);
+                    // the hosts and servers are collected per host and merged in order once all hosts have been read
+                    List<List<Host>> hostsPerHost = new ArrayList<>();
+                    List<List<Server>> serversPerHost = new ArrayList<>();
+                    List<Completable> completables = new ArrayList<>();
+                    for (String host : hostNames) {
+                        List<Host> hostSlot = new ArrayList<>();
+                        List<Server> serverSlot = new ArrayList<>();
+                        hostsPerHost.add(hostSlot);
+                        serversPerHost.add(serverSlot);
+                        completables.add(readHost(host, hostSlot, serverSlot));
+                    }
+                    completable = Completable.merge(Observable.from(completables), concurrency)
+                            .andThen(Completable.fromAction(() -> {
+                                hostsPerHost.forEach(hosts::addAll);
+                                serversPerHost.forEach(servers::addAll);
+                            }));
                 }
             }
             return completable;
         }
+
+        private Completable readHost(String host, List<Host> hosts, List<Server> servers) {
+            // deferred: the request must not be sent before the merge subscribes
+            return Completable.defer(() -> {
+                ResourceAddress hostAddress = new ResourceAddress()
+                        .add(ModelDescriptionConstants.HOST, host);
+                Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build();
+                ResourceAddress serverConfigAddress = new ResourceAddress()
+                        .add(ModelDescriptionConstants.HOST, host)
+                        .add(SERVER_CONFIG, WILDCARD);
+                Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
+                        READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build();
+                Composite composite = new Composite(hostOperation, serverConfigOperation);
+                return dispatcher.execute(composite)
+                        .doOnSuccess((CompositeResult result) -> {
+                            Host h = new Host(result.step(0).get(RESULT));
+                            hosts.add(h);
+
+                            List<ModelNode> nodes = result.step(1).get(RESULT).asList();
+                            nodes.stream()
+                                    .filter(node -> !node.isFailure())
+                                    .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
+                                    .forEach(server -> {
+                                        h.addServer(server);
+                                        servers.add(server);
+                                    });
+                        })
+                        .doOnError(throwable -> logger.error("TopologyTasks.Hosts failed: {}",
+                                throwable.getMessage()))
+                        .onErrorResumeNext(new HostError<>(host, hosts,
+                                error -> new CompositeResult(new ModelNode())))
+                        .toCompletable();
+            });
+        }
     }
 
     private static class DisconnectedHosts implements Task<FlowContext> {
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class PollingScheduleTest {
+
+    private static final double INTERVAL = 1000;
+
+    private PollingSchedule schedule;
+
+    @Before
+    public void setUp() {
+        schedule = new PollingSchedule();
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(-1, schedule.next(), 0);
+        assertTrue(schedule.due(0).isEmpty());
+    }
+
+    @Test
+    public void due() {
+        PollingJob job = job("foo", INTERVAL);
+        schedule.add(job, 0);
+        assertEquals(INTERVAL, schedule.next(), 0);
+        assertTrue(schedule.due(INTERVAL / 2).isEmpty());
+        assertEquals(singletonList(job), schedule.due(INTERVAL));
+        assertEquals(1, job.getExecutions());
+    }
+
+    @Test
+    public void inFlight() {
+        PollingJob job = job("foo", INTERVAL);
+        schedule.add(job, 0);
+        schedule.due(INTERVAL);
+        assertEquals(-1, schedule.next(), 0);
+        assertTrue(schedule.due(10 * INTERVAL).isEmpty());
+
+        schedule.succeeded(job, result(1), INTERVAL + 100);
+        assertEquals(2 * INTERVAL + 100, schedule.next(), 0);
+    }
+
+    @Test
+    public void coalesce() {
+        PollingJob foo = job("foo", INTERVAL);
+        PollingJob bar = job("bar", INTERVAL);
+        PollingJob baz = job("baz", 5 * INTERVAL);
+        schedule.add(foo, 0);
+        schedule.add(bar, PollingSchedule.SLACK / 2);
+        schedule.add(baz, 0);
+
+        List<PollingJob> due = schedule.due(INTERVAL);
+        assertEquals(2, due.size());
+        assertTrue(due.contains(foo));
+        assertTrue(due.contains(bar));
+    }
+
+    @Test
+    public void backoff() {
+        PollingJob job = job("foo", INTERVAL, 4 * INTERVAL);
+        schedule.add(job, 0);
+
+        double[] intervals = new double[]{INTERVAL, 2 * INTERVAL, 4 * INTERVAL, 4 * INTERVAL};
+        for (double interval : intervals) {
+            poll(job, result(1));
+            assertEquals(interval, job.getCurrentInterval(), 0);
+        }
+        assertEquals(3, job.getUnchanged());
+
+        double now = schedule.next();
+        schedule.due(now);
+        schedule.succeeded(job, result(2), now);
+        assertEquals(INTERVAL, job.getCurrentInterval(), 0);
+        assertEquals(now + INTERVAL, schedule.next(), 0);
+    }
+
+    @Test
+    public void noBackoff() {
+        PollingJob job = job("foo", INTERVAL);
+        schedule.add(job, 0);
+        for (int i = 0; i < 3; i++) {
+            poll(job, result(1));
+        }
+        assertEquals(INTERVAL, job.getCurrentInterval(), 0);
+        assertEquals(2, job.getUnchanged());
+    }
+
+    @Test
+    public void failed() {
+        PollingJob job = job("foo", INTERVAL, 4 * INTERVAL);
+        schedule.add(job, 0);
+        schedule.due(INTERVAL);
+        assertTrue(schedule.failed(job, INTERVAL));
+        assertEquals(1, job.getFailures());
+        assertEquals(2 * INTERVAL, job.getCurrentInterval(), 0);
+        assertEquals(3 * INTERVAL, schedule.next(), 0);
+    }
+
+    @Test
+    public void removeInFlight() {
+        PollingJob job = job("foo", INTERVAL);
+        schedule.add(job, 0);
+        schedule.due(INTERVAL);
+        schedule.remove(job);
+        assertFalse(schedule.succeeded(job, result(1), INTERVAL));
+        assertTrue(schedule.jobs().isEmpty());
+    }
+
+    @Test
+    public void replace() {
+        PollingJob first = job("foo", INTERVAL);
+        PollingJob second = job("foo", INTERVAL);
+        schedule.add(first, 0);
+        schedule.add(second, 0);
+        schedule.remove(first);
+        assertEquals(singletonList(second), schedule.jobs());
+        assertFalse(schedule.contains(first));
+    }
+
+    @Test
+    public void resume() {
+        PollingJob backedOff = job("bar", INTERVAL, 8 * INTERVAL);
+        schedule.add(backedOff, 0);
+        double now = 0;
+        for (int i = 0; i < 3; i++) {
+            now = poll(backedOff, result(1));
+        }
+        assertEquals(4 * INTERVAL, backedOff.getCurrentInterval(), 0);
+        PollingJob overdue = job("foo", INTERVAL);
+        schedule.add(overdue, now);
+
+        // paused for a while
+        now += 2 * INTERVAL;
+        schedule.resume(now);
+        assertEquals(INTERVAL, backedOff.getCurrentInterval(), 0);
+        assertEquals(singletonList(overdue), schedule.due(now));
+        assertEquals(singletonList(backedOff), schedule.due(now + INTERVAL));
+    }
+
+    /** Executes the next due job with the specified result and returns the time of the execution. */
+    private double poll(PollingJob job, ModelNode result) {
+        double now = schedule.next();
+        assertEquals(singletonList(job), schedule.due(now));
+        schedule.succeeded(job, result, now);
+        return now;
+    }
+
+    private PollingJob job(String id, double interval) {
+        return job(id, interval, interval);
+    }
+
+    private PollingJob job(String id, double interval, double maxInterval) {
+        Operation operation = new Operation.Builder(ResourceAddress.from("/subsystem=" + id),
+                READ_RESOURCE_OPERATION).build();
+        return new PollingJob.Builder(id, interval)
+                .maxInterval(maxInterval)
+                .operation(operation)
+                .build();
+    }
+
+    private ModelNode result(int value) {
+        return new ModelNode().set(value);
+    }
+}
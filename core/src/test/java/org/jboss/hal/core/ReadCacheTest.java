@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ReadCacheTest {
+
+    private static final int CAPACITY = 3;
+
+    private int capacity;
+    private String runAs;
+    private ReadCache cache;
+
+    @Before
+    public void setUp() {
+        capacity = CAPACITY;
+        runAs = null;
+        cache = new ReadCache(() -> capacity, () -> runAs);
+    }
+
+    @Test
+    public void disabled() {
+        capacity = 0;
+        Operation operation = read("/subsystem=foo");
+        cache.put(operation, result("foo"), cache.token());
+        assertNull(cache.get(operation));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void hitAndMiss() {
+        Operation operation = read("/subsystem=foo");
+        assertNull(cache.get(operation));
+
+        cache.put(operation, result("foo"), cache.token());
+        assertEquals(result("foo"), cache.get(operation));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void copies() {
+        Operation operation = read("/subsystem=foo");
+        ModelNode result = result("foo");
+        cache.put(operation, result, cache.token());
+        result.get(NAME).set("bar");
+        cache.get(operation).get(NAME).set("baz");
+        assertEquals(result("foo"), cache.get(operation));
+    }
+
+    @Test
+    public void normalizedParameters() {
+        Operation first = new Operation.Builder(ResourceAddress.from("/subsystem=foo"), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_ALIASES, true)
+                .param(RECURSIVE, true)
+                .build();
+        Operation second = new Operation.Builder(ResourceAddress.from("/subsystem=foo"), READ_RESOURCE_OPERATION)
+                .param(RECURSIVE, true)
+                .param(INCLUDE_ALIASES, true)
+                .build();
+        cache.put(first, result("foo"), cache.token());
+        assertNotNull(cache.get(second));
+    }
+
+    @Test
+    public void runAs() {
+        Operation operation = read("/subsystem=foo");
+        cache.put(operation, result("foo"), cache.token());
+        runAs = "Monitor";
+        assertNull(cache.get(operation));
+    }
+
+    @Test
+    public void lru() {
+        Operation a = read("/subsystem=a");
+        Operation b = read("/subsystem=b");
+        Operation c = read("/subsystem=c");
+        Operation d = read("/subsystem=d");
+        cache.put(a, result("a"), cache.token());
+        cache.put(b, result("b"), cache.token());
+        cache.put(c, result("c"), cache.token());
+        cache.get(a);
+        cache.put(d, result("d"), cache.token());
+
+        assertEquals(CAPACITY, cache.getSize());
+        assertNotNull(cache.get(a));
+        assertNull(cache.get(b));
+        assertNotNull(cache.get(c));
+        assertNotNull(cache.get(d));
+    }
+
+    @Test
+    public void invalidatePrefix() {
+        Operation parent = read("/subsystem=datasources");
+        Operation child = read("/subsystem=datasources/data-source=ExampleDS");
+        Operation sibling = read("/subsystem=datasources/data-source=OtherDS");
+        Operation other = read("/subsystem=logging");
+        cache.put(parent, result("parent"), cache.token());
+        cache.put(child, result("child"), cache.token());
+        cache.put(sibling, result("sibling"), cache.token());
+        cache.put(other, result("other"), cache.token());
+
+        cache.invalidate(new Operation.Builder(ResourceAddress.from("/subsystem=datasources/data-source=ExampleDS"),
+                WRITE_ATTRIBUTE_OPERATION).build());
+
+        assertNull(cache.get(parent));
+        assertNull(cache.get(child));
+        assertNotNull(cache.get(sibling));
+        assertNotNull(cache.get(other));
+    }
+
+    @Test
+    public void invalidateComposite() {
+        Operation wildcard = read("/subsystem=datasources/data-source=*");
+        Operation other = read("/subsystem=logging");
+        cache.put(wildcard, result("wildcard"), cache.token());
+        cache.put(other, result("other"), cache.token());
+
+        cache.invalidate(new Composite(
+                new Operation.Builder(ResourceAddress.from("/subsystem=datasources/data-source=ExampleDS"),
+                        REMOVE).build(),
+                new Operation.Builder(ResourceAddress.from("/subsystem=mail"), ADD).build()));
+
+        assertNull(cache.get(wildcard));
+        assertNotNull(cache.get(other));
+    }
+
+    @Test
+    public void invalidateRuntime() {
+        Operation runtime = new Operation.Builder(ResourceAddress.from("/subsystem=foo"), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        Operation configuration = read("/subsystem=bar");
+        cache.put(runtime, result("runtime"), cache.token());
+        cache.put(configuration, result("configuration"), cache.token());
+
+        cache.invalidateRuntime();
+        assertNull(cache.get(runtime));
+        assertNotNull(cache.get(configuration));
+    }
+
+    @Test
+    public void staleToken() {
+        Operation operation = read("/subsystem=foo");
+        int token = cache.token();
+        cache.invalidate(new Operation.Builder(ResourceAddress.from("/subsystem=bar"), ADD).build());
+        cache.put(operation, result("foo"), token);
+        assertNull(cache.get(operation));
+    }
+
+    private Operation read(String address) {
+        return new Operation.Builder(ResourceAddress.from(address), READ_RESOURCE_OPERATION).build();
+    }
+
+    private ModelNode result(String name) {
+        ModelNode node = new ModelNode();
+        node.get(NAME).set(name);
+        return node;
+    }
+}
@@ -0,0 +1,151 @@
+package org.jboss.hal.core.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowContext;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.Single;
+import rx.schedulers.TestScheduler;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.core.runtime.TopologyTasks.HOSTS;
+import static org.jboss.hal.core.runtime.TopologyTasks.HOST_CONCURRENCY;
+import static org.jboss.hal.core.runtime.TopologyTasks.HOST_NAMES;
+import static org.jboss.hal.core.runtime.TopologyTasks.SERVERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class TopologyTasksTest {
+
+    private static final int HOST_COUNT = 40;
+    private static final long LATENCY = 100;
+
+    private TestScheduler scheduler;
+    private Environment environment;
+    private Dispatcher dispatcher;
+    private List<String> hostNames;
+
+    @Before
+    public void setUp() {
+        scheduler = new TestScheduler();
+        environment = mock(Environment.class);
+        when(environment.isStandalone()).thenReturn(false);
+
+        hostNames = new ArrayList<>();
+        for (int i = 0; i < HOST_COUNT; i++) {
+            hostNames.add("host-" + i);
+        }
+
+        // every host read takes LATENCY ms, host-1 is booting, host-2 fails
+        dispatcher = mock(Dispatcher.class);
+        when(dispatcher.execute(any(Composite.class))).thenAnswer(invocation -> {
+            Composite composite = invocation.getArgument(0);
+            String host = composite.iterator().next().getAddress().lastValue();
+            Single<CompositeResult> result;
+            if ("host-1".equals(host)) {
+                result = Single.error(new DispatchFailure(ERROR_WFY_CTL_0379, composite));
+            } else if ("host-2".equals(host)) {
+                result = Single.error(new DispatchFailure("failed", composite));
+            } else {
+                result = Single.just(hostResult(host));
+            }
+            // delay errors as well: Single.delay() would pass them immediately
+            return Observable.timer(LATENCY, MILLISECONDS, scheduler).toSingle().flatMap(tick -> result);
+        });
+    }
+
+    @Test
+    public void timing() {
+        long sequential = readHosts(1);
+        long parallel = readHosts(HOST_CONCURRENCY);
+
+        assertEquals(HOST_COUNT * LATENCY, sequential);
+        assertEquals((HOST_COUNT + HOST_CONCURRENCY - 1) / HOST_CONCURRENCY * LATENCY, parallel);
+        assertTrue(parallel * (HOST_CONCURRENCY - 1) < sequential);
+    }
+
+    @Test
+    public void order() {
+        FlowContext context = new FlowContext();
+        context.set(HOST_NAMES, hostNames);
+        new TopologyTasks.Hosts(environment, dispatcher, HOST_CONCURRENCY).call(context).subscribe();
+        scheduler.advanceTimeBy(HOST_COUNT * LATENCY, MILLISECONDS);
+
+        List<Host> hosts = context.get(HOSTS);
+        assertEquals(hostNames, hosts.stream().map(Host::getName).collect(toList()));
+        List<Server> servers = context.get(SERVERS);
+        assertEquals(HOST_COUNT - 2, servers.size());
+        assertEquals("host-0", servers.get(0).getHost());
+        assertEquals("host-3", servers.get(1).getHost());
+    }
+
+    @Test
+    public void hostErrors() {
+        FlowContext context = new FlowContext();
+        context.set(HOST_NAMES, hostNames);
+        new TopologyTasks.Hosts(environment, dispatcher, HOST_CONCURRENCY).call(context).subscribe();
+        scheduler.advanceTimeBy(HOST_COUNT * LATENCY, MILLISECONDS);
+
+        List<Host> hosts = context.get(HOSTS);
+        assertEquals(HOST_COUNT, hosts.size());
+        assertTrue(hosts.get(0).isRunning());
+        assertTrue(hosts.get(1).isBooting());
+        assertTrue(hosts.get(2).isFailed());
+        assertFalse(hosts.get(3).isFailed());
+    }
+
+    /** Returns the virtual time in ms it takes to read all hosts. */
+    private long readHosts(int concurrency) {
+        FlowContext context = new FlowContext();
+        context.set(HOST_NAMES, hostNames);
+        boolean[] completed = new boolean[]{false};
+        new TopologyTasks.Hosts(environment, dispatcher, concurrency).call(context)
+                .subscribe(() -> completed[0] = true);
+
+        long elapsed = 0;
+        while (!completed[0] && elapsed < HOST_COUNT * LATENCY * 2) {
+            scheduler.advanceTimeBy(LATENCY, MILLISECONDS);
+            elapsed += LATENCY;
+        }
+        assertTrue(completed[0]);
+        List<Host> hosts = context.get(HOSTS);
+        assertEquals(HOST_COUNT, hosts.size());
+        return elapsed;
+    }
+
+    private CompositeResult hostResult(String host) {
+        ModelNode hostNode = new ModelNode();
+        hostNode.get(NAME).set(host);
+        hostNode.get(HOST_STATE).set("RUNNING");
+
+        ModelNode server = new ModelNode();
+        server.get(OUTCOME).set(SUCCESS);
+        server.get(RESULT).get(NAME).set("server-" + host);
+        server.get(RESULT).get(GROUP).set("main-server-group");
+
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(OUTCOME).set(SUCCESS);
+        steps.get("step-1").get(RESULT).set(hostNode);
+        steps.get("step-2").get(OUTCOME).set(SUCCESS);
+        steps.get("step-2").get(RESULT).add(server);
+        return new CompositeResult(steps);
+    }
+}
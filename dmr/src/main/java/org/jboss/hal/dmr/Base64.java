@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.dmr;
 
+import elemental2.core.Uint8Array;
 import jsinterop.annotations.JsMethod;
 
 import static jsinterop.annotations.JsPackage.GLOBAL;
@@ -28,6 +29,91 @@ public class Base64 {
     @JsMethod(namespace = GLOBAL, name = "atob")
     public static native String decode(String encoded);
 
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .toCharArray();
+    private static final int[] INDEX = new int[128];
+
+    static {
+        for (int i = 0; i < INDEX.length; i++) {
+            INDEX[i] = -1;
+        }
+        for (int i = 0; i < ALPHABET.length; i++) {
+            INDEX[ALPHABET[i]] = i;
+        }
+    }
+
+    /**
+     * Encodes the first {@code length} bytes of the specified array. Unlike {@link #encode(String)} this doesn't
+     * need an intermediate (latin-1) string.
+     */
+    public static String encode(byte[] bytes, int length) {
+        char[] chars = new char[((length + 2) / 3) * 4];
+        int c = 0;
+        int i = 0;
+        int remaining = length - length % 3;
+        while (i < remaining) {
+            int bits = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | (bytes[i++] & 0xff);
+            chars[c++] = ALPHABET[(bits >>> 18) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 6) & 0x3f];
+            chars[c++] = ALPHABET[bits & 0x3f];
+        }
+        if (i < length) {
+            int b0 = bytes[i++] & 0xff;
+            chars[c++] = ALPHABET[b0 >>> 2];
+            if (i == length) {
+                chars[c++] = ALPHABET[(b0 << 4) & 0x3f];
+                chars[c++] = '=';
+            } else {
+                int b1 = bytes[i] & 0xff;
+                chars[c++] = ALPHABET[(b0 << 4) & 0x3f | (b1 >>> 4)];
+                chars[c++] = ALPHABET[(b1 << 2) & 0x3f];
+            }
+            chars[c] = '=';
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decodes the base64 encoded ASCII bytes in place: The decoded bytes are written to the start of the specified
+     * array. Whitespace is skipped, decoding stops at the first padding character.
+     *
+     * @return the number of decoded bytes
+     */
+    public static int decode(Uint8Array data) {
+        int length = data.getLength();
+        int bits = 0;
+        int count = 0;
+        int out = 0;
+        for (int i = 0; i < length; i++) {
+            int c = data.getAt(i).intValue();
+            if (c == '=') {
+                break;
+            }
+            int value = c < INDEX.length ? INDEX[c] : -1;
+            if (value == -1) {
+                continue; // whitespace and line breaks
+            }
+            bits = (bits << 6) | value;
+            count++;
+            if (count == 4) {
+                // the write position always lags behind the read position, so it's safe to decode in place
+                data.setAt(out++, (double) ((bits >>> 16) & 0xff));
+                data.setAt(out++, (double) ((bits >>> 8) & 0xff));
+                data.setAt(out++, (double) (bits & 0xff));
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            data.setAt(out++, (double) ((bits >>> 4) & 0xff));
+        } else if (count == 3) {
+            data.setAt(out++, (double) ((bits >>> 10) & 0xff));
+            data.setAt(out++, (double) ((bits >>> 2) & 0xff));
+        }
+        return out;
+    }
+
     /** Defeats instantiation. */
     private Base64() {
     }
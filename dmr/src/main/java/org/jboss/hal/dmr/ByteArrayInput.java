@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+/** Reads model nodes from a byte array. */
+class ByteArrayInput extends DataInput {
+
+    private final byte[] bytes;
+    private int pos = 0;
+
+    ByteArrayInput(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    int read() {
+        if (pos >= bytes.length) {
+            return -1;
+        }
+        return bytes[pos++] & 0xFF;
+    }
+
+    @Override
+    int readInt() {
+        int a = readUnsignedByte();
+        int b = readUnsignedByte();
+        int c = readUnsignedByte();
+        int d = readUnsignedByte();
+        return (a << 24) | (b << 16) | (c << 8) | d;
+    }
+
+    @Override
+    void readFully(byte[] b) {
+        for (int i = 0; i < b.length; i++) {
+            b[i] = bytes[pos++];
+        }
+    }
+
+    @Override
+    int position() {
+        return pos;
+    }
+
+    @Override
+    void seek(int position) {
+        pos = position;
+    }
+}
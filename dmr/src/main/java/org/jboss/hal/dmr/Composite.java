@@ -32,6 +32,7 @@ import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.COMPOSITE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ROLES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STEPS;
 
 /** Represents a composite operation consisting of n {@link Operation}s. */
@@ -118,7 +119,14 @@ public class Composite extends Operation implements Iterable<Operation> {
         List<Operation> runAsOperations = operations.stream()
                 .map(operation -> operation.runAs(runAs))
                 .collect(Collectors.toList());
-        return new Composite(runAsOperations);
+        Composite composite = new Composite(runAsOperations);
+        // the roles of the steps are ignored when the composite is executed: add them to the composite itself
+        if (runAs.size() == 1) {
+            composite.get(OPERATION_HEADERS).get(ROLES).set(runAs.iterator().next());
+        } else {
+            runAs.forEach(role -> composite.get(OPERATION_HEADERS).get(ROLES).add(role));
+        }
+        return composite;
     }
 
     /** @return a string representation of this composite */
@@ -15,29 +15,96 @@
  */
 package org.jboss.hal.dmr;
 
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
+/**
+ * Base class to read the binary representation of model nodes. Subclasses need to implement the methods to read
+ * single bytes, integers and byte arrays. All other methods are built on top of them and don't allocate any
+ * intermediate arrays.
+ */
+abstract class DataInput {
+
+    /** @return the next unsigned byte or -1 if the end of the input has been reached */
+    abstract int read();
+
+    abstract int readInt();
+
+    abstract void readFully(byte[] b);
 
-class DataInput {
+    /** @return the current read position */
+    abstract int position();
 
-    private final byte[] bytes;
-    private int pos = 0;
+    /** Moves the read position. Used to materialize lazily decoded values. */
+    abstract void seek(int position);
 
-    DataInput(byte[] bytes) {
-        this.bytes = bytes;
+
+    // ------------------------------------------------------ skip
+
+    void skip(int bytes) {
+        seek(position() + bytes);
     }
 
+    /** Skips a complete model node (type and value) without creating any objects. */
+    void skipNode() {
+        ModelType type = ModelType.forChar((char) (readByte() & 0xff));
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                skipUTF();
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                skip(readInt());
+                break;
+            case BOOLEAN:
+            case TYPE:
+                skip(1);
+                break;
+            case DOUBLE:
+            case LONG:
+                skip(8);
+                break;
+            case INT:
+                skip(4);
+                break;
+            case LIST:
+                skipList();
+                break;
+            case OBJECT:
+                skipObject();
+                break;
+            case PROPERTY:
+                skipUTF();
+                skipNode();
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
 
-    // ------------------------------------------------------ read a-z
+    void skipList() {
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            skipNode();
+        }
+    }
 
-    private int read() {
-        if (pos >= bytes.length) {
-            return -1;
+    void skipObject() {
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            skipUTF();
+            skipNode();
         }
-        return bytes[pos++] & 0xFF;
     }
 
+    private void skipUTF() {
+        skip(readUnsignedShort());
+    }
+
+
+    // ------------------------------------------------------ read a-z
+
     boolean readBoolean() {
         return readByte() != 0;
     }
@@ -57,45 +124,13 @@ class DataInput {
     }
 
     double readDouble() {
-        byte[] doubleBytes = new byte[8];
-        readFully(doubleBytes);
-
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        for (int i = 0; i < doubleBytes.length; i++) {
-            array.setAt(i, (double) doubleBytes[i]);
-        }
-        return view.getFloat64(0);
-    }
-
-    void readFully(byte[] b) {
-        for (int i = 0; i < b.length; i++) {
-            b[i] = bytes[pos++];
-        }
-    }
-
-    int readInt() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        int c = readUnsignedByte();
-        int d = readUnsignedByte();
-        return (a << 24) | (b << 16) | (c << 8) | d;
+        return Double.longBitsToDouble(readLong());
     }
 
     long readLong() {
-        byte[] longBytes = new byte[8];
-        readFully(longBytes);
-
-        return (((long) longBytes[0] << 56) +
-                ((long) (longBytes[1] & 255) << 48) +
-                ((long) (longBytes[2] & 255) << 40) +
-                ((long) (longBytes[3] & 255) << 32) +
-                ((long) (longBytes[4] & 255) << 24) +
-                ((longBytes[5] & 255) << 16) +
-                ((longBytes[6] & 255) << 8) +
-                ((longBytes[7] & 255) << 0));
-
+        long high = readInt();
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
     }
 
     short readShort() {
@@ -104,7 +139,7 @@ class DataInput {
         return (short) ((a << 8) | b);
     }
 
-    private int readUnsignedByte() {
+    int readUnsignedByte() {
         int i = read();
         if (i == -1) {
             throw new RuntimeException("EOF");
@@ -15,95 +15,112 @@
  */
 package org.jboss.hal.dmr;
 
-import com.google.common.base.Charsets;
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
-import elemental2.core.JsArray;
+import java.util.Arrays;
 
+/**
+ * Growable byte buffer used to encode model nodes. The buffer doubles its capacity when it's full, so writing
+ * {@code n} bytes costs amortized {@code O(n)}. The encoded bytes are turned into base64 straight from the buffer
+ * without any intermediate copies.
+ */
 class DataOutput {
 
-    private final JsArray<Byte> bytes;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private byte[] bytes;
+    private int size;
 
     DataOutput() {
-        bytes = new JsArray<>();
+        this(INITIAL_CAPACITY);
     }
 
-    @Override
-    public String toString() {
-        int length = bytes.getLength();
-        byte[] array = new byte[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = bytes.getAt(i);
+    DataOutput(int capacity) {
+        bytes = new byte[Math.max(capacity, 16)];
+        size = 0;
+    }
+
+    /** @return the number of bytes written so far */
+    int size() {
+        return size;
+    }
+
+    /** @return a copy of the bytes written so far */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /** @return the bytes written so far as base64 encoded string */
+    String toBase64() {
+        return Base64.encode(bytes, size);
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > bytes.length) {
+            int capacity = bytes.length << 1;
+            if (capacity < required) {
+                capacity = required;
+            }
+            bytes = Arrays.copyOf(bytes, capacity);
         }
-        return new String(array, Charsets.ISO_8859_1);
     }
 
 
     // ------------------------------------------------------ write a-z
 
     void write(byte[] bits) {
-        for (int i = 0; i < bits.length; i++) {
-            bytes.push(bits[i]);
-        }
+        write(bits, 0, bits.length);
     }
 
     private void write(byte[] b, int off, int len) {
-        for (int i = 0; i < len; i++) {
-            bytes.push(b[off + i]);
-        }
+        ensureCapacity(len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
     }
 
     void writeBoolean(boolean v) {
-        bytes.push(v ? (byte) 1 : (byte) 0);
+        ensureCapacity(1);
+        bytes[size++] = v ? (byte) 1 : (byte) 0;
     }
 
     void writeByte(int v) {
-        bytes.push((byte) v);
+        ensureCapacity(1);
+        bytes[size++] = (byte) v;
     }
 
     void writeChar(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        writeShort(v);
     }
 
     void writeDouble(double v) {
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        view.setFloat64(0, v);
-        for (int i = 0; i < array.getLength(); i++) {
-            bytes.push(array.getAt(i).byteValue());
-        }
+        writeLong(Double.doubleToLongBits(v));
     }
 
     void writeInt(int v) {
-        bytes.push((byte) (v >>> 24));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(4);
+        bytes[size++] = (byte) (v >>> 24);
+        bytes[size++] = (byte) (v >>> 16);
+        bytes[size++] = (byte) (v >>> 8);
+        bytes[size++] = (byte) v;
     }
 
     void writeLong(long v) {
-        bytes.push((byte) (v >>> 56));
-        bytes.push((byte) ((v >>> 48) & 0xFF));
-        bytes.push((byte) ((v >>> 40) & 0xFF));
-        bytes.push((byte) ((v >>> 32) & 0xFF));
-        bytes.push((byte) ((v >>> 24) & 0xFF));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        // split into two ints: cheaper than eight shifts of an emulated long in JavaScript
+        writeInt((int) (v >>> 32));
+        writeInt((int) v);
     }
 
     private void writeShort(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        ensureCapacity(2);
+        bytes[size++] = (byte) (v >>> 8);
+        bytes[size++] = (byte) v;
     }
 
     void writeUTF(String s) {
         int length = s.length();
-        byte[] bytes = new byte[length * 3];
-        int bl = 0;
+        // reserve the worst case up front and encode in place, the length is patched afterwards
+        ensureCapacity(2 + length * 3);
+        int start = size;
+        int bl = start + 2;
         char c;
         for (int i = 0; i < length; i++) {
             c = s.charAt(i);
@@ -118,7 +135,9 @@ class DataOutput {
                 bytes[bl++] = (byte) (0x80 | 0x3f & c);
             }
         }
-        writeShort(bl);
-        write(bytes, 0, bl);
+        int utfLength = bl - start - 2;
+        bytes[start] = (byte) (utfLength >>> 8);
+        bytes[start + 1] = (byte) utfLength;
+        size = bl;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.DataView;
+
+/**
+ * Reads model nodes straight from an {@link ArrayBuffer} using a {@link DataView}. Multi-byte values like integers
+ * and doubles are read in one step without intermediate arrays or strings.
+ */
+class DataViewInput extends DataInput {
+
+    private final DataView view;
+    private final int limit;
+    private int pos = 0;
+
+    /**
+     * @param buffer the buffer with the binary model node
+     * @param limit  the number of bytes in the buffer which are valid
+     */
+    DataViewInput(ArrayBuffer buffer, int limit) {
+        this.view = new DataView(buffer);
+        this.limit = limit;
+    }
+
+    @Override
+    int read() {
+        if (pos >= limit) {
+            return -1;
+        }
+        return (int) view.getUint8(pos++);
+    }
+
+    @Override
+    int readInt() {
+        ensureAvailable(4);
+        int value = (int) view.getInt32(pos);
+        pos += 4;
+        return value;
+    }
+
+    @Override
+    double readDouble() {
+        ensureAvailable(8);
+        double value = view.getFloat64(pos);
+        pos += 8;
+        return value;
+    }
+
+    @Override
+    void readFully(byte[] b) {
+        ensureAvailable(b.length);
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) view.getInt8(pos++);
+        }
+    }
+
+    private void ensureAvailable(int bytes) {
+        if (pos + bytes > limit) {
+            throw new RuntimeException("EOF");
+        }
+    }
+
+    @Override
+    int position() {
+        return pos;
+    }
+
+    @Override
+    void seek(int position) {
+        pos = position;
+    }
+}
@@ -27,7 +27,10 @@ import java.util.NoSuchElementException;
 class ListModelValue extends ModelValue {
 
     public static final ModelNode[] NO_NODES = new ModelNode[0];
-    private final List<ModelNode> list;
+    private List<ModelNode> list;
+    // set as long as a lazily decoded value hasn't been materialized
+    private DataInput in;
+    private int offset;
 
     ListModelValue() {
         super(ModelType.LIST);
@@ -36,7 +39,7 @@ class ListModelValue extends ModelValue {
 
     private ListModelValue(ListModelValue orig) {
         super(ModelType.LIST);
-        list = new ArrayList<>(orig.list);
+        list = new ArrayList<>(orig.list());
     }
 
     ListModelValue(List<ModelNode> list) {
@@ -44,21 +47,44 @@ class ListModelValue extends ModelValue {
         this.list = list;
     }
 
-    ListModelValue(DataInput in) {
+    /**
+     * Reads a list value. If {@code lazy == true} only the position of the value is recorded. The elements are
+     * read when the value is accessed for the first time. Nested objects and lists are decoded lazily as well.
+     */
+    ListModelValue(DataInput in, boolean lazy) {
         super(ModelType.LIST);
+        if (lazy) {
+            this.in = in;
+            this.offset = in.position();
+            in.skipList();
+        } else {
+            this.list = read(in, false);
+        }
+    }
+
+    private static ArrayList<ModelNode> read(DataInput in, boolean lazy) {
         int count = in.readInt();
-        ArrayList<ModelNode> list = new ArrayList<>();
+        ArrayList<ModelNode> list = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             ModelNode value = new ModelNode();
-            value.readExternal(in);
+            value.readExternal(in, lazy);
             list.add(value);
         }
-        this.list = list;
+        return list;
+    }
+
+    private List<ModelNode> list() {
+        if (in != null) {
+            in.seek(offset);
+            list = read(in, true);
+            in = null;
+        }
+        return list;
     }
 
     @Override
     void writeExternal(DataOutput out) {
-        List<ModelNode> list = this.list;
+        List<ModelNode> list = list();
         int size = list.size();
         out.writeInt(size);
         for (ModelNode node : list) {
@@ -68,7 +94,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
-        List<ModelNode> list = this.list;
+        List<ModelNode> list = list();
         for (ModelNode node : list) {
             node.protect();
         }
@@ -87,6 +113,11 @@ class ListModelValue extends ModelValue {
 
     @Override
     int asInt() {
+        if (in != null) {
+            // no need to materialize the elements
+            in.seek(offset);
+            return in.readInt();
+        }
         return list.size();
     }
 
@@ -97,7 +128,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     boolean asBoolean() {
-        return !list.isEmpty();
+        return !list().isEmpty();
     }
 
     @Override
@@ -107,8 +138,8 @@ class ListModelValue extends ModelValue {
 
     @Override
     Property asProperty() {
-        if (list.size() == 2) {
-            return new Property(list.get(0).asString(), list.get(1));
+        if (list().size() == 2) {
+            return new Property(list().get(0).asString(), list().get(1));
         } else {
             return super.asProperty();
         }
@@ -117,7 +148,7 @@ class ListModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         List<Property> propertyList = new ArrayList<>();
-        Iterator<ModelNode> i = list.iterator();
+        Iterator<ModelNode> i = list().iterator();
         while (i.hasNext()) {
             ModelNode node = i.next();
             if (node.getType() == ModelType.PROPERTY) {
@@ -133,7 +164,7 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode asObject() {
         ModelNode node = new ModelNode();
-        Iterator<ModelNode> i = list.iterator();
+        Iterator<ModelNode> i = list().iterator();
         while (i.hasNext()) {
             ModelNode name = i.next();
             if (name.getType() == ModelType.PROPERTY) {
@@ -149,7 +180,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelNode getChild(int index) {
-        List<ModelNode> list = this.list;
+        List<ModelNode> list = list();
         int size = list.size();
         if (size <= index) {
             for (int i = 0; i < index - size + 1; i++) {
@@ -162,13 +193,13 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode addChild() {
         ModelNode node = new ModelNode();
-        list.add(node);
+        list().add(node);
         return node;
     }
 
     @Override
     List<ModelNode> asList() {
-        return Collections.unmodifiableList(list);
+        return Collections.unmodifiableList(list());
     }
 
     @Override
@@ -178,8 +209,8 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelValue resolve() {
-        ArrayList<ModelNode> copy = new ArrayList<>(list.size());
-        for (ModelNode node : list) {
+        ArrayList<ModelNode> copy = new ArrayList<>(list().size());
+        for (ModelNode node : list()) {
             copy.add(node.resolve());
         }
         return new ListModelValue(copy);
@@ -194,7 +225,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     void format(StringBuilder builder, int indent, boolean multiLineRequested) {
-        boolean multiLine = multiLineRequested && list.size() > 1;
+        boolean multiLine = multiLineRequested && list().size() > 1;
         List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
@@ -220,7 +251,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
-        boolean multiLine = multiLineRequested && list.size() > 1;
+        boolean multiLine = multiLineRequested && list().size() > 1;
         List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
@@ -264,23 +295,23 @@ class ListModelValue extends ModelValue {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ListModelValue other) {
-        return this == other || other != null && list.equals(other.list);
+        return this == other || other != null && list().equals(other.list());
     }
 
     @Override
     public int hashCode() {
-        return list.hashCode();
+        return list().hashCode();
     }
 
     @Override
     boolean has(int index) {
-        return 0 <= index && index < list.size();
+        return 0 <= index && index < list().size();
     }
 
     @Override
     ModelNode requireChild(int index) throws NoSuchElementException {
         try {
-            return list.get(index);
+            return list().get(index);
         } catch (IndexOutOfBoundsException ignored) {
             return super.requireChild(index);
         }
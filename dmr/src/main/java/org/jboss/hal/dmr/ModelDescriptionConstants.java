@@ -126,6 +126,7 @@ public interface ModelDescriptionConstants {
     String CANCEL_NON_PROGRESSING_OPERATION = "cancel-non-progressing-operation";
     String CANCEL_OPERATION = "cancel";
     String CANCELLED = "cancelled";
+    String CAPABILITIES = "capabilities";
     String CAPABILITY_REFERENCE = "capability-reference";
     String CERTIFICATE_AUTHORITY_ACCOUNT = "certificate-authority-account";
     String CERTIFICATE_DETAILS = "certificate-details";
@@ -257,6 +258,7 @@ public interface ModelDescriptionConstants {
     String DEPLOYMENT_PERMISSIONS = "deployment-permissions";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
     String DEPRECATED = "deprecated";
+    String DEPTH = "depth";
     String DESCRIPTION = "description";
     String DESTINATION = "destination";
     String DESTINATION_ADDRESS = "destination-address";
@@ -327,6 +329,7 @@ public interface ModelDescriptionConstants {
     String EXPOSED_SUBSYSTEMS = "exposed-subsystems";
     String EXPRESSION = "expression";
     String EXPRESSIONS_ALLOWED = "expressions-allowed";
+    String EXTENSION = "extension";
     String EXTENSION_POINT = "extension-point";
     String EXTERNAL_JMS_QUEUE = "external-jms-queue";
     String EXTERNAL_JMS_TOPIC = "external-jms-topic";
@@ -493,6 +496,7 @@ public interface ModelDescriptionConstants {
     String LIST_ADD_OPERATION = "list-add";
     String LIST_ALL_CONSUMERS_AS_JSON = "list-all-consumers-as-json";
     String LIST_CHANGES_OPERATION = "list-changes";
+    String LIST_CLEAR_OPERATION = "list-clear";
     String LIST_CONNECTIONS_AS_JSON = "list-connections-as-json";
     String LIST_CONSUMERS_AS_JSON = "list-consumers-as-json";
     String LIST_MESSAGES = "list-messages";
@@ -537,6 +541,9 @@ public interface ModelDescriptionConstants {
     String MANAGEMENT_OPERATIONS = "management-operations";
     String MANAGEMENT_SPEC_VERSION = "management-spec-version";
     String MANAGEMENT_VERSION = "management-version";
+    String MAP_CLEAR_OPERATION = "map-clear";
+    String MAP_PUT_OPERATION = "map-put";
+    String MAP_REMOVE_OPERATION = "map-remove";
     String MAPPED_REGEX_REALM_MAPPER = "mapped-regex-realm-mapper";
     String MAPPED_ROLE_MAPPER = "mapped-role-mapper";
     String MAPPING_MODULE = "mapping-module";
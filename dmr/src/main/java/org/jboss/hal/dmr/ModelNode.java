@@ -24,6 +24,8 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 import com.google.common.base.CharMatcher;
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
@@ -56,7 +58,40 @@ public class ModelNode implements Cloneable {
         String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(encoded);
         ModelNode node = new ModelNode();
         String decoded = Base64.decode(safeEncoded);
-        node.readExternal(new DataInput(toBytes(decoded)));
+        node.readExternal(new ByteArrayInput(toBytes(decoded)));
+        return node;
+    }
+
+    /**
+     * Creates a new node from a buffer holding the base64 encoded ASCII bytes (e.g. the {@code arraybuffer}
+     * response of an XHR). The buffer is decoded in place and read without any intermediate strings or arrays.
+     * <p>
+     * Please note that the buffer's content is modified by this method!
+     *
+     * @param encoded The buffer with the base64 encoded bytes.
+     *
+     * @return the new model node
+     */
+    @JsIgnore
+    public static ModelNode fromBase64(ArrayBuffer encoded) {
+        return fromBase64(encoded, false);
+    }
+
+    /**
+     * Creates a new node from a buffer holding the base64 encoded ASCII bytes. If {@code lazy == true}, objects and
+     * lists are not decoded until they're accessed for the first time. This saves memory and time for big payloads
+     * of which only a small part is used. The returned node behaves the same in both cases.
+     *
+     * @param encoded The buffer with the base64 encoded bytes.
+     * @param lazy    Whether to decode objects and lists on demand.
+     *
+     * @return the new model node
+     */
+    @JsIgnore
+    public static ModelNode fromBase64(ArrayBuffer encoded, boolean lazy) {
+        int length = Base64.decode(new Uint8Array(encoded));
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataViewInput(encoded, length), lazy);
         return node;
     }
 
@@ -1372,7 +1407,7 @@ public class ModelNode implements Cloneable {
     public String toBase64String() {
         DataOutput out = new DataOutput();
         writeExternal(out);
-        return Base64.encode(out.toString());
+        return out.toBase64();
     }
 
     /**
@@ -1474,6 +1509,16 @@ public class ModelNode implements Cloneable {
      * @param in the source from which the content should be read
      */
     void readExternal(DataInput in) {
+        readExternal(in, false);
+    }
+
+    /**
+     * Read this node's content in binary format from the given source.
+     *
+     * @param in   the source from which the content should be read
+     * @param lazy whether objects and lists should be materialized on first access only
+     */
+    void readExternal(DataInput in, boolean lazy) {
         checkProtect();
         byte[] b; // used by some of these
         try {
@@ -1508,16 +1553,16 @@ public class ModelNode implements Cloneable {
                     value = new IntModelValue(in.readInt());
                     return;
                 case LIST:
-                    value = new ListModelValue(in);
+                    value = new ListModelValue(in, lazy);
                     return;
                 case LONG:
                     value = new LongModelValue(in.readLong());
                     return;
                 case OBJECT:
-                    value = new ObjectModelValue(in);
+                    value = new ObjectModelValue(in, lazy);
                     return;
                 case PROPERTY:
-                    value = new PropertyModelValue(in);
+                    value = new PropertyModelValue(in, lazy);
                     return;
                 case STRING:
                     value = new StringModelValue(in.readUTF());
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -38,7 +39,9 @@ import org.jboss.hal.spi.EsReturn;
 import static com.google.common.base.CaseFormat.LOWER_HYPHEN;
 import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_INDEX;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 
 /**
  * Static helper methods for dealing with {@link ModelNode}s and {@link NamedNode}s. Some methods accept a path
@@ -159,6 +162,25 @@ public class ModelNodeHelper {
         }
     }
 
+    /**
+     * Turns the result of an operation executed on a wildcard address into a list of properties. The result is
+     * expected to be a list of model nodes with an {@code address} and a {@code result}. The name of the property is
+     * the last value of the address, the value is the result. Entries without a result are skipped.
+     */
+    @JsIgnore
+    public static List<Property> asPropertyList(ModelNode modelNode) {
+        List<Property> properties = new ArrayList<>();
+        if (modelNode.isDefined()) {
+            for (ModelNode node : modelNode.asList()) {
+                if (node.hasDefined(ADDRESS) && node.hasDefined(RESULT)) {
+                    ResourceAddress address = new ResourceAddress(node.get(ADDRESS));
+                    properties.add(new Property(address.lastValue(), node.get(RESULT)));
+                }
+            }
+        }
+        return properties;
+    }
+
     /**
      * Turns a list of properties into a list of named model nodes which contains a {@link
      * ModelDescriptionConstants#NAME} key with the properties name.
@@ -29,7 +29,10 @@ import java.util.Set;
  */
 class ObjectModelValue extends ModelValue {
 
-    private final Map<String, ModelNode> map;
+    private Map<String, ModelNode> map;
+    // set as long as a lazily decoded value hasn't been materialized
+    private DataInput in;
+    private int offset;
 
     ObjectModelValue() {
         super(ModelType.OBJECT);
@@ -41,22 +44,45 @@ class ObjectModelValue extends ModelValue {
         this.map = map;
     }
 
-    ObjectModelValue(DataInput in) {
+    /**
+     * Reads an object value. If {@code lazy == true} only the position of the value is recorded. The entries are
+     * read when the value is accessed for the first time. Nested objects and lists are decoded lazily as well.
+     */
+    ObjectModelValue(DataInput in, boolean lazy) {
         super(ModelType.OBJECT);
+        if (lazy) {
+            this.in = in;
+            this.offset = in.position();
+            in.skipObject();
+        } else {
+            this.map = read(in, false);
+        }
+    }
+
+    private static LinkedHashMap<String, ModelNode> read(DataInput in, boolean lazy) {
         int count = in.readInt();
         LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
         for (int i = 0; i < count; i++) {
             String key = in.readUTF();
             ModelNode value = new ModelNode();
-            value.readExternal(in);
+            value.readExternal(in, lazy);
             map.put(key, value);
         }
-        this.map = map;
+        return map;
+    }
+
+    private Map<String, ModelNode> map() {
+        if (in != null) {
+            in.seek(offset);
+            map = read(in, true);
+            in = null;
+        }
+        return map;
     }
 
     @Override
     void writeExternal(DataOutput out) {
-        Map<String, ModelNode> map = this.map;
+        Map<String, ModelNode> map = map();
         int size = map.size();
         out.writeInt(size);
         for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
@@ -67,7 +93,7 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
-        Map<String, ModelNode> map = this.map;
+        Map<String, ModelNode> map = map();
         for (ModelNode node : map.values()) {
             node.protect();
         }
@@ -84,12 +110,12 @@ class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
-        ModelNode node = map.get(name);
+        ModelNode node = map().get(name);
         if (node != null) {
             return node;
         }
         ModelNode newNode = new ModelNode();
-        map.put(name, newNode);
+        map().put(name, newNode);
         return newNode;
     }
 
@@ -98,11 +124,16 @@ class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
-        return map.remove(name);
+        return map().remove(name);
     }
 
     @Override
     int asInt() {
+        if (in != null) {
+            // no need to materialize the entries
+            in.seek(offset);
+            return in.readInt();
+        }
         return map.size();
     }
 
@@ -123,18 +154,18 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     boolean asBoolean() {
-        return !map.isEmpty();
+        return !map().isEmpty();
     }
 
     @Override
     boolean asBoolean(boolean defVal) {
-        return !map.isEmpty();
+        return !map().isEmpty();
     }
 
     @Override
     Property asProperty() {
-        if (map.size() == 1) {
-            Map.Entry<String, ModelNode> entry = map.entrySet().iterator().next();
+        if (map().size() == 1) {
+            Map.Entry<String, ModelNode> entry = map().entrySet().iterator().next();
             return new Property(entry.getKey(), entry.getValue());
         }
         return super.asProperty();
@@ -143,7 +174,7 @@ class ObjectModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         List<Property> propertyList = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             propertyList.add(new Property(entry.getKey(), entry.getValue()));
         }
         return propertyList;
@@ -161,7 +192,7 @@ class ObjectModelValue extends ModelValue {
 
     ModelValue copy(boolean resolve) {
         LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             newMap.put(entry.getKey(), resolve ? entry.getValue().resolve() : entry.getValue().clone());
         }
         return new ObjectModelValue(newMap);
@@ -170,7 +201,7 @@ class ObjectModelValue extends ModelValue {
     @Override
     List<ModelNode> asList() {
         ArrayList<ModelNode> nodes = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+        for (Map.Entry<String, ModelNode> entry : map().entrySet()) {
             ModelNode node = new ModelNode();
             node.set(entry.getKey(), entry.getValue());
             nodes.add(node);
@@ -180,7 +211,7 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     Set<String> getKeys() {
-        return map.keySet();
+        return map().keySet();
     }
 
     @Override
@@ -193,11 +224,11 @@ class ObjectModelValue extends ModelValue {
     @Override
     void format(StringBuilder builder, int indent, boolean multiLineRequested) {
         builder.append('{');
-        boolean multiLine = multiLineRequested && map.size() > 1;
+        boolean multiLine = multiLineRequested && map().size() > 1;
         if (multiLine) {
             indent(builder.append('\n'), indent + 1);
         }
-        Iterator<Map.Entry<String, ModelNode>> iterator = map.entrySet().iterator();
+        Iterator<Map.Entry<String, ModelNode>> iterator = map().entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<String, ModelNode> entry = iterator.next();
             builder.append(quote(entry.getKey()));
@@ -221,11 +252,11 @@ class ObjectModelValue extends ModelValue {
     @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
         builder.append('{');
-        boolean multiLine = multiLineRequested && map.size() > 1;
+        boolean multiLine = multiLineRequested && map().size() > 1;
         if (multiLine) {
             indent(builder.append('\n'), indent + 1);
         }
-        Iterator<Map.Entry<String, ModelNode>> iterator = map.entrySet().iterator();
+        Iterator<Map.Entry<String, ModelNode>> iterator = map().entrySet().iterator();
         while (iterator.hasNext()) {
             Map.Entry<String, ModelNode> entry = iterator.next();
             builder.append(quote(entry.getKey()));
@@ -266,22 +297,22 @@ class ObjectModelValue extends ModelValue {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ObjectModelValue other) {
-        return this == other || other != null && other.map.equals(map);
+        return this == other || other != null && other.map().equals(map());
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        return map().hashCode();
     }
 
     @Override
     boolean has(String key) {
-        return map.containsKey(key);
+        return map().containsKey(key);
     }
 
     @Override
     ModelNode requireChild(String name) throws NoSuchElementException {
-        ModelNode node = map.get(name);
+        ModelNode node = map().get(name);
         if (node != null) {
             return node;
         }
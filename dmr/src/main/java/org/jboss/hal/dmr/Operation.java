@@ -181,6 +181,8 @@ public class Operation extends ModelNode {
         private ModelNode parameter;
         private ModelNode header;
         private Set<String> roles;
+        private ModelNode select;
+        private ModelNode where;
 
         @JsIgnore
         public Builder(ResourceAddress address, String name) {
@@ -235,6 +237,67 @@ public class Operation extends ModelNode {
             return this;
         }
 
+        /**
+         * Restricts the result to the specified attributes. Turns a {@code read-resource} operation into a {@code
+         * query} operation. All parameters of the {@code read-resource} operation are dropped: The {@code query}
+         * operation always includes runtime attributes, but never includes child resources.
+         * <p>
+         * Use a wildcard address to read the selected attributes of all resources of a type. Use {@link
+         * ModelNodeHelper#asPropertyList(ModelNode)} to turn the result into a list of properties.
+         *
+         * @param attributes the attributes which should be part of the result
+         * @return this builder
+         */
+        @JsIgnore
+        public Builder select(String... attributes) {
+            assertReadResource();
+            if (select == null) {
+                select = new ModelNode();
+            }
+            for (String attribute : attributes) {
+                select.add(attribute);
+            }
+            return this;
+        }
+
+        /**
+         * Restricts the result to resources where the specified attribute has the specified value. Turns a {@code
+         * read-resource} operation into a {@code query} operation.
+         *
+         * @see #select(String...)
+         */
+        @JsIgnore
+        public Builder where(String attribute, String value) {
+            return where(attribute, new ModelNode().set(value));
+        }
+
+        /**
+         * Restricts the result to resources where the specified attribute has the specified value. Turns a {@code
+         * read-resource} operation into a {@code query} operation.
+         *
+         * @see #select(String...)
+         */
+        @JsIgnore
+        public Builder where(String attribute, boolean value) {
+            return where(attribute, new ModelNode().set(value));
+        }
+
+        private Builder where(String attribute, ModelNode value) {
+            assertReadResource();
+            if (where == null) {
+                where = new ModelNode();
+            }
+            where.get(attribute).set(value);
+            return this;
+        }
+
+        private void assertReadResource() {
+            if (!READ_RESOURCE_OPERATION.equals(name)) {
+                throw new IllegalStateException("Projections are only supported for " + READ_RESOURCE_OPERATION +
+                        ", but not for " + name);
+            }
+        }
+
         @JsIgnore
         public Builder header(String name, String value) {
             header.get(name).set(value);
@@ -263,6 +326,16 @@ public class Operation extends ModelNode {
          * @return builds and returns the operation
          */
         public Operation build() {
+            if (select != null || where != null) {
+                ModelNode query = new ModelNode();
+                if (select != null) {
+                    query.get(SELECT).set(select);
+                }
+                if (where != null) {
+                    query.get(WHERE).set(where);
+                }
+                return new Operation(QUERY, address, query, header, roles);
+            }
             return new Operation(name, address, parameter, header, roles);
         }
 
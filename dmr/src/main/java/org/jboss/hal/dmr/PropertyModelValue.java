@@ -41,11 +41,11 @@ class PropertyModelValue extends ModelValue {
         this.property = property;
     }
 
-    PropertyModelValue(DataInput in) {
+    PropertyModelValue(DataInput in, boolean lazy) {
         super(ModelType.PROPERTY);
         ModelNode node = new ModelNode();
         String name = in.readUTF();
-        node.readExternal(in);
+        node.readExternal(in, lazy);
         property = new Property(name, node);
     }
 
@@ -16,24 +16,31 @@
 package org.jboss.hal.dmr.dispatch;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
 import elemental2.dom.Blob;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.BlobPropertyBag;
 import elemental2.dom.File;
 import elemental2.dom.FormData;
 import elemental2.dom.FormData.AppendValueUnionType;
+import elemental2.dom.ProgressEvent;
 import elemental2.dom.XMLHttpRequest;
 import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Endpoints;
 import org.jboss.hal.config.Environment;
@@ -44,6 +51,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ReadBatcher.ReadRequest;
 import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessor.Header;
 import org.jboss.hal.dmr.macro.Action;
 import org.jboss.hal.dmr.macro.Macro;
@@ -60,12 +68,16 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Single;
+import rx.SingleEmitter;
 import rx.SingleSubscriber;
 
 import static com.google.common.collect.Sets.difference;
 import static elemental2.core.Global.encodeURIComponent;
 import static elemental2.dom.DomGlobal.navigator;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.stream.Collectors.joining;
+import static org.jboss.hal.config.Settings.Key.READ_BATCH_DELAY;
+import static org.jboss.hal.config.Settings.Key.READ_BATCH_SIZE;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
@@ -74,14 +86,30 @@ import static org.jboss.hal.dmr.dispatch.RequestHeader.ACCEPT;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.CONTENT_TYPE;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.X_MANAGEMENT_CLIENT_NAME;
 
-/** Executes operations against the management endpoint. */
+/**
+ * Executes operations against the management endpoint.
+ * <p>
+ * Identical read-only operations which are executed while the first one is still in flight are coalesced: They share
+ * one request and one decoded response. Each subscriber gets its own copy of the response. Operations which might
+ * have side effects are never coalesced.
+ * <p>
+ * If {@link Settings.Key#READ_BATCH_DELAY} is zero or greater, distinct read-only operations which are executed within
+ * that delay are sent as one composite. The result of each step is passed to the related caller. If one of the reads
+ * fails, the reads are executed again one by one, so that each caller gets its own result or failure. Macros always
+ * contain the original operations, no matter whether they were batched or not.
+ */
 @JsType(namespace = "hal.dmr")
 public class Dispatcher implements RecordingHandler {
 
     static final String APPLICATION_DMR_ENCODED = "application/dmr-encoded";
     static final String APPLICATION_JSON = "application/json";
+    static final String ARRAY_BUFFER = "arraybuffer";
 
     private static final String HEADER_MANAGEMENT_CLIENT_VALUE = "HAL";
+    private static final IntConsumer NO_SIZE = size -> {
+    };
+    private static final OnProgress NO_PROGRESS = (loaded, total) -> {
+    };
 
     private static final Logger logger = LoggerFactory.getLogger(Dispatcher.class);
 
@@ -102,6 +130,10 @@ public class Dispatcher implements RecordingHandler {
     private final Macros macros;
     private final OnFail failedCallback;
     private final OnError exceptionCallback;
+    private final List<OnModification> modificationHandlers;
+    private final Map<String, List<SingleEmitter<ModelNode>>> inFlight;
+    private final ReadBatcher readBatcher;
+    private int pendingRequests;
 
     @Inject
     @JsIgnore
@@ -114,6 +146,24 @@ public class Dispatcher implements RecordingHandler {
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
         this.macros = macros;
+        this.modificationHandlers = new ArrayList<>();
+        this.inFlight = new HashMap<>();
+        this.readBatcher = new ReadBatcher(
+                () -> settings.get(READ_BATCH_DELAY).asInt(Settings.DEFAULT_READ_BATCH_DELAY),
+                () -> settings.get(READ_BATCH_SIZE).asInt(Settings.DEFAULT_READ_BATCH_SIZE),
+                (flush, delay) -> setTimeout(o -> flush.run(), delay),
+                new ReadBatcher.Transport() {
+                    @Override
+                    public void execute(ReadRequest read) {
+                        send(endpoints.dmr(), read, false);
+                    }
+
+                    @Override
+                    public void execute(Composite composite, Consumer<ModelNode> success, Consumer<String> failure,
+                            Consumer<Throwable> error, Runnable done) {
+                        sendBatch(endpoints.dmr(), composite, success, failure, error, done);
+                    }
+                });
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
         this.failedCallback = (operation, failure) -> {
@@ -156,6 +206,16 @@ public class Dispatcher implements RecordingHandler {
         return dmr(operations).map(payload -> compositeResult(payload));
     }
 
+    /**
+     * Executes the composite and reports the size of the (base64 encoded) response payload in bytes. Use this method
+     * to tune the size of composites which return big payloads.
+     */
+    @JsIgnore
+    public Single<CompositeResult> executeAndMeasure(Composite operations, IntConsumer responseSize) {
+        //noinspection Convert2MethodRef
+        return dmr(operations, responseSize).map(payload -> compositeResult(payload));
+    }
+
     private CompositeResult compositeResult(ModelNode payload) {
         return new CompositeResult(payload.get(RESULT));
     }
@@ -201,22 +261,110 @@ public class Dispatcher implements RecordingHandler {
     }
 
     private Single<ModelNode> dmr(Operation operation) {
+        return dmr(operation, NO_SIZE);
+    }
+
+    private Single<ModelNode> dmr(Operation operation, IntConsumer responseSize) {
         Operation dmrOperation = runAs(operation); // runAs might mutate the operation, so do it synchronously
+        String payload = dmrOperation.toBase64String(); // used as request body and to coalesce identical reads
         String url = endpoints.dmr();
         // ^-- those eager fields are useful if we don't want to evaluate it on each Single subscription
-        return Single.fromEmitter(emitter -> {
-            // in general, code inside the RX type should be able to be executed multiple times and always returns
-            // the same result, so we need to be careful to not mutate anything (like the operation). This is useful
-            // for example if we want to use the retry operator which will try again (subscribe again) if it fails.
-            XMLHttpRequest xhr = newDmrXhr(url, dmrOperation, new DmrPayloadProcessor(), emitter::onSuccess,
-                    (op, fail) -> emitter.onError(new DispatchFailure(fail, operation)),
-                    (op, error) -> emitter.onError(error));
-            xhr.setRequestHeader(ACCEPT.header(), APPLICATION_DMR_ENCODED);
-            xhr.setRequestHeader(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
-            xhr.send(dmrOperation.toBase64String());
-            logger.trace("DMR operation: {}", operation);
+        if (responseSize == NO_SIZE && readOnlyOperation(operation)) {
+            String key = payload + ReadBatcher.roles(dmrOperation.getRoles());
+            return Single.fromEmitter(emitter -> {
+                List<SingleEmitter<ModelNode>> subscribers = inFlight.get(key);
+                if (subscribers != null) {
+                    // an identical read operation is already in flight: share its response
+                    subscribers.add(emitter);
+                    logger.trace("DMR operation (coalesced): {}", operation);
+                    recordOperation(operation);
+                } else {
+                    List<SingleEmitter<ModelNode>> coalesced = new ArrayList<>();
+                    coalesced.add(emitter);
+                    inFlight.put(key, coalesced);
+                    Consumer<ModelNode> success = response -> {
+                        inFlight.remove(key);
+                        // each subscriber gets its own copy of the decoded response: clone it before the first
+                        // subscriber is able to modify it and pass the original to the last subscriber
+                        int last = coalesced.size() - 1;
+                        List<ModelNode> copies = new ArrayList<>();
+                        for (int i = 0; i < last; i++) {
+                            copies.add(response.clone());
+                        }
+                        copies.add(response);
+                        for (int i = 0; i < coalesced.size(); i++) {
+                            coalesced.get(i).onSuccess(copies.get(i));
+                        }
+                    };
+                    Consumer<Throwable> error = throwable -> {
+                        inFlight.remove(key);
+                        for (SingleEmitter<ModelNode> e : coalesced) {
+                            e.onError(throwable);
+                        }
+                    };
+                    // make sure the operation is no longer in flight, even if no callback was called (e.g. while
+                    // there's a pending lifecycle action)
+                    Runnable done = () -> {
+                        if (inFlight.get(key) == coalesced) {
+                            inFlight.remove(key);
+                        }
+                    };
+                    ReadRequest read = new ReadRequest(operation, dmrOperation, payload, success, error, done);
+                    if (!(operation instanceof Composite) && readBatcher.isEnabled()) {
+                        logger.trace("DMR operation (batched): {}", operation);
+                        // record the original operation, so that macros are the same with and without batching
+                        recordOperation(operation);
+                        readBatcher.add(read);
+                    } else {
+                        send(url, read, true);
+                    }
+                }
+            });
+        }
+        return Single.fromEmitter(emitter -> send(url, operation, dmrOperation, payload, responseSize,
+                emitter::onSuccess, emitter::onError, true));
+    }
+
+    private void send(String url, ReadRequest read, boolean record) {
+        XMLHttpRequest xhr = send(url, read.operation, read.dmrOperation, read.payload, NO_SIZE, read.success,
+                read.error, record);
+        xhr.addEventListener("loadend", event -> read.done.run(), false); //NON-NLS
+    }
+
+    private XMLHttpRequest send(String url, Operation operation, Operation dmrOperation, String payload,
+            IntConsumer responseSize, Consumer<ModelNode> success, Consumer<Throwable> error, boolean record) {
+        // in general, code inside the RX type should be able to be executed multiple times and always returns
+        // the same result, so we need to be careful to not mutate anything (like the operation). This is useful
+        // for example if we want to use the retry operator which will try again (subscribe again) if it fails.
+        XMLHttpRequest xhr = newDmrXhr(url, dmrOperation, new DmrPayloadProcessor(), responseSize, success,
+                (op, fail) -> error.accept(new DispatchFailure(fail, operation)),
+                (op, exception) -> error.accept(exception));
+        post(xhr, payload);
+        logger.trace("DMR operation: {}", operation);
+        if (record) {
             recordOperation(operation);
-        });
+        }
+        return xhr;
+    }
+
+    private void post(XMLHttpRequest xhr, String payload) {
+        xhr.setRequestHeader(ACCEPT.header(), APPLICATION_DMR_ENCODED);
+        xhr.setRequestHeader(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
+        // read the response as binary and decode it straight from the buffer
+        xhr.responseType = ARRAY_BUFFER;
+        xhr.send(payload);
+    }
+
+
+    // ------------------------------------------------------ read batches
+
+    private void sendBatch(String url, Composite composite, Consumer<ModelNode> success, Consumer<String> failure,
+            Consumer<Throwable> error, Runnable done) {
+        XMLHttpRequest xhr = newDmrXhr(url, composite, new DmrPayloadProcessor(), NO_SIZE, success,
+                (op, fail) -> failure.accept(fail),
+                (op, exception) -> error.accept(exception));
+        xhr.addEventListener("loadend", event -> done.run(), false); //NON-NLS
+        post(xhr, composite.toBase64String());
     }
 
 
@@ -244,6 +392,15 @@ public class Dispatcher implements RecordingHandler {
 
     @JsIgnore
     public Single<ModelNode> upload(File file, Operation operation) {
+        return upload(file, operation, NO_PROGRESS);
+    }
+
+    /**
+     * Uploads the file and reports the number of bytes sent so far to the specified callback. The callback is called
+     * from the {@code progress} events of the upload and once with the total size when the upload has finished.
+     */
+    @JsIgnore
+    public Single<ModelNode> upload(File file, Operation operation, OnProgress progress) {
         Operation uploadOperation = runAs(operation);
 
         ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
@@ -261,15 +418,28 @@ public class Dispatcher implements RecordingHandler {
             formData.append(file.name, AppendValueUnionType.of(file));
         }
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[]{blob}, options));
-        return uploadFormData(formData, uploadOperation).map(payload -> payload.get(RESULT));
+        return uploadFormData(formData, uploadOperation, file.size, progress).map(payload -> payload.get(RESULT));
     }
 
-    private Single<ModelNode> uploadFormData(FormData formData, Operation operation) {
+    private Single<ModelNode> uploadFormData(FormData formData, Operation operation, double size,
+            OnProgress progress) {
         return Single.fromEmitter(emitter -> {
-            XMLHttpRequest xhr = newDmrXhr(endpoints.upload(), operation, new UploadPayloadProcessor(),
-                    emitter::onSuccess,
+            XMLHttpRequest xhr = newDmrXhr(endpoints.upload(), operation, new UploadPayloadProcessor(), NO_SIZE,
+                    payload -> {
+                        progress.onProgress(size, size);
+                        emitter.onSuccess(payload);
+                    },
                     (op, fail) -> emitter.onError(new DispatchFailure(fail, operation)),
                     (op, error) -> emitter.onError(error));
+            if (progress != NO_PROGRESS) {
+                // the form data contains the operation as well: scale the sent bytes down to the file size
+                xhr.upload.addEventListener("progress", event -> { //NON-NLS
+                    ProgressEvent progressEvent = Js.uncheckedCast(event);
+                    if (progressEvent.lengthComputable && progressEvent.total > 0) {
+                        progress.onProgress(Math.min(size, size * progressEvent.loaded / progressEvent.total), size);
+                    }
+                }, false);
+            }
             xhr.send(formData);
             logger.trace("DMR operation: {}", operation);
             // Uploads are not supported in macros!
@@ -305,6 +475,24 @@ public class Dispatcher implements RecordingHandler {
     }
 
 
+    // ------------------------------------------------------ modifications
+
+    /** @return the number of requests which have been sent, but not yet completed */
+    @JsIgnore
+    public int pendingRequests() {
+        return pendingRequests;
+    }
+
+    /**
+     * Registers a handler which is called for each operation which has been executed successfully and which is not
+     * read-only.
+     */
+    @JsIgnore
+    public void addModificationHandler(OnModification handler) {
+        modificationHandlers.add(handler);
+    }
+
+
     // ------------------------------------------------------ run-as and urls
 
     private Operation runAs(Operation operation) {
@@ -357,14 +545,26 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ xhr
 
     private XMLHttpRequest newDmrXhr(String url, Operation operation, PayloadProcessor payloadProcessor,
-            Consumer<ModelNode> success, OnFail fail, OnError error) {
+            IntConsumer responseSize, Consumer<ModelNode> success, OnFail fail, OnError error) {
         return newXhr(url, POST, operation, error, xhr -> {
             int status = xhr.status;
-            String responseText = xhr.responseText;
             String contentType = xhr.getResponseHeader(CONTENT_TYPE.header());
 
             if (status == 200 || status == 500) {
-                ModelNode payload = payloadProcessor.processPayload(POST, contentType, responseText);
+                ModelNode payload;
+                if (ARRAY_BUFFER.equals(xhr.responseType)) {
+                    ArrayBuffer buffer = Js.uncheckedCast(xhr.response);
+                    if (responseSize != NO_SIZE) {
+                        responseSize.accept(new Uint8Array(buffer).getLength());
+                    }
+                    payload = payloadProcessor.processPayload(POST, contentType, buffer);
+                } else {
+                    String responseText = xhr.responseText;
+                    if (responseSize != NO_SIZE) {
+                        responseSize.accept(responseText.length());
+                    }
+                    payload = payloadProcessor.processPayload(POST, contentType, responseText);
+                }
                 if (!payload.isFailure()) {
                     if (environment.isStandalone()) {
                         if (payload.hasDefined(RESPONSE_HEADERS)) {
@@ -383,6 +583,11 @@ public class Dispatcher implements RecordingHandler {
                             }
                         }
                     }
+                    if (!modificationHandlers.isEmpty() && !readOnlyOperation(operation)) {
+                        for (OnModification handler : modificationHandlers) {
+                            handler.onModification(operation);
+                        }
+                    }
                     success.accept(payload);
                 } else {
                     fail.onFailed(operation, payload.getFailureDescription());
@@ -402,6 +607,8 @@ public class Dispatcher implements RecordingHandler {
         xhr.onload = event -> onLoad.onLoad(xhr);
         xhr.addEventListener("error",  //NON-NLS
                 event -> handleErrorCodes(url, xhr.status, operation, error), false);
+        xhr.addEventListener("loadstart", event -> pendingRequests++, false); //NON-NLS
+        xhr.addEventListener("loadend", event -> pendingRequests--, false); //NON-NLS
         xhr.open(method.name(), url, true);
         xhr.setRequestHeader(X_MANAGEMENT_CLIENT_NAME.header(), HEADER_MANAGEMENT_CLIENT_VALUE);
         String bearerToken = getBearerToken();
@@ -506,7 +713,7 @@ public class Dispatcher implements RecordingHandler {
         if (operation instanceof Composite) {
             Composite composite = (Composite) operation;
             for (Operation op : composite) {
-                if (!op.getName().startsWith("read")) {
+                if (!readOnlyOperation(op)) {
                     return false;
                 }
             }
@@ -574,6 +781,25 @@ public class Dispatcher implements RecordingHandler {
     }
 
 
+    @FunctionalInterface
+    public interface OnModification {
+
+        /** @param operation the operation (a single operation or a composite) which might have modified the model */
+        void onModification(Operation operation);
+    }
+
+
+    @FunctionalInterface
+    public interface OnProgress {
+
+        /**
+         * @param loaded the number of bytes of the file which have been sent so far
+         * @param total  the size of the file in bytes
+         */
+        void onProgress(double loaded, double total);
+    }
+
+
     @FunctionalInterface
     private interface OnLoad {
 
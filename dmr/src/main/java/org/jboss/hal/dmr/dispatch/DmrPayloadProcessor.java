@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.function.Supplier;
+
+import elemental2.core.ArrayBuffer;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 
@@ -23,12 +26,42 @@ import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
 public class DmrPayloadProcessor implements PayloadProcessor {
 
+    private final boolean lazy;
+
+    /** Creates a processor which decodes binary payloads completely. */
+    public DmrPayloadProcessor() {
+        this(false);
+    }
+
+    /**
+     * Creates a processor which optionally decodes binary payloads lazily. Lazy decoding only pays off if just a
+     * small part of the response is read: Each materialized level skips over its subtree again and decode errors of
+     * deferred levels surface only when they're accessed.
+     */
+    DmrPayloadProcessor(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
+        return process(method, contentType, () -> ModelNode.fromBase64(payload));
+    }
+
+    /**
+     * Processes a payload which was received as {@code arraybuffer}. The payload is decoded straight from the buffer
+     * without converting it to a string. Objects and lists are materialized when they're accessed only if this
+     * processor was created as lazy processor.
+     */
+    @Override
+    public ModelNode processPayload(final HttpMethod method, final String contentType, final ArrayBuffer payload) {
+        return process(method, contentType, () -> ModelNode.fromBase64(payload, lazy));
+    }
+
+    private ModelNode process(HttpMethod method, String contentType, Supplier<ModelNode> decoder) {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                node = decoder.get();
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
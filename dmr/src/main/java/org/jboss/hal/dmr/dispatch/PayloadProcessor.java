@@ -15,8 +15,12 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
 import org.jboss.hal.dmr.ModelNode;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /** Interface to turn the raw base64 encoded payload of a DMR response into a model node. */
 @FunctionalInterface
 interface PayloadProcessor {
@@ -24,4 +28,17 @@ interface PayloadProcessor {
     String PARSE_ERROR = "Unable to parse response with unexpected content-type ";
 
     ModelNode processPayload(Dispatcher.HttpMethod method, String contentType, String payload);
+
+    /**
+     * Turns a payload which was received as {@code arraybuffer} into a model node. The default implementation decodes
+     * the buffer as UTF-8 string and delegates to {@link #processPayload(Dispatcher.HttpMethod, String, String)}.
+     */
+    default ModelNode processPayload(Dispatcher.HttpMethod method, String contentType, ArrayBuffer payload) {
+        Uint8Array data = new Uint8Array(payload);
+        byte[] bytes = new byte[data.getLength()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) data.getAt(i).intValue();
+        }
+        return processPayload(method, contentType, new String(bytes, UTF_8));
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Queues read operations and executes them as composites. Used by the {@link Dispatcher} if read batching is
+ * enabled. The batcher doesn't know anything about XHR or timers: Requests are executed by a {@link Transport} and
+ * the queue is flushed by a {@link Scheduler}.
+ * <p>
+ * Reads are grouped by their run-as roles, so that each composite is executed with the roles of its steps. Each group
+ * is split into composites of at most {@code batchSize} steps. The result of each step is passed to the related
+ * read. One failed step fails the whole composite: In that case the reads of the composite are executed again one by
+ * one, so that each read gets its own result or failure.
+ */
+class ReadBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadBatcher.class);
+
+    private final IntSupplier delay;
+    private final IntSupplier batchSize;
+    private final Scheduler scheduler;
+    private final Transport transport;
+    private final List<ReadRequest> queue;
+
+    /**
+     * @param delay     the delay in milliseconds before the queue is flushed. A negative value disables batching.
+     * @param batchSize the maximum number of steps in one composite
+     */
+    ReadBatcher(IntSupplier delay, IntSupplier batchSize, Scheduler scheduler, Transport transport) {
+        this.delay = delay;
+        this.batchSize = batchSize;
+        this.scheduler = scheduler;
+        this.transport = transport;
+        this.queue = new ArrayList<>();
+    }
+
+    boolean isEnabled() {
+        return delay.getAsInt() >= 0;
+    }
+
+    void add(ReadRequest read) {
+        queue.add(read);
+        if (queue.size() == 1) {
+            scheduler.schedule(this::flush, Math.max(0, delay.getAsInt()));
+        }
+    }
+
+    void flush() {
+        Map<String, List<ReadRequest>> groups = new LinkedHashMap<>();
+        for (ReadRequest read : queue) {
+            groups.computeIfAbsent(roles(read.dmrOperation.getRoles()), roles -> new ArrayList<>()).add(read);
+        }
+        queue.clear();
+
+        int max = Math.max(1, batchSize.getAsInt());
+        for (List<ReadRequest> group : groups.values()) {
+            for (int i = 0; i < group.size(); i += max) {
+                List<ReadRequest> batch = group.subList(i, Math.min(i + max, group.size()));
+                if (batch.size() == 1) {
+                    transport.execute(batch.get(0));
+                } else {
+                    execute(batch);
+                }
+            }
+        }
+    }
+
+    private void execute(List<ReadRequest> reads) {
+        Composite composite = new Composite(reads.stream().map(read -> read.operation).collect(toList()));
+        Set<String> roles = reads.get(0).dmrOperation.getRoles();
+        if (!roles.isEmpty()) {
+            composite = composite.runAs(roles);
+        }
+        boolean[] oneByOne = new boolean[]{false};
+        transport.execute(composite,
+                payload -> {
+                    CompositeResult result = new CompositeResult(payload.get(RESULT));
+                    for (int i = 0; i < reads.size(); i++) {
+                        reads.get(i).success.accept(result.step(i));
+                    }
+                },
+                failure -> {
+                    logger.debug("Batch of {} reads failed: {}. Execute reads one by one.", reads.size(), failure);
+                    oneByOne[0] = true;
+                    for (ReadRequest read : reads) {
+                        transport.execute(read);
+                    }
+                },
+                error -> {
+                    for (ReadRequest read : reads) {
+                        read.error.accept(error);
+                    }
+                },
+                () -> {
+                    // the reads executed one by one are done once their own requests are done
+                    if (!oneByOne[0]) {
+                        for (ReadRequest read : reads) {
+                            read.done.run();
+                        }
+                    }
+                });
+        logger.trace("DMR operation (batch of {} reads): {}", reads.size(), composite);
+    }
+
+    static String roles(Set<String> roles) {
+        return roles.stream().sorted().collect(joining(","));
+    }
+
+
+    /** Flushes the queue after the specified delay. */
+    @FunctionalInterface
+    interface Scheduler {
+
+        void schedule(Runnable flush, int delay);
+    }
+
+
+    interface Transport {
+
+        /** Executes a single read. Must call the callbacks and {@code done} of the read. */
+        void execute(ReadRequest read);
+
+        /**
+         * Executes the composite and calls exactly one of the callbacks. Calls {@code done} when the request has
+         * completed, no matter if a callback was called or not.
+         */
+        void execute(Composite composite, Consumer<ModelNode> success, Consumer<String> failure,
+                Consumer<Throwable> error, Runnable done);
+    }
+
+
+    static class ReadRequest {
+
+        final Operation operation;
+        final Operation dmrOperation;
+        final String payload;
+        final Consumer<ModelNode> success;
+        final Consumer<Throwable> error;
+        final Runnable done;
+
+        /**
+         * @param operation    the operation as passed to the dispatcher
+         * @param dmrOperation the operation incl. the run-as roles
+         * @param payload      the base64 encoded {@code dmrOperation}
+         * @param success      receives the response of the operation (a node with outcome and result)
+         * @param error        receives a {@link DispatchFailure} or an exception
+         * @param done         called when the request has completed
+         */
+        ReadRequest(Operation operation, Operation dmrOperation, String payload, Consumer<ModelNode> success,
+                Consumer<Throwable> error, Runnable done) {
+            this.operation = operation;
+            this.dmrOperation = dmrOperation;
+            this.payload = payload;
+            this.success = success;
+            this.error = error;
+            this.done = done;
+        }
+    }
+}
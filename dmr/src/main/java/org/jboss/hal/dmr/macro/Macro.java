@@ -17,6 +17,7 @@ package org.jboss.hal.dmr.macro;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.Operation;
@@ -29,6 +30,9 @@ public class Macro {
     private String name;
     private String description;
     private List<Operation> operations;
+    private Function<Macro, List<Operation>> loader;
+    private int operationCount;
+    private int size;
     private boolean sealed;
 
     public Macro(String name, String description) {
@@ -38,6 +42,20 @@ public class Macro {
         this.sealed = false;
     }
 
+    /**
+     * Creates a sealed macro whose operations are loaded on first access. Used for stored macros which are listed
+     * before they're opened or played.
+     */
+    Macro(String name, String description, int operationCount, int size, Function<Macro, List<Operation>> loader) {
+        this.name = name;
+        this.description = description;
+        this.operations = null;
+        this.loader = loader;
+        this.operationCount = operationCount;
+        this.size = size;
+        this.sealed = true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -90,10 +108,22 @@ public class Macro {
     }
 
     public List<Operation> getOperations() {
+        if (operations == null) {
+            operations = loader.apply(this);
+            loader = null;
+        }
         return operations;
     }
 
+    /** @return whether the operations of a stored macro have been loaded */
+    boolean isLoaded() {
+        return operations != null;
+    }
+
     public int getOperationCount() {
+        if (operations == null) {
+            return operationCount;
+        }
         int count = 0;
         for (Operation operation : operations) {
             count += operation instanceof Composite ? ((Composite) operation).size() : 1;
@@ -101,6 +131,15 @@ public class Macro {
         return count;
     }
 
+    /** @return the size of the serialized macro in bytes or 0 if the macro has not been stored yet */
+    public int getSize() {
+        return size;
+    }
+
+    void setSize(int size) {
+        this.size = size;
+    }
+
     public String asCli() {
         return getOperations().stream().map(Operation::asCli).collect(joining("\n"));
     }
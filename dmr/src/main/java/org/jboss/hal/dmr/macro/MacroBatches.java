@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.macro;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.gwt.regexp.shared.MatchResult;
+import com.google.gwt.regexp.shared.RegExp;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * Groups the operations of a macro into batches which can be executed as one {@link Composite}. The operations keep
+ * their recorded order. A new batch is started if
+ * <ul>
+ * <li>the current batch reached the maximum batch size</li>
+ * <li>the operation cannot be part of a composite (lifecycle operations like {@code reload} or operations with
+ * their own operation headers)</li>
+ * <li>the operation is a recorded composite</li>
+ * <li>the operation is not a plain model write and targets a resource which was added in the current batch (e.g.
+ * {@code :test-connection-in-pool} right after {@code :add}). The services of an added resource are not available
+ * before the composite has been completed.</li>
+ * </ul>
+ */
+public final class MacroBatches {
+
+    /** Operations which modify the model only and can therefore follow an {@code :add} in the same composite. */
+    private static final Set<String> MODEL_WRITES = ImmutableSet.of(ADD, REMOVE,
+            WRITE_ATTRIBUTE_OPERATION, UNDEFINE_ATTRIBUTE_OPERATION,
+            LIST_ADD_OPERATION, LIST_REMOVE_OPERATION, LIST_CLEAR_OPERATION,
+            MAP_PUT_OPERATION, MAP_REMOVE_OPERATION, MAP_CLEAR_OPERATION);
+
+    /** Operations which must not be part of a composite. */
+    private static final Set<String> STANDALONE_OPERATIONS = ImmutableSet.of(RELOAD, RESTART, SHUTDOWN,
+            SUSPEND, RESUME, START, STOP, KILL, DESTROY,
+            RELOAD_SERVERS, RESTART_SERVERS, SUSPEND_SERVERS, RESUME_SERVERS, START_SERVERS, STOP_SERVERS,
+            KILL_SERVERS, DESTROY_SERVERS);
+
+    private static final RegExp FAILED_STEP = RegExp.compile("step-(\\d+)"); //NON-NLS
+
+    /**
+     * Splits the operations into batches of at most {@code maxBatchSize} operations.
+     *
+     * @param operations   the recorded operations
+     * @param maxBatchSize the maximum number of operations in one batch. Values less than one are treated as one.
+     *
+     * @return the batches in the order of execution
+     */
+    public static List<List<Operation>> batches(List<Operation> operations, int maxBatchSize) {
+        int max = Math.max(1, maxBatchSize);
+        List<List<Operation>> batches = new ArrayList<>();
+        List<Operation> batch = new ArrayList<>();
+        List<ResourceAddress> added = new ArrayList<>();
+
+        for (Operation operation : operations) {
+            if (standalone(operation)) {
+                flush(batches, batch, added);
+                List<Operation> single = new ArrayList<>();
+                single.add(operation);
+                batches.add(single);
+
+            } else {
+                if (batch.size() == max || dependsOnAdded(operation, added)) {
+                    flush(batches, batch, added);
+                }
+                batch.add(operation);
+                if (ADD.equals(operation.getName())) {
+                    added.add(operation.getAddress());
+                }
+            }
+        }
+        flush(batches, batch, added);
+        return batches;
+    }
+
+    /** @return the number of operations incl. the steps of recorded composites */
+    public static int operationCount(List<Operation> batch) {
+        int count = 0;
+        for (Operation operation : batch) {
+            count += operation instanceof Composite ? ((Composite) operation).size() : 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the zero-based index of the first failed step mentioned in the failure description of a composite or
+     * -1 if no step could be found.
+     */
+    public static int failedStep(String failureDescription) {
+        if (failureDescription != null) {
+            MatchResult result = FAILED_STEP.exec(failureDescription);
+            if (result != null) {
+                return Integer.parseInt(result.getGroup(1)) - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean standalone(Operation operation) {
+        return operation instanceof Composite
+                || STANDALONE_OPERATIONS.contains(operation.getName())
+                || hasHeaders(operation);
+    }
+
+    /** Operation headers of steps are ignored by composites. Roles are applied to the composite as a whole. */
+    private static boolean hasHeaders(Operation operation) {
+        ModelNode header = operation.getHeader();
+        if (header != null && header.isDefined()) {
+            for (String key : header.keys()) {
+                if (!ROLES.equals(key)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean dependsOnAdded(Operation operation, List<ResourceAddress> added) {
+        if (!MODEL_WRITES.contains(operation.getName())) {
+            String address = operation.getAddress().toString();
+            for (ResourceAddress resourceAddress : added) {
+                String prefix = resourceAddress.toString();
+                if (address.equals(prefix) || address.startsWith(prefix + "/")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void flush(List<List<Operation>> batches, List<Operation> batch, List<ResourceAddress> added) {
+        if (!batch.isEmpty()) {
+            batches.add(new ArrayList<>(batch));
+            batch.clear();
+        }
+        added.clear();
+    }
+
+    private MacroBatches() {
+    }
+}
@@ -18,8 +18,11 @@ package org.jboss.hal.dmr.macro;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import elemental2.webstorage.Storage;
 import elemental2.webstorage.WebStorageWindow;
@@ -28,13 +31,23 @@ import org.jboss.hal.dmr.ModelDescriptionConstants;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static elemental2.dom.DomGlobal.window;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
-/** Repository for macros. */
+/**
+ * Repository for macros. The macros are stored in the local storage. Besides the macros, a small index with the name,
+ * description, number of operations and size of each macro is stored. When the console starts, only the index is
+ * read. The operations of a macro are decoded when the macro is opened or played.
+ */
 public class Macros {
 
+    private static final Logger logger = LoggerFactory.getLogger(Macros.class);
+    private static final String OPERATION_COUNT = "operation-count";
+    private static final String SIZE = "size";
+
     private final Map<String, Macro> macros;
     private final Storage storage;
     private Macro current;
@@ -48,12 +61,24 @@ public class Macros {
     private Map<String, Macro> load() {
         Map<String, Macro> macros = new HashMap<>();
         if (storage != null) {
-            for (int i = 0; i < storage.getLength(); i++) {
-                String key = storage.key(i);
-                if (key.startsWith(Ids.MACRO_STORAGE)) {
-                    Macro macro = deserialize(storage.getItem(key));
+            String index = storage.getItem(Ids.MACRO_INDEX);
+            if (index != null) {
+                for (ModelNode entry : ModelNode.fromBase64(index).asList()) {
+                    Macro macro = fromIndex(entry, this::loadOperations);
                     macros.put(macro.getName(), macro);
                 }
+            } else {
+                // no index yet: decode all macros once and create the index
+                for (int i = 0; i < storage.getLength(); i++) {
+                    String key = storage.key(i);
+                    if (key.startsWith(Ids.MACRO_STORAGE)) {
+                        String base64 = storage.getItem(key);
+                        Macro macro = deserialize(base64);
+                        macro.setSize(base64.length());
+                        macros.put(macro.getName(), macro);
+                    }
+                }
+                storeIndex(macros);
             }
         }
         current = null;
@@ -61,30 +86,100 @@ public class Macros {
         return macros;
     }
 
+    private List<Operation> loadOperations(Macro macro) {
+        String base64 = storage != null ? storage.getItem(macro.getId()) : null;
+        if (base64 == null) {
+            // removed in another tab or by hand: the index entry is stale
+            logger.error("Unable to load operations of macro {}: No data found in local storage", macro.getName());
+            if (macros.remove(macro.getName()) != null) {
+                storeIndex(macros);
+            }
+            throw new IllegalStateException("Macro " + macro.getName() + " not found in local storage");
+        }
+        return operations(ModelNode.fromBase64(base64));
+    }
+
+    /**
+     * Writes the index of the specified macros. Other tabs share the local storage and keep their own macros in
+     * memory, so the stored index is merged first: Stored entries which are unknown to this tab are added, entries
+     * whose macro is no longer in the local storage are dropped.
+     */
+    private void storeIndex(Map<String, Macro> macros) {
+        if (storage != null) {
+            Set<String> keys = new HashSet<>();
+            for (int i = 0; i < storage.getLength(); i++) {
+                String key = storage.key(i);
+                if (key.startsWith(Ids.MACRO_STORAGE)) {
+                    keys.add(key);
+                }
+            }
+            String stored = storage.getItem(Ids.MACRO_INDEX);
+            if (stored != null) {
+                for (ModelNode entry : ModelNode.fromBase64(stored).asList()) {
+                    String name = entry.get(NAME).asString();
+                    if (!macros.containsKey(name)) {
+                        Macro macro = fromIndex(entry, this::loadOperations);
+                        if (keys.contains(macro.getId())) {
+                            macros.put(name, macro);
+                        }
+                    }
+                }
+            }
+            macros.values().removeIf(macro -> !keys.contains(macro.getId()));
+
+            ModelNode index = new ModelNode().setEmptyList();
+            for (Macro macro : macros.values()) {
+                index.add(indexEntry(macro));
+            }
+            storage.setItem(Ids.MACRO_INDEX, index.toBase64String());
+        }
+    }
+
+    static ModelNode indexEntry(Macro macro) {
+        ModelNode entry = new ModelNode();
+        entry.get(NAME).set(macro.getName());
+        if (macro.getDescription() != null) {
+            entry.get(DESCRIPTION).set(macro.getDescription());
+        }
+        entry.get(OPERATION_COUNT).set(macro.getOperationCount());
+        entry.get(SIZE).set(macro.getSize());
+        return entry;
+    }
+
+    static Macro fromIndex(ModelNode entry, Function<Macro, List<Operation>> loader) {
+        String description = entry.hasDefined(DESCRIPTION) ? entry.get(DESCRIPTION).asString() : null;
+        return new Macro(entry.get(NAME).asString(), description, entry.get(OPERATION_COUNT).asInt(0),
+                entry.get(SIZE).asInt(0), loader);
+    }
+
     private Macro deserialize(String base64) {
         ModelNode modelNode = ModelNode.fromBase64(base64);
         String name = modelNode.get(NAME).asString();
         String description = modelNode.get(DESCRIPTION).asString();
         Macro macro = new Macro(name, description);
+        operations(modelNode).forEach(macro::addOperation);
+        macro.seal();
+        return macro;
+    }
 
+    private List<Operation> operations(ModelNode modelNode) {
         List<ModelNode> operations = modelNode.get(ModelDescriptionConstants.OPERATIONS).asList();
+        List<Operation> macroOperations = new ArrayList<>(operations.size());
         for (ModelNode operation : operations) {
 
             if (COMPOSITE.equals(operation.get(OP).asString())) {
                 List<ModelNode> steps = operation.get(STEPS).asList();
-                List<Operation> macroOperations = new ArrayList<>(steps.size());
+                List<Operation> compositeOperations = new ArrayList<>(steps.size());
                 for (ModelNode step : steps) {
-                    macroOperations.add(new Operation(step));
+                    compositeOperations.add(new Operation(step));
                 }
-                macro.addOperation(new Composite(macroOperations));
+                macroOperations.add(new Composite(compositeOperations));
 
             } else {
-                macro.addOperation(new Operation(operation));
+                macroOperations.add(new Operation(operation));
             }
         }
-
-        macro.seal();
-        return macro;
+        return macroOperations;
     }
 
     private String serialize(Macro macro) {
@@ -103,8 +198,8 @@ public class Macros {
         macros.remove(macro.getName());
         if (storage != null) {
             storage.removeItem(macro.getId());
+            storeIndex(macros);
         }
-
     }
 
     public int size() {
@@ -137,7 +232,10 @@ public class Macros {
             current.seal();
             macros.put(current.getName(), current);
             if (storage != null) {
-                storage.setItem(current.getId(), serialize(current));
+                String base64 = serialize(current);
+                current.setSize(base64.length());
+                storage.setItem(current.getId(), base64);
+                storeIndex(macros);
             }
 
             current = null;
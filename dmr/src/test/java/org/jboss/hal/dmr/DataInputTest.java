@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/** Verifies that {@link DataInput} reads the bytes written by {@code org.jboss.dmr.ModelNode.writeExternal()}. */
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class DataInputTest {
+
+    @Test
+    public void longs() {
+        long[] values = {0, 1, -1, 42, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE,
+                Long.MIN_VALUE, 0xFFFFFFFFL, 0x80000000L};
+        for (long value : values) {
+            assertEquals(value, ExternalModelNode.convert(new org.jboss.dmr.ModelNode(value)).asLong());
+        }
+    }
+
+    @Test
+    public void doubles() {
+        double[] values = {0.0, -0.0, 1.5, -1.5, Math.PI, Double.MAX_VALUE, Double.MIN_VALUE,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double value : values) {
+            assertEquals(value, ExternalModelNode.convert(new org.jboss.dmr.ModelNode(value)).asDouble(), 0.0);
+        }
+        assertEquals(Double.NaN,
+                ExternalModelNode.convert(new org.jboss.dmr.ModelNode(Double.NaN)).asDouble(), 0.0);
+    }
+
+    @Test
+    public void roundTrip() {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("double").set(0.75);
+        node.get("long").set(Long.MIN_VALUE + 1);
+        node.get("string").set("äöü € 中文");
+        node.get("list").add(1).add(2.5).add("three");
+
+        ModelNode modelNode = ExternalModelNode.convert(node);
+        DataOutput out = new DataOutput();
+        modelNode.writeExternal(out);
+        assertArrayEquals(ExternalModelNode.bytes(node), out.toByteArray());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.math.BigInteger;
+import java.util.Base64;
+
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/** Verifies that {@link DataOutput} produces the same bytes as {@code org.jboss.dmr.ModelNode.writeExternal()}. */
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class DataOutputTest {
+
+    @Test
+    public void simpleValues() {
+        assertSameBytes(new org.jboss.dmr.ModelNode());
+        assertSameBytes(new org.jboss.dmr.ModelNode(true));
+        assertSameBytes(new org.jboss.dmr.ModelNode(42));
+        assertSameBytes(new org.jboss.dmr.ModelNode(-1));
+        assertSameBytes(new org.jboss.dmr.ModelNode(Long.MAX_VALUE));
+        assertSameBytes(new org.jboss.dmr.ModelNode(Long.MIN_VALUE));
+        assertSameBytes(new org.jboss.dmr.ModelNode(new BigInteger("123456789012345678901234567890")));
+        assertSameBytes(new org.jboss.dmr.ModelNode().set(ModelType.STRING));
+    }
+
+    @Test
+    public void strings() {
+        assertSameBytes(new org.jboss.dmr.ModelNode(""));
+        assertSameBytes(new org.jboss.dmr.ModelNode("java:/jboss/datasources/ExampleDS"));
+        assertSameBytes(new org.jboss.dmr.ModelNode("\u0000 äöü € 中文"));
+    }
+
+    @Test
+    public void complexValues() {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("list").add(1).add("two").add(3L);
+        node.get("property").set("foo", "bar");
+        node.get("nested", "object", "value").set(true);
+        assertSameBytes(node);
+    }
+
+    @Test
+    public void bigComposite() {
+        org.jboss.dmr.ModelNode composite = new org.jboss.dmr.ModelNode();
+        composite.get("operation").set("composite");
+        composite.get("address").setEmptyList();
+        for (int i = 0; i < 500; i++) {
+            org.jboss.dmr.ModelNode step = composite.get("steps").add();
+            step.get("address").add("subsystem", "messaging-activemq");
+            step.get("address").add("server", "default");
+            step.get("address").add("jms-queue", "queue-" + i);
+            step.get("operation").set("add");
+            step.get("entries").add("java:/jms/queue/queue-" + i);
+            step.get("durable").set(i % 2 == 0);
+        }
+        assertSameBytes(composite);
+    }
+
+    @Test
+    public void base64() {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("operation").set("read-resource");
+        node.get("address").add("subsystem", "datasources");
+        node.get("recursive-depth").set(2);
+
+        // vary the length to cover all padding variants
+        for (int i = 0; i < 3; i++) {
+            node.get("padding").set(new String(new char[i]).replace('\0', 'x'));
+            ModelNode modelNode = ExternalModelNode.convert(node);
+            assertEquals(Base64.getEncoder().encodeToString(ExternalModelNode.bytes(node)),
+                    modelNode.toBase64String());
+        }
+    }
+
+    private void assertSameBytes(org.jboss.dmr.ModelNode external) {
+        ModelNode modelNode = ExternalModelNode.convert(external);
+        DataOutput out = new DataOutput(1);
+        modelNode.writeExternal(out);
+        assertArrayEquals(ExternalModelNode.bytes(external), out.toByteArray());
+    }
+}
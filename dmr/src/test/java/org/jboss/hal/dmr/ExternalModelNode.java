@@ -24,15 +24,32 @@ public class ExternalModelNode {
 
     public static ModelNode read(InputStream inputStream) {
         try {
-            org.jboss.dmr.ModelNode fromStream = org.jboss.dmr.ModelNode.fromStream(inputStream);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            fromStream.writeExternal(new DataOutputStream(baos));
-
-            ModelNode modelNode = new ModelNode();
-            modelNode.readExternal(new DataInput(baos.toByteArray()));
-            return modelNode;
+            return convert(org.jboss.dmr.ModelNode.fromStream(inputStream));
         } catch (IOException e) {
             throw new RuntimeException("Unable to read DMR from input stream: " + e.getMessage());
         }
     }
+
+    /** Converts a JBoss DMR model node into a HAL model node using the binary format. */
+    public static ModelNode convert(org.jboss.dmr.ModelNode external) {
+        return convert(external, false);
+    }
+
+    /** Converts a JBoss DMR model node into a HAL model node which is optionally decoded lazily. */
+    public static ModelNode convert(org.jboss.dmr.ModelNode external, boolean lazy) {
+        ModelNode modelNode = new ModelNode();
+        modelNode.readExternal(new ByteArrayInput(bytes(external)), lazy);
+        return modelNode;
+    }
+
+    /** Returns the binary representation of a JBoss DMR model node as written by {@code writeExternal()}. */
+    public static byte[] bytes(org.jboss.dmr.ModelNode external) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            external.writeExternal(new DataOutputStream(baos));
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write DMR: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class LazyModelNodeTest {
+
+    private org.jboss.dmr.ModelNode external;
+    private ModelNode eager;
+    private ModelNode lazy;
+
+    /**
+     * Creates a response like
+     * <pre>
+     * {
+     *     "outcome" => "success",
+     *     "result" => [
+     *         {"name" => "deployment-0", "enabled" => true, "runtime" => {...}, "tags" => [...]},
+     *         ...
+     *     ]
+     * }
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        external = new org.jboss.dmr.ModelNode();
+        external.get("outcome").set("success");
+        for (int i = 0; i < 10; i++) {
+            org.jboss.dmr.ModelNode deployment = external.get("result").add();
+            deployment.get("name").set("deployment-" + i);
+            deployment.get("enabled").set(i % 2 == 0);
+            deployment.get("runtime", "size").set(1024L * i);
+            deployment.get("runtime", "ratio").set(i / 3.0);
+            deployment.get("runtime", "property").set("key-" + i, "value-" + i);
+            deployment.get("tags").add("a").add("b").add(i);
+        }
+        eager = ExternalModelNode.convert(external, false);
+        lazy = ExternalModelNode.convert(external, true);
+    }
+
+    @Test
+    public void sameContent() {
+        assertEquals(eager, lazy);
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(eager.hashCode(), lazy.hashCode());
+    }
+
+    @Test
+    public void sameBytes() {
+        DataOutput out = new DataOutput();
+        lazy.writeExternal(out);
+        assertArrayEquals(ExternalModelNode.bytes(external), out.toByteArray());
+    }
+
+    @Test
+    public void randomAccess() {
+        // access the nodes in an order which differs from the order in the buffer
+        assertEquals("deployment-7", lazy.get("result").get(7).get("name").asString());
+        assertEquals("value-3", lazy.get("result").get(3).get("runtime").get("property").asProperty().getValue()
+                .asString());
+        assertEquals(2, lazy.get("result").get(2).get("tags").get(2).asInt());
+        assertEquals(3.0, lazy.get("result").get(9).get("runtime").get("ratio").asDouble(), 0.0);
+        assertEquals("success", lazy.get("outcome").asString());
+        assertFalse(lazy.isFailure());
+    }
+
+    @Test
+    public void sizes() {
+        assertEquals(10, lazy.get("result").asInt());
+        assertEquals(3, lazy.get("result").get(0).get("tags").asInt());
+        assertEquals(4, lazy.get("result").get(0).asInt());
+    }
+
+    @Test
+    public void keysAndLists() {
+        assertEquals(eager.keys(), lazy.keys());
+        List<ModelNode> deployments = lazy.get("result").asList();
+        assertEquals(10, deployments.size());
+        assertEquals(asList("name", "enabled", "runtime", "tags"), new ArrayList<>(deployments.get(5).keys()));
+    }
+
+    @Test
+    public void modify() {
+        lazy.get("result").get(1).get("name").set("foo");
+        lazy.get("result").add().get("name").set("bar");
+        lazy.get("result").get(0).remove("runtime");
+
+        eager.get("result").get(1).get("name").set("foo");
+        eager.get("result").add().get("name").set("bar");
+        eager.get("result").get(0).remove("runtime");
+
+        assertEquals(eager, lazy);
+    }
+
+    @Test
+    public void copy() {
+        ModelNode clone = lazy.clone();
+        assertEquals(eager, clone);
+
+        clone.get(OUTCOME).set(FAILED);
+        assertEquals(SUCCESS, lazy.get(OUTCOME).asString());
+    }
+}
@@ -15,9 +15,12 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -78,4 +81,31 @@ public class ModelNodeHelperTest {
         assertTrue(node.isDefined());
         assertEquals(bar, node);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void wildcardResultAsPropertyList() {
+        ModelNode result = new ModelNode();
+        for (String name : new String[]{"foo", "bar"}) {
+            ModelNode node = new ModelNode();
+            node.get(ADDRESS).set(new ResourceAddress().add(SUBSYSTEM, "datasources").add(DATA_SOURCE, name));
+            node.get(OUTCOME).set(SUCCESS);
+            node.get(RESULT).get(ENABLED).set(true);
+            result.add(node);
+        }
+        ModelNode failed = new ModelNode();
+        failed.get(ADDRESS).set(new ResourceAddress().add(SUBSYSTEM, "datasources").add(DATA_SOURCE, "baz"));
+        failed.get(OUTCOME).set(FAILED);
+        result.add(failed);
+
+        List<Property> properties = ModelNodeHelper.asPropertyList(result);
+        assertEquals(2, properties.size());
+        assertEquals("foo", properties.get(0).getName());
+        assertEquals("bar", properties.get(1).getName());
+        assertTrue(properties.get(0).getValue().get(ENABLED).asBoolean());
+    }
+
+    @Test
+    public void undefinedWildcardResult() {
+        assertTrue(ModelNodeHelper.asPropertyList(new ModelNode()).isEmpty());
+    }
+}
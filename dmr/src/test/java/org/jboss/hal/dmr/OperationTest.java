@@ -21,6 +21,8 @@ import org.junit.Test;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
 public class OperationTest {
@@ -68,6 +70,80 @@ public class OperationTest {
         assertOperation(operation.runAs(Collections.singleton("Administrator")), "Administrator");
     }
 
+    @Test
+    public void select() {
+        ResourceAddress address = new ResourceAddress()
+                .add("subsystem", "datasources")
+                .add("data-source", "*");
+
+        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .param(RECURSIVE, true)
+                .select(ENABLED, STATISTICS_ENABLED)
+                .build();
+
+        assertEquals(QUERY, operation.getName());
+        assertEquals("/subsystem=datasources/data-source=*", operation.getAddress().toString());
+        ModelNode parameter = new ModelNode();
+        parameter.get(SELECT).add(ENABLED).add(STATISTICS_ENABLED);
+        assertEquals(parameter, operation.getParameter());
+    }
+
+    @Test
+    public void where() {
+        ResourceAddress address = new ResourceAddress()
+                .add("subsystem", "datasources")
+                .add("data-source", "*");
+
+        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .select(JNDI_NAME)
+                .where(ENABLED, true)
+                .build();
+
+        assertEquals(QUERY, operation.getName());
+        ModelNode parameter = new ModelNode();
+        parameter.get(SELECT).add(JNDI_NAME);
+        parameter.get(WHERE).get(ENABLED).set(true);
+        assertEquals(parameter, operation.getParameter());
+    }
+
+    @Test
+    public void selectWhereString() {
+        ResourceAddress address = new ResourceAddress()
+                .add("subsystem", "datasources")
+                .add("data-source", "*");
+
+        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(RECURSIVE, true)
+                .select(ENABLED)
+                .select(JNDI_NAME)
+                .where(JNDI_NAME, "java:/bar")
+                .build();
+
+        assertEquals(QUERY, operation.getName());
+        assertEquals("/subsystem=datasources/data-source=*", operation.getAddress().toString());
+        ModelNode parameter = new ModelNode();
+        parameter.get(SELECT).add(ENABLED).add(JNDI_NAME);
+        parameter.get(WHERE).get(JNDI_NAME).set("java:/bar");
+        assertEquals(parameter, operation.getParameter());
+    }
+
+    @Test
+    public void noProjection() {
+        Operation operation = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+
+        assertEquals(READ_RESOURCE_OPERATION, operation.getName());
+        assertTrue(operation.getParameter().get(INCLUDE_RUNTIME).asBoolean());
+        assertFalse(operation.getParameter().hasDefined(SELECT));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void selectUnsupported() {
+        new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION).select(NAME);
+    }
+
     private void assertOperation(Operation operation) {
         assertOperation(operation, null);
     }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ReadBatcher.ReadRequest;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ReadBatcherTest {
+
+    private int delay;
+    private int batchSize;
+    private List<Runnable> scheduled;
+    private FakeTransport transport;
+    private ReadBatcher batcher;
+
+    private Map<String, ModelNode> results;
+    private Map<String, Throwable> errors;
+    private List<String> done;
+
+    @Before
+    public void setUp() {
+        delay = 10;
+        batchSize = 20;
+        scheduled = new ArrayList<>();
+        transport = new FakeTransport();
+        batcher = new ReadBatcher(() -> delay, () -> batchSize, (flush, delay) -> scheduled.add(flush), transport);
+
+        results = new HashMap<>();
+        errors = new HashMap<>();
+        done = new ArrayList<>();
+    }
+
+    @Test
+    public void disabled() {
+        delay = -1;
+        assertFalse(batcher.isEnabled());
+        delay = 0;
+        assertTrue(batcher.isEnabled());
+    }
+
+    @Test
+    public void scheduleOnce() {
+        batcher.add(read("a"));
+        batcher.add(read("b"));
+        batcher.add(read("c"));
+
+        assertEquals(1, scheduled.size());
+        assertTrue(transport.reads.isEmpty());
+        assertTrue(transport.composites.isEmpty());
+
+        flush();
+        batcher.add(read("d"));
+        assertEquals(2, scheduled.size());
+    }
+
+    @Test
+    public void single() {
+        ReadRequest read = read("a");
+        batcher.add(read);
+        flush();
+
+        assertTrue(transport.composites.isEmpty());
+        assertEquals(1, transport.reads.size());
+        assertSame(read, transport.reads.get(0));
+    }
+
+    @Test
+    public void demultiplex() {
+        batcher.add(read("a"));
+        batcher.add(read("b"));
+        batcher.add(read("c"));
+        flush();
+
+        assertTrue(transport.reads.isEmpty());
+        assertEquals(1, transport.composites.size());
+        Batch batch = transport.composites.get(0);
+        assertEquals(3, batch.composite.size());
+        assertFalse(batch.composite.get(OPERATION_HEADERS).hasDefined(ROLES));
+
+        batch.succeed();
+        assertEquals("a", results.get("a").get(RESULT).asString());
+        assertEquals("b", results.get("b").get(RESULT).asString());
+        assertEquals("c", results.get("c").get(RESULT).asString());
+        assertTrue(errors.isEmpty());
+        assertEquals(3, done.size());
+    }
+
+    @Test
+    public void split() {
+        batchSize = 2;
+        for (String name : new String[]{"a", "b", "c", "d", "e"}) {
+            batcher.add(read(name));
+        }
+        flush();
+
+        assertEquals(2, transport.composites.size());
+        assertEquals(2, transport.composites.get(0).composite.size());
+        assertEquals(2, transport.composites.get(1).composite.size());
+        assertEquals(1, transport.reads.size());
+        assertEquals("e", transport.reads.get(0).operation.getAddress().lastValue());
+
+        transport.composites.forEach(Batch::succeed);
+        assertEquals("a", results.get("a").get(RESULT).asString());
+        assertEquals("b", results.get("b").get(RESULT).asString());
+        assertEquals("c", results.get("c").get(RESULT).asString());
+        assertEquals("d", results.get("d").get(RESULT).asString());
+        assertNull(results.get("e"));
+    }
+
+    @Test
+    public void fallback() {
+        batcher.add(read("a"));
+        batcher.add(read("b"));
+        flush();
+
+        Batch batch = transport.composites.get(0);
+        batch.fail("WFLYCTL0030: No resource definition is registered for address b");
+        assertTrue(results.isEmpty());
+        assertEquals(2, transport.reads.size());
+        assertEquals("a", transport.reads.get(0).operation.getAddress().lastValue());
+        assertEquals("b", transport.reads.get(1).operation.getAddress().lastValue());
+
+        // the reads executed one by one are done when their own requests are done
+        batch.done();
+        assertTrue(done.isEmpty());
+    }
+
+    @Test
+    public void error() {
+        batcher.add(read("a"));
+        batcher.add(read("b"));
+        flush();
+
+        Batch batch = transport.composites.get(0);
+        RuntimeException exception = new RuntimeException("offline");
+        batch.error(exception);
+        assertTrue(results.isEmpty());
+        assertSame(exception, errors.get("a"));
+        assertSame(exception, errors.get("b"));
+        assertEquals(2, done.size());
+    }
+
+    @Test
+    public void groupByRoles() {
+        batcher.add(read("a"));
+        batcher.add(read("b", "Monitor"));
+        batcher.add(read("c"));
+        batcher.add(read("d", "Monitor"));
+        flush();
+
+        assertEquals(2, transport.composites.size());
+        Composite plain = transport.composites.get(0).composite;
+        Composite monitor = transport.composites.get(1).composite;
+
+        assertEquals(2, plain.size());
+        assertFalse(plain.get(OPERATION_HEADERS).hasDefined(ROLES));
+
+        assertEquals(2, monitor.size());
+        assertEquals("Monitor", monitor.get(OPERATION_HEADERS).get(ROLES).asString());
+        for (Operation step : monitor) {
+            assertEquals(Collections.singleton("Monitor"), step.getRoles());
+        }
+
+        transport.composites.forEach(Batch::succeed);
+        assertEquals("a", results.get("a").get(RESULT).asString());
+        assertEquals("b", results.get("b").get(RESULT).asString());
+        assertEquals("c", results.get("c").get(RESULT).asString());
+        assertEquals("d", results.get("d").get(RESULT).asString());
+    }
+
+    @Test
+    public void roles() {
+        assertEquals("", ReadBatcher.roles(Collections.emptySet()));
+        assertEquals("Deployer,Monitor", ReadBatcher.roles(new HashSet<>(Arrays.asList("Monitor", "Deployer"))));
+    }
+
+    private void flush() {
+        scheduled.get(scheduled.size() - 1).run();
+    }
+
+    private ReadRequest read(String name, String... roles) {
+        Operation operation = new Operation.Builder(new ResourceAddress().add("subsystem", name),
+                READ_RESOURCE_OPERATION).build();
+        Operation dmrOperation = roles.length == 0
+                ? operation
+                : operation.runAs(new HashSet<>(Arrays.asList(roles)));
+        return new ReadRequest(operation, dmrOperation, dmrOperation.toBase64String(),
+                payload -> results.put(name, payload),
+                throwable -> errors.put(name, throwable),
+                () -> done.add(name));
+    }
+
+
+    private static class Batch {
+
+        private final Composite composite;
+        private final Consumer<ModelNode> success;
+        private final Consumer<String> failure;
+        private final Consumer<Throwable> error;
+        private final Runnable done;
+
+        private Batch(Composite composite, Consumer<ModelNode> success, Consumer<String> failure,
+                Consumer<Throwable> error, Runnable done) {
+            this.composite = composite;
+            this.success = success;
+            this.failure = failure;
+            this.error = error;
+            this.done = done;
+        }
+
+        /** Answers each step with its own address name */
+        void succeed() {
+            ModelNode payload = new ModelNode();
+            payload.get(OUTCOME).set(SUCCESS);
+            int index = 1;
+            for (Operation step : composite) {
+                ModelNode stepResult = new ModelNode();
+                stepResult.get(OUTCOME).set(SUCCESS);
+                stepResult.get(RESULT).set(step.getAddress().lastValue());
+                payload.get(RESULT).get("step-" + index++).set(stepResult);
+            }
+            success.accept(payload);
+            done();
+        }
+
+        void fail(String failureDescription) {
+            failure.accept(failureDescription);
+        }
+
+        void error(Throwable throwable) {
+            error.accept(throwable);
+            done();
+        }
+
+        void done() {
+            done.run();
+        }
+    }
+
+
+    private static class FakeTransport implements ReadBatcher.Transport {
+
+        private final List<ReadRequest> reads = new ArrayList<>();
+        private final List<Batch> composites = new ArrayList<>();
+
+        @Override
+        public void execute(ReadRequest read) {
+            reads.add(read);
+        }
+
+        @Override
+        public void execute(Composite composite, Consumer<ModelNode> success, Consumer<String> failure,
+                Consumer<Throwable> error, Runnable done) {
+            composites.add(new Batch(composite, success, failure, error, done));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.macro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class MacroBatchesTest {
+
+    private static final ResourceAddress DS = new ResourceAddress()
+            .add(SUBSYSTEM, "datasources")
+            .add(DATA_SOURCE, "foo");
+
+    @Test
+    public void empty() {
+        assertEquals(0, MacroBatches.batches(new ArrayList<>(), 10).size());
+    }
+
+    @Test
+    public void maxBatchSize() {
+        List<Operation> operations = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            operations.add(write(DS, "attribute-" + i));
+        }
+
+        List<List<Operation>> batches = MacroBatches.batches(operations, 10);
+        assertEquals(3, batches.size());
+        assertEquals(10, batches.get(0).size());
+        assertEquals(10, batches.get(1).size());
+        assertEquals(5, batches.get(2).size());
+        assertSame(operations.get(0), batches.get(0).get(0));
+        assertSame(operations.get(24), batches.get(2).get(4));
+    }
+
+    @Test
+    public void addAndWrite() {
+        ResourceAddress child = new ResourceAddress(DS).add("child", "bar");
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation.Builder(DS, ADD).build());
+        operations.add(new Operation.Builder(child, ADD).build());
+        operations.add(write(DS, JNDI_NAME));
+
+        assertEquals(1, MacroBatches.batches(operations, 10).size());
+    }
+
+    @Test
+    public void addAndRuntimeOperation() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation.Builder(DS, ADD).build());
+        operations.add(write(DS, JNDI_NAME));
+        operations.add(new Operation.Builder(DS, TEST_CONNECTION_IN_POOL).build());
+        operations.add(write(DS, ENABLED));
+
+        List<List<Operation>> batches = MacroBatches.batches(operations, 10);
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(2, batches.get(1).size());
+    }
+
+    @Test
+    public void runtimeOperationOnOtherResource() {
+        ResourceAddress other = new ResourceAddress()
+                .add(SUBSYSTEM, "datasources")
+                .add(DATA_SOURCE, "foo2");
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new Operation.Builder(DS, ADD).build());
+        operations.add(new Operation.Builder(other, TEST_CONNECTION_IN_POOL).build());
+
+        assertEquals(1, MacroBatches.batches(operations, 10).size());
+    }
+
+    @Test
+    public void standalone() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(write(DS, JNDI_NAME));
+        operations.add(new Operation.Builder(ResourceAddress.root(), RELOAD).build());
+        operations.add(write(DS, ENABLED));
+        operations.add(new Operation.Builder(DS, WRITE_ATTRIBUTE_OPERATION)
+                .param(NAME, ENABLED)
+                .param(VALUE, true)
+                .header("allow-resource-service-restart", true)
+                .build());
+        operations.add(new Composite(write(DS, JNDI_NAME), write(DS, ENABLED)));
+
+        List<List<Operation>> batches = MacroBatches.batches(operations, 10);
+        assertEquals(5, batches.size());
+        for (List<Operation> batch : batches) {
+            assertEquals(1, batch.size());
+        }
+        assertEquals(2, MacroBatches.operationCount(batches.get(4)));
+    }
+
+    @Test
+    public void failedStep() {
+        assertEquals(2, MacroBatches.failedStep(
+                "{\"WFLYCTL0062: Composite operation failed and was rolled back. Steps that failed:\" => " +
+                        "{\"Operation step-3\" => \"WFLYCTL0216: Management resource not found\"}}"));
+        assertEquals(-1, MacroBatches.failedStep("WFLYCTL0216: Management resource not found"));
+        assertEquals(-1, MacroBatches.failedStep(null));
+    }
+
+    private Operation write(ResourceAddress address, String attribute) {
+        return new Operation.Builder(address, WRITE_ATTRIBUTE_OPERATION)
+                .param(NAME, attribute)
+                .param(VALUE, "value")
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.macro;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class MacrosTest {
+
+    @Test
+    public void indexEntry() {
+        Macro macro = new Macro("foo", "bar");
+        macro.addOperation(new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build());
+        macro.addOperation(new Operation.Builder(ResourceAddress.root(), WHOAMI).build());
+        macro.seal();
+        macro.setSize(42);
+
+        ModelNode entry = Macros.indexEntry(macro);
+        Macro indexed = Macros.fromIndex(entry, m -> new ArrayList<>());
+        assertEquals("foo", indexed.getName());
+        assertEquals("bar", indexed.getDescription());
+        assertEquals(2, indexed.getOperationCount());
+        assertEquals(42, indexed.getSize());
+        assertTrue(indexed.isSealed());
+    }
+
+    @Test
+    public void lazyOperations() {
+        Macro macro = new Macro("foo", null);
+        macro.seal();
+        ModelNode entry = Macros.indexEntry(macro);
+        entry.get("operation-count").set(1);
+
+        AtomicInteger loaded = new AtomicInteger();
+        Macro indexed = Macros.fromIndex(entry, m -> {
+            loaded.incrementAndGet();
+            List<Operation> operations = new ArrayList<>();
+            operations.add(new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build());
+            return operations;
+        });
+
+        assertEquals(1, indexed.getOperationCount());
+        assertFalse(indexed.isLoaded());
+        assertEquals(0, loaded.get());
+
+        assertEquals(1, indexed.getOperations().size());
+        assertEquals(1, indexed.getOperations().size());
+        assertTrue(indexed.isLoaded());
+        assertEquals(1, loaded.get());
+    }
+}
@@ -15,28 +15,44 @@
  */
 package org.jboss.hal.meta;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.jboss.hal.dmr.ResourceAddress;
 
-/** Abstract registry which uses the specified statement context to resolve the address template. */
+import static org.jboss.hal.meta.StatementContext.UNTRACKED;
+
+/**
+ * Abstract registry which uses the specified statement context to resolve the address template.
+ * <p>
+ * Resolved addresses are cached per template as long as the {@linkplain StatementContext#generation() generation} of
+ * the statement context doesn't change. Statement contexts which don't track their changes are resolved on every
+ * lookup.
+ */
 public abstract class AbstractRegistry<T> implements Registry<T> {
 
+    private static final int RESOLVED_CACHE_SIZE = 1000;
+
     private final StatementContext statementContext;
+    private final Cache<AddressTemplate, ResourceAddress> resolved;
+    private int resolvedGeneration;
     protected final String type;
 
     protected AbstractRegistry(StatementContext statementContext, String type) {
         this.statementContext = statementContext;
+        this.resolved = CacheBuilder.newBuilder().maximumSize(RESOLVED_CACHE_SIZE).build();
+        this.resolvedGeneration = UNTRACKED;
         this.type = type;
     }
 
     @Override
     public boolean contains(AddressTemplate template) {
-        ResourceAddress address = resolveTemplate(template);
+        ResourceAddress address = resolve(template);
         return lookupAddress(address) != null;
     }
 
     @Override
     public T lookup(AddressTemplate template) throws MissingMetadataException {
-        ResourceAddress address = resolveTemplate(template);
+        ResourceAddress address = resolve(template);
         T metadata = lookupAddress(address);
         if (metadata == null) {
             throw new MissingMetadataException(type, template);
@@ -44,6 +60,28 @@ public abstract class AbstractRegistry<T> implements Registry<T> {
         return metadata;
     }
 
+    /**
+     * Returns the cached address for the specified template or resolves the template using {@link
+     * #resolveTemplate(AddressTemplate)}. The cache is dropped as soon as the generation of the statement context
+     * changes.
+     */
+    protected final ResourceAddress resolve(AddressTemplate template) {
+        int generation = statementContext.generation();
+        if (generation == UNTRACKED) {
+            return resolveTemplate(template);
+        }
+        if (generation != resolvedGeneration) {
+            resolved.invalidateAll();
+            resolvedGeneration = generation;
+        }
+        ResourceAddress address = resolved.getIfPresent(template);
+        if (address == null) {
+            address = resolveTemplate(template);
+            resolved.put(template, address);
+        }
+        return address;
+    }
+
     protected ResourceAddress resolveTemplate(AddressTemplate template) {
         return template.resolve(statementContext);
     }
@@ -25,6 +25,7 @@ import rx.Single;
 public interface Database<T> {
 
     String PAYLOAD = "payload";
+    String SEARCH_TERMS = "search-terms";
 
     /** Turns a template into a resource addresses for later lookup. */
     ResourceAddress resolveTemplate(AddressTemplate template);
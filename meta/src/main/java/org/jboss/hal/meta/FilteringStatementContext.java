@@ -68,6 +68,16 @@ public class FilteringStatementContext implements StatementContext {
         return delegate.selectedServer();
     }
 
+    /**
+     * Filters usually depend on the state of their presenter, so there's no way to tell whether the filtered values
+     * have changed. Only if the filter is {@linkplain Filter#isStateless() stateless}, the generation of the wrapped
+     * statement context is used.
+     */
+    @Override
+    public int generation() {
+        return filter.isStateless() ? delegate.generation() : UNTRACKED;
+    }
+
 
     /**
      * Allows to modify resource names and placeholders. Methods should return {@code null} if no modification is
@@ -78,5 +88,13 @@ public class FilteringStatementContext implements StatementContext {
         String filter(String placeholder, AddressTemplate template);
 
         String[] filterTuple(String placeholder, AddressTemplate template);
+
+        /**
+         * Returns {@code true} if the filter only depends on its arguments, so that the resolved addresses can be
+         * cached as long as the wrapped statement context doesn't change. Defaults to {@code false}.
+         */
+        default boolean isStateless() {
+            return false;
+        }
     }
 }
@@ -34,6 +34,7 @@ public class MetaModule extends AbstractGinModule {
         bind(Capabilities.class).in(Singleton.class);
         bind(MetadataProcessor.class).in(Singleton.class);
         bind(MetadataRegistry.class).in(Singleton.class);
+        bind(MetadataVersion.class).in(Singleton.class);
         bind(ResourceDescriptionDatabase.class).in(Singleton.class);
         bind(ResourceDescriptionRegistry.class).in(Singleton.class);
         bind(SecurityContextDatabase.class).in(Singleton.class);
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.inject.Inject;
+
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+import org.jboss.hal.config.Endpoints;
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Version;
+import org.jboss.hal.db.PouchDB;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * The version of the management model metadata. It's made up of the product version, the management model version
+ * and the installed extensions. The version is part of the names of the metadata databases: If the server is updated
+ * or if an extension is added or removed, the metadata is read and stored in new databases.
+ * <p>
+ * The databases are registered in the local storage together with their version. Databases of other versions are
+ * deleted in the background shortly after the first database has been opened.
+ */
+public class MetadataVersion {
+
+    /** Delay in ms before outdated databases are deleted. */
+    private static final int GC_DELAY = 10000;
+    private static final Logger logger = LoggerFactory.getLogger(MetadataVersion.class);
+
+    /**
+     * Returns a version ID for the specified arguments. The order of the extensions doesn't matter.
+     */
+    static String id(String productVersion, Version managementVersion, Collection<String> extensions) {
+        List<String> sorted = new ArrayList<>(extensions);
+        Collections.sort(sorted);
+        String hash = Integer.toHexString(String.join(",", sorted).hashCode());
+        return String.join("-", String.valueOf(productVersion), managementVersion.toString(),
+                String.valueOf(sorted.size()), hash);
+    }
+
+
+    private final Environment environment;
+    private final Endpoints endpoints;
+    private final Storage storage;
+    private final List<String> extensions;
+    private String id;
+    private boolean gcScheduled;
+
+    @Inject
+    public MetadataVersion(Environment environment, Endpoints endpoints) {
+        this.environment = environment;
+        this.endpoints = endpoints;
+        this.storage = WebStorageWindow.of(window).localStorage;
+        this.extensions = new ArrayList<>();
+    }
+
+    /** Sets the names of the extensions installed on the server (the children of {@code /extension=*}). */
+    public void setExtensions(List<String> extensions) {
+        this.extensions.clear();
+        this.extensions.addAll(extensions);
+        this.id = null;
+    }
+
+    /** @return the ID of the current metadata version. */
+    public String id() {
+        if (id == null) {
+            id = id(environment.getInstanceInfo().productVersion(), environment.getManagementVersion(),
+                    extensions);
+        }
+        return id;
+    }
+
+    /**
+     * Registers a database for the current version. The first call schedules the deletion of databases which were
+     * registered for other versions.
+     */
+    public void register(String database) {
+        if (storage != null) {
+            ModelNode registry = load();
+            registry.get(endpoints.dmr()).get(database).set(id());
+            save(registry);
+            if (!gcScheduled) {
+                gcScheduled = true;
+                setTimeout(o -> collectGarbage(), GC_DELAY);
+            }
+        }
+    }
+
+    private void collectGarbage() {
+        ModelNode registry = load();
+        String endpoint = endpoints.dmr();
+        if (!registry.hasDefined(endpoint)) {
+            return;
+        }
+
+        // databases in use by other endpoints must not be deleted
+        Set<String> inUse = new HashSet<>();
+        for (Property property : registry.asPropertyList()) {
+            if (property.getValue().isDefined()) {
+                for (Property database : property.getValue().asPropertyList()) {
+                    if (!endpoint.equals(property.getName()) || id().equals(database.getValue().asString())) {
+                        inUse.add(database.getName());
+                    }
+                }
+            }
+        }
+
+        List<String> outdated = new ArrayList<>();
+        for (Property database : registry.get(endpoint).asPropertyList()) {
+            if (!id().equals(database.getValue().asString())) {
+                outdated.add(database.getName());
+            }
+        }
+        for (String database : outdated) {
+            registry.get(endpoint).remove(database);
+            if (!inUse.contains(database)) {
+                new PouchDB(database).destroy()
+                        .then(result -> {
+                            logger.info("Deleted outdated metadata database {}", database);
+                            return null;
+                        })
+                        .catch_(failure -> {
+                            logger.error("Unable to delete outdated metadata database {}: {}", database, failure);
+                            return null;
+                        });
+            }
+        }
+        if (!outdated.isEmpty()) {
+            save(registry);
+        }
+    }
+
+
+    // ------------------------------------------------------ local storage
+
+    private ModelNode load() {
+        String payload = storage.getItem(Ids.METADATA_DATABASE_STORAGE);
+        if (payload != null) {
+            try {
+                return ModelNode.fromBase64(payload);
+            } catch (RuntimeException e) {
+                logger.error("Unable to read metadata databases from local storage using key '{}': {}",
+                        Ids.METADATA_DATABASE_STORAGE, e.getMessage());
+            }
+        }
+        return new ModelNode();
+    }
+
+    private void save(ModelNode registry) {
+        storage.setItem(Ids.METADATA_DATABASE_STORAGE, registry.toBase64String());
+    }
+}
@@ -39,4 +39,10 @@ public class SelectionAwareStatementContext extends FilteringStatementContext im
             }
         });
     }
+
+    /** The selection is provided by a supplier, so there's no way to tell whether it has changed. */
+    @Override
+    public int generation() {
+        return UNTRACKED;
+    }
 }
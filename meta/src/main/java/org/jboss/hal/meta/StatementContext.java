@@ -73,6 +73,10 @@ public interface StatementContext {
     }
 
 
+    /** Generation returned by statement contexts which don't track changes of their values. */
+    @JsIgnore
+    int UNTRACKED = -1;
+
     @JsIgnore
     StatementContext NOOP = new StatementContext() {
 
@@ -115,6 +119,11 @@ public interface StatementContext {
         public String selectedServer() {
             return null;
         }
+
+        @Override
+        public int generation() {
+            return 0;
+        }
     };
 
 
@@ -149,4 +158,14 @@ public interface StatementContext {
     /** @return the selected server */
     @JsProperty(name = "selectedServer")
     String selectedServer();
+
+    /**
+     * Returns a number which changes whenever a value of this statement context changes. Resolved addresses can be
+     * cached as long as the generation stays the same. Statement contexts which cannot tell whether their values have
+     * changed return {@link #UNTRACKED}.
+     */
+    @JsIgnore
+    default int generation() {
+        return UNTRACKED;
+    }
 }
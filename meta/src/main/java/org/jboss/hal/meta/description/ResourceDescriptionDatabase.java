@@ -17,37 +17,51 @@ package org.jboss.hal.meta.description;
 
 import javax.inject.Inject;
 
+import elemental2.core.JsArray;
+import jsinterop.base.JsPropertyMap;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractDatabase;
+import org.jboss.hal.meta.MetadataVersion;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
 
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
 public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescription> {
 
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
+    /**
+     * Version of the document layout. Increase it whenever the layout changes, so that documents written with an older
+     * layout (e.g. without search terms) are not reused.
+     */
+    private static final String LAYOUT = "2";
 
     private final Environment environment;
     private final Settings settings;
+    private final MetadataVersion metadataVersion;
     private PouchDB database;
 
     @Inject
-    public ResourceDescriptionDatabase(StatementContext statementContext, Environment environment, Settings settings) {
+    public ResourceDescriptionDatabase(StatementContext statementContext, Environment environment, Settings settings,
+            MetadataVersion metadataVersion) {
         super(new ResourceDescriptionStatementContext(statementContext, environment), RESOURCE_DESCRIPTION_TYPE);
         this.environment = environment;
         this.settings = settings;
+        this.metadataVersion = metadataVersion;
     }
 
     @Override
     public String name() {
-        return Ids.build("hal-db-rd",
+        return Ids.build("hal-db-rd", LAYOUT,
                 environment.getHalBuild().name(),
                 settings.get(Settings.Key.LOCALE).value(),
-                environment.getManagementVersion().toString());
+                metadataVersion.id());
     }
 
     @Override
@@ -59,13 +73,49 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
     public Document asDocument(ResourceAddress address, ResourceDescription resourceDescription) {
         Document document = Document.of(address.toString());
         document.set(PAYLOAD, resourceDescription.toBase64String());
+        document.set(SEARCH_TERMS, searchTerms(resourceDescription));
         return document;
     }
 
+    /**
+     * Extracts the plain names and descriptions which are indexed by the web worker. The payload itself is stored as
+     * base64 encoded DMR and cannot be read by the worker.
+     */
+    private JsPropertyMap<Object> searchTerms(ResourceDescription resourceDescription) {
+        JsArray<JsPropertyMap<Object>> attributes = new JsArray<>();
+        for (Property attribute : resourceDescription.getAttributes(ATTRIBUTES)) {
+            JsPropertyMap<Object> terms = JsPropertyMap.of();
+            terms.set(NAME, attribute.getName());
+            if (attribute.getValue().hasDefined(DESCRIPTION)) {
+                terms.set(DESCRIPTION, attribute.getValue().get(DESCRIPTION).asString());
+            }
+            attributes.push(terms);
+        }
+        JsArray<String> operations = new JsArray<>();
+        for (Property operation : resourceDescription.getOperations()) {
+            operations.push(operation.getName());
+        }
+        JsArray<String> capabilities = new JsArray<>();
+        if (resourceDescription.hasDefined(CAPABILITIES)) {
+            for (ModelNode capability : resourceDescription.get(CAPABILITIES).asList()) {
+                capabilities.push(capability.get(NAME).asString());
+            }
+        }
+        JsPropertyMap<Object> terms = JsPropertyMap.of();
+        if (resourceDescription.hasDefined(DESCRIPTION)) {
+            terms.set(DESCRIPTION, resourceDescription.getDescription());
+        }
+        terms.set(ATTRIBUTES, attributes);
+        terms.set(OPERATIONS, operations);
+        terms.set(CAPABILITIES, capabilities);
+        return terms;
+    }
+
     @Override
     protected PouchDB database() {
         if (database == null) {
             database = new PouchDB(name());
+            metadataVersion.register(name());
         }
         return database;
     }
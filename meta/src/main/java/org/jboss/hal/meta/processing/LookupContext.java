@@ -34,6 +34,8 @@ class LookupContext extends FlowContext {
     final Map<ResourceAddress, ResourceDescription> toResourceDescriptionDatabase;
     final Map<ResourceAddress, SecurityContext> toSecurityContextRegistry;
     final Map<ResourceAddress, SecurityContext> toSecurityContextDatabase;
+    /** The accumulated size of the r-r-d responses in bytes */
+    int responseSize;
 
     // for unit testing only!
     LookupContext(LookupResult lookupResult) {
@@ -38,18 +38,23 @@ import static org.jboss.hal.meta.processing.LookupResult.NOTHING_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.RESOURCE_DESCRIPTION_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.SECURITY_CONTEXT_PRESENT;
 
-/** Task which checks whether metadata is present in the databases. */
+/**
+ * Task which checks whether metadata is present in the databases. Metadata which could not be written to the
+ * databases in this session is treated as missing.
+ */
 class LookupDatabaseTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(LookupDatabaseTask.class);
 
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final SecurityContextDatabase securityContextDatabase;
+    private final WorkerChannel workerChannel;
 
     LookupDatabaseTask(ResourceDescriptionDatabase resourceDescriptionDatabase,
-            SecurityContextDatabase securityContextDatabase) {
+            SecurityContextDatabase securityContextDatabase, WorkerChannel workerChannel) {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.securityContextDatabase = securityContextDatabase;
+        this.workerChannel = workerChannel;
     }
 
     @Override
@@ -84,7 +89,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
                 .doOnSuccess(resourceDescriptions -> {
                     if (!resourceDescriptions.isEmpty()) {
                         ResourceAddress address = resourceDescriptionDatabase.resolveTemplate(template);
-                        if (resourceDescriptions.containsKey(address) && allRecursive(resourceDescriptions.values())) {
+                        if (resourceDescriptions.containsKey(address) && allRecursive(resourceDescriptions.values())
+                                && workerChannel.persisted(resourceDescriptionDatabase.name(), address, true)) {
                             context.toResourceDescriptionRegistry.putAll(resourceDescriptions);
                             context.lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
                         }
@@ -99,7 +105,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
                 .doOnSuccess(securityContexts -> {
                     if (!securityContexts.isEmpty()) {
                         ResourceAddress address = securityContextDatabase.resolveTemplate(template);
-                        if (securityContexts.containsKey(address) && allRecursive(securityContexts.values())) {
+                        if (securityContexts.containsKey(address) && allRecursive(securityContexts.values())
+                                && workerChannel.persisted(securityContextDatabase.name(), address, true)) {
                             context.toSecurityContextRegistry.putAll(securityContexts);
                             context.lookupResult.markMetadataPresent(template, SECURITY_CONTEXT_PRESENT);
                         }
@@ -143,7 +150,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
                         ResourceAddress address = entry.getKey();
                         ResourceDescription resourceDescription = entry.getValue();
                         AddressTemplate template = rdLookup.get(address);
-                        if (template != null) {
+                        if (template != null
+                                && workerChannel.persisted(resourceDescriptionDatabase.name(), address, false)) {
                             lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
                             context.toResourceDescriptionRegistry.put(address, resourceDescription);
                         }
@@ -159,7 +167,8 @@ class LookupDatabaseTask implements Task<LookupContext> {
                         SecurityContext securityContext = entry.getValue();
                         if (securityContext != null) {
                             AddressTemplate template = scLookup.get(address);
-                            if (template != null) {
+                            if (template != null
+                                    && workerChannel.persisted(securityContextDatabase.name(), address, false)) {
                                 lookupResult.markMetadataPresent(template, SECURITY_CONTEXT_PRESENT);
                                 context.toSecurityContextRegistry.put(address, securityContext);
                             }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.function.IntSupplier;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import elemental2.dom.DomGlobal;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Reads the metadata of likely next presenters and columns when the browser is idle. Uses {@code
+ * requestIdleCallback()} if available and falls back to {@code setTimeout()} otherwise.
+ * <p>
+ * The prefetcher has a budget for the number of requests in flight and for the size of the responses. The byte budget
+ * is shared by all {@linkplain #schedule(Collection) schedules} within a time window, so that navigating quickly
+ * doesn't start the budget over again. The prefetcher stops as soon as the budget is used up or as soon as it's
+ * {@linkplain #cancel() cancelled}. It doesn't start new requests as long as other requests are pending. Requests
+ * which are already in flight cannot be aborted, but their completion doesn't trigger any further requests.
+ */
+class MetadataPrefetcher {
+
+    /** Maximum number of ids which are prefetched in parallel. */
+    static final int MAX_IN_FLIGHT = 1;
+
+    /** Maximum size of the r-r-d responses in bytes per {@linkplain #BUDGET_WINDOW budget window}. */
+    static final int MAX_BYTES = 1024 * 1024;
+
+    /** Time window in ms for the byte budget. */
+    static final int BUDGET_WINDOW = 5 * 60 * 1000;
+
+    /** Timeout in ms after which the idle callback is called even if the browser is busy. */
+    private static final int IDLE_TIMEOUT = 2000;
+
+    /** Remaining time in ms of an idle period which is required to start a new request. */
+    private static final double MIN_IDLE_TIME = 5;
+
+    private static final Logger logger = LoggerFactory.getLogger(MetadataPrefetcher.class);
+
+    private final MetadataProcessor metadataProcessor;
+    private final IntSupplier pendingRequests;
+    private final Deque<String> queue;
+    private int generation;
+    private int inFlight;
+    private int bytes;
+    private double budgetStart;
+    private double handle;
+    private boolean scheduled;
+
+    /**
+     * @param pendingRequests the number of pending requests of the dispatcher (incl. the ones started by this
+     *                        prefetcher)
+     */
+    MetadataPrefetcher(MetadataProcessor metadataProcessor, IntSupplier pendingRequests) {
+        this.metadataProcessor = metadataProcessor;
+        this.pendingRequests = pendingRequests;
+        this.queue = new ArrayDeque<>();
+        this.budgetStart = System.currentTimeMillis();
+    }
+
+    /** Replaces the queued ids with the specified ids and requests an idle period. */
+    void schedule(Collection<String> ids) {
+        cancel();
+        queue.addAll(new LinkedHashSet<>(ids));
+        if (!queue.isEmpty()) {
+            logger.debug("Schedule prefetching of {}", queue);
+            requestIdle();
+        }
+    }
+
+    /** Clears the queue. The byte budget is kept. */
+    void cancel() {
+        if (!queue.isEmpty()) {
+            logger.debug("Cancel prefetching of {}", queue);
+        }
+        generation++;
+        queue.clear();
+        if (scheduled) {
+            scheduled = false;
+            if (idleCallbackSupported()) {
+                cancelIdleCallback(handle);
+            } else {
+                clearTimeout(handle);
+            }
+        }
+    }
+
+    private void requestIdle() {
+        if (!scheduled) {
+            scheduled = true;
+            if (idleCallbackSupported()) {
+                IdleOptions options = new IdleOptions();
+                options.timeout = IDLE_TIMEOUT;
+                handle = requestIdleCallback(deadline -> onIdle(deadline.timeRemaining()), options);
+            } else {
+                handle = setTimeout(o -> onIdle(MIN_IDLE_TIME), IDLE_TIMEOUT);
+            }
+        }
+    }
+
+    private void onIdle(double timeRemaining) {
+        scheduled = false;
+        if (!budgetLeft()) {
+            logger.debug("Prefetch budget of {} bytes used up. Skip {}", MAX_BYTES, queue);
+            queue.clear();
+            return;
+        }
+        // other requests are in flight (the ones of this prefetcher are counted by inFlight): wait for them
+        boolean busy = inFlight == 0 && pendingRequests.getAsInt() > 0;
+        if (inFlight < MAX_IN_FLIGHT && !busy && timeRemaining >= MIN_IDLE_TIME && !queue.isEmpty()) {
+            start(queue.poll());
+        }
+        if (!queue.isEmpty() && inFlight < MAX_IN_FLIGHT) {
+            requestIdle();
+        }
+    }
+
+    /** Starts a new budget window if the current one has expired. */
+    private boolean budgetLeft() {
+        double now = System.currentTimeMillis();
+        if (now - budgetStart >= BUDGET_WINDOW) {
+            budgetStart = now;
+            bytes = 0;
+        }
+        return bytes < MAX_BYTES;
+    }
+
+    private void start(String id) {
+        int current = generation;
+        inFlight++;
+        logger.debug("Prefetch metadata for '{}'", id);
+        metadataProcessor.prefetchInternal(id, new AsyncCallback<Integer>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+                // the statement context might not be able to resolve all templates of a likely next place
+                logger.debug("Unable to prefetch metadata for '{}': {}", id, throwable.getMessage());
+                finished(current, 0);
+            }
+
+            @Override
+            public void onSuccess(Integer responseSize) {
+                logger.debug("Prefetched {} bytes of metadata for '{}'", responseSize, id);
+                finished(current, responseSize);
+            }
+        });
+    }
+
+    private void finished(int generation, int responseSize) {
+        inFlight--;
+        // the responses count against the budget, even if the prefetching has been cancelled meanwhile
+        bytes += responseSize;
+        if (generation == this.generation) {
+            if (!budgetLeft()) {
+                logger.debug("Prefetch budget of {} bytes used up. Skip {}", MAX_BYTES, queue);
+                queue.clear();
+            } else if (!queue.isEmpty()) {
+                requestIdle();
+            }
+        } else if (!queue.isEmpty()) {
+            // a new schedule was waiting for this request to finish
+            requestIdle();
+        }
+    }
+
+
+    // ------------------------------------------------------ requestIdleCallback()
+
+    private static boolean idleCallbackSupported() {
+        JsPropertyMap<Object> window = Js.uncheckedCast(DomGlobal.window);
+        return window.has("requestIdleCallback"); //NON-NLS
+    }
+
+    @JsMethod(namespace = GLOBAL)
+    private static native double requestIdleCallback(IdleCallback callback, IdleOptions options);
+
+    @JsMethod(namespace = GLOBAL)
+    private static native void cancelIdleCallback(double handle);
+
+
+    @JsFunction
+    @FunctionalInterface
+    private interface IdleCallback {
+
+        void onIdle(IdleDeadline deadline);
+    }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private interface IdleDeadline {
+
+        double timeRemaining();
+    }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class IdleOptions {
+
+        int timeout;
+    }
+}
@@ -16,6 +16,7 @@
 package org.jboss.hal.meta.processing;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +28,7 @@ import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsType;
+import org.jboss.hal.config.Endpoints;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -62,12 +64,16 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
+    /**
+     * Initial number of r-r-d operations part of one composite operation. The actual number is adapted at runtime by
+     * {@link RrdTuning}.
+     */
     private static final int BATCH_SIZE = 3;
 
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
     private final Environment environment;
+    private final Endpoints endpoints;
     private final Dispatcher dispatcher;
     private final RequiredResources requiredResources;
     private final StatementContext statementContext;
@@ -78,10 +84,13 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final MetadataPrefetcher prefetcher;
+    private RrdTuning rrdTuning;
 
     @Inject
     @JsIgnore
     public MetadataProcessor(Environment environment,
+            Endpoints endpoints,
             Dispatcher dispatcher,
             StatementContext statementContext,
             RequiredResources requiredResources,
@@ -93,6 +102,7 @@ public class MetadataProcessor {
             Settings settings,
             WorkerChannel workerChannel) {
         this.environment = environment;
+        this.endpoints = endpoints;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.metadataRegistry = metadataRegistry;
@@ -103,10 +113,13 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.prefetcher = new MetadataPrefetcher(this, dispatcher::pendingRequests);
     }
 
     @JsIgnore
     public void process(String id, Progress progress, AsyncCallback<Void> callback) {
+        // user traffic has priority over prefetching
+        prefetcher.cancel();
         Set<String> resources = requiredResources.getResources(id);
         boolean recursive = requiredResources.isRecursive(id);
         logger.debug("Process required resources {} for id '{}' (recursive={})", resources, id, recursive);
@@ -116,44 +129,78 @@ public class MetadataProcessor {
 
         } else {
             Set<AddressTemplate> templates = resources.stream().map(AddressTemplate::of).collect(toSet());
-            processInternal(templates, recursive, progress, callback);
+            processInternal(templates, recursive, progress, new AsyncCallback<Integer>() {
+                @Override
+                public void onFailure(Throwable throwable) {
+                    callback.onFailure(throwable);
+                }
+
+                @Override
+                public void onSuccess(Integer responseSize) {
+                    callback.onSuccess(null);
+                }
+            });
         }
     }
 
     @JsIgnore
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
+        prefetcher.cancel();
         logger.debug("Lookup metadata for {}", template);
-        processInternal(singleton(template), false, progress, new AsyncCallback<Void>() {
+        processInternal(singleton(template), false, progress, new AsyncCallback<Integer>() {
             @Override
             public void onFailure(Throwable throwable) {
                 callback.onError(throwable);
             }
 
             @Override
-            public void onSuccess(Void aVoid) {
+            public void onSuccess(Integer responseSize) {
                 // if we're here all metadata must be in the registry
                 callback.onMetadata(metadataRegistry.lookup(template));
             }
         });
     }
 
+    /**
+     * Reads the metadata required by the specified ids (name tokens or column ids) when the browser is idle. Any
+     * previously scheduled prefetching is cancelled. The prefetching is also cancelled as soon as metadata is
+     * {@linkplain #process(String, Progress, AsyncCallback) processed} or {@linkplain #lookup(AddressTemplate,
+     * Progress, MetadataCallback) looked up} on behalf of the user and paused while other requests are pending.
+     */
+    @JsIgnore
+    public void prefetch(Collection<String> ids) {
+        prefetcher.schedule(ids);
+    }
+
+    /** Processes the required resources of the specified id and passes the size of the r-r-d responses. */
+    void prefetchInternal(String id, AsyncCallback<Integer> callback) {
+        Set<String> resources = requiredResources.getResources(id);
+        if (resources.isEmpty()) {
+            callback.onSuccess(0);
+        } else {
+            Set<AddressTemplate> templates = resources.stream().map(AddressTemplate::of).collect(toSet());
+            processInternal(templates, requiredResources.isRecursive(id), Progress.NOOP, callback);
+        }
+    }
+
     private void processInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress,
-            AsyncCallback<Void> callback) {
+            AsyncCallback<Integer> callback) {
         // we can skip the tasks if the metadata is already in the registries
         LookupRegistryTask lookupRegistries = new LookupRegistryTask(resourceDescriptionRegistry,
                 securityContextRegistry);
         if (lookupRegistries.allPresent(templates, recursive)) {
-            logger.debug("All metadata have been already processed -> callback.onSuccess(null)");
-            callback.onSuccess(null);
+            logger.debug("All metadata have been already processed -> callback.onSuccess(0)");
+            callback.onSuccess(0);
 
         } else {
             boolean ie = Browser.isIE();
             List<Task<LookupContext>> tasks = new ArrayList<>();
             tasks.add(lookupRegistries);
             if (!ie) {
-                tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
+                tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase,
+                        workerChannel));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, rrdTuning(), RRD_DEPTH));
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
@@ -174,12 +221,20 @@ public class MetadataProcessor {
                         public void onSuccess(LookupContext context) {
                             stopwatch.stop();
                             logger.info("Successfully processed metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
-                            callback.onSuccess(null);
+                            callback.onSuccess(context.responseSize);
                         }
                     });
         }
     }
 
+    private RrdTuning rrdTuning() {
+        // created lazily: the endpoint is not known before the bootstrap is finished
+        if (rrdTuning == null) {
+            rrdTuning = new RrdTuning(endpoints.dmr(), BATCH_SIZE);
+        }
+        return rrdTuning;
+    }
+
 
     // ------------------------------------------------------ JS methods
 
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
@@ -33,24 +34,34 @@ import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Completable;
+import rx.Observable;
 import rx.Single;
-import rx.functions.Action1;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.config.Settings.Key.RRD_CONCURRENCY;
 
-/** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
+/**
+ * Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata.
+ * <p>
+ * The composites are executed with a bounded number of requests in flight (see {@link Settings.Key#RRD_CONCURRENCY}).
+ * The results are collected per composite and merged into the {@link LookupContext} in the order of the composites
+ * once all composites have been executed. This way the outcome doesn't depend on the order of the responses.
+ */
 class RrdTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
     private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final RrdTuning tuning;
+    private final int concurrency;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            RrdTuning tuning, int depth) {
         this.dispatcher = dispatcher;
-        this.batchSize = batchSize;
+        this.tuning = tuning;
+        this.concurrency = Math.max(1, settings.get(RRD_CONCURRENCY).asInt(Settings.DEFAULT_RRD_CONCURRENCY));
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -58,17 +69,11 @@ class RrdTask implements Task<LookupContext> {
     @Override
     public Completable call(LookupContext context) {
         boolean recursive = context.recursive;
-        List<Completable> completables = new ArrayList<>();
 
         // create and partition non-optional operations
         List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
+        List<List<Operation>> piles = Lists.partition(operations, tuning.batchSize());
         List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
-        for (Composite composite : composites) {
-            completables.add(dispatcher.execute(composite)
-                    .doOnSuccess(parseRrdAction(context, composite))
-                    .toCompletable());
-        }
 
         // create optional operations w/o partitioning!
         List<Operation> optionalOperations = rrdOps.create(context, recursive, true);
@@ -77,24 +82,23 @@ class RrdTask implements Task<LookupContext> {
         // the GWT compiler will crash with an ArrayIndexOutOfBoundsException!
         List<Composite> optionalComposites = new ArrayList<>();
         optionalOperations.forEach(operation -> optionalComposites.add(new Composite(operation)));
+
+        int total = composites.size() + optionalComposites.size();
+        RrdResult[] results = new RrdResult[total];
+        List<Completable> completables = new ArrayList<>();
+        int index = 0;
+        for (Composite composite : composites) {
+            completables.add(execute(context, composite, index++, total, results, false));
+        }
         for (Composite composite : optionalComposites) {
-            completables.add(dispatcher.execute(composite)
-                    .onErrorResumeNext(throwable -> {
-                        if (throwable instanceof DispatchFailure) {
-                            logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
-                            return Single.just(new CompositeResult(new ModelNode()));
-                        } else {
-                            return Single.error(throwable);
-                        }
-                    })
-                    .doOnSuccess(parseRrdAction(context, composite))
-                    .toCompletable());
+            completables.add(execute(context, composite, index++, total, results, true));
         }
 
         if (!completables.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
+                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional) " +
+                                "with at most {} in flight",
+                        total, composites.size(), optionalComposites.size(), concurrency);
                 String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
                 logger.debug("Composite operations: {}", compositeOps);
                 if (!optionalComposites.isEmpty()) {
@@ -104,20 +108,65 @@ class RrdTask implements Task<LookupContext> {
                     logger.debug("Optional operations: {}", optionalOps);
                 }
             }
-            return Completable.concat(completables);
+            Stopwatch stopwatch = Stopwatch.createUnstarted();
+            return Completable.merge(Observable.from(completables), concurrency)
+                    .doOnSubscribe(subscription -> stopwatch.start())
+                    .andThen(Completable.fromAction(() -> {
+                        for (RrdResult result : results) {
+                            if (result != null) {
+                                mergeInto(context, result);
+                            }
+                        }
+                        logger.debug("Executed {} composite operations in {} ms", total,
+                                stopwatch.elapsed(MILLISECONDS));
+                    }));
         } else {
             logger.debug("No DMR operations necessary");
             return Completable.complete();
         }
     }
 
-    private Action1<CompositeResult> parseRrdAction(LookupContext context, Composite composite) {
-        return (CompositeResult compositeResult) -> {
-            RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
-            context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
-            context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
-            context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
-            context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
-        };
+    /**
+     * Returns a completable which executes and parses the composite and stores the result at {@code results[index]}.
+     * The completable is deferred so that the timing reflects the time the composite was actually in flight. The
+     * timing and the response size of non-optional composites are used to tune the batch size.
+     */
+    private Completable execute(LookupContext context, Composite composite, int index, int total,
+            RrdResult[] results, boolean optional) {
+        return Completable.defer(() -> {
+            int[] responseSize = new int[]{0};
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Single<CompositeResult> single = dispatcher.executeAndMeasure(composite,
+                    bytes -> responseSize[0] = bytes);
+            if (optional) {
+                single = single.onErrorResumeNext(throwable -> {
+                    if (throwable instanceof DispatchFailure) {
+                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                        return Single.just(new CompositeResult(new ModelNode()));
+                    } else {
+                        return Single.error(throwable);
+                    }
+                });
+            }
+            return single
+                    .doOnSuccess(compositeResult -> {
+                        long millis = stopwatch.elapsed(MILLISECONDS);
+                        results[index] = new CompositeRrdParser(composite).parse(compositeResult);
+                        context.responseSize += responseSize[0];
+                        logger.debug("Batch {}/{} with {} operation(s) and {} bytes took {} ms", index + 1, total,
+                                composite.size(), responseSize[0], millis);
+                        if (!optional) {
+                            tuning.measure(composite.size(), responseSize[0], millis);
+                        }
+                    })
+                    .toCompletable();
+        });
+    }
+
+    private void mergeInto(LookupContext context, RrdResult rrdResult) {
+        context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
+        context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
+        context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
+        context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
     }
 }
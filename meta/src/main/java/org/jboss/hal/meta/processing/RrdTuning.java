@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * Adapts the number of r-r-d operations per composite to the measured response size and latency. The batch size is
+ * increased by one as long as the composites are small and fast, and cut in half if a composite is too big or too
+ * slow (additive increase / multiplicative decrease).
+ * <p>
+ * The batch size is remembered per management endpoint in the local storage, so the next session starts with the
+ * tuned value.
+ */
+class RrdTuning {
+
+    static final int MIN_BATCH_SIZE = 1;
+    static final int MAX_BATCH_SIZE = 12;
+
+    /** Upper bound for the (base64 encoded) response of one composite. Some browsers choke on bigger payloads. */
+    static final int MAX_PAYLOAD = 2 * 1024 * 1024;
+
+    /** Upper bound for the latency of one composite in ms. */
+    static final long MAX_LATENCY = 2000;
+
+    private static final String BATCH_SIZE = "batch-size";
+    private static final Logger logger = LoggerFactory.getLogger(RrdTuning.class);
+
+    private final String endpoint;
+    private final Storage storage;
+    private int batchSize;
+
+    RrdTuning(String endpoint, int defaultBatchSize) {
+        this.endpoint = endpoint;
+        this.storage = WebStorageWindow.of(window).localStorage;
+        this.batchSize = load(defaultBatchSize);
+    }
+
+    // for unit testing only!
+    RrdTuning(int batchSize) {
+        this.endpoint = null;
+        this.storage = null;
+        this.batchSize = batchSize;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Adjusts the batch size based on the measurement of one composite.
+     *
+     * @param operations the number of operations in the composite
+     * @param bytes      the size of the response in bytes
+     * @param millis     the time between sending the request and receiving the response
+     */
+    void measure(int operations, int bytes, long millis) {
+        if (operations <= 0) {
+            return;
+        }
+        int next = batchSize;
+        int bytesPerOperation = Math.max(1, bytes / operations);
+        int fitsPayload = Math.max(MIN_BATCH_SIZE, MAX_PAYLOAD / bytesPerOperation);
+
+        if (bytes > MAX_PAYLOAD || millis > MAX_LATENCY) {
+            next = Math.min(batchSize / 2, fitsPayload);
+        } else if (operations >= batchSize && bytes < MAX_PAYLOAD / 2 && millis < MAX_LATENCY / 2) {
+            // only grow if the composite was a full batch
+            next = batchSize + 1;
+        }
+        next = Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, next));
+
+        if (next != batchSize) {
+            logger.debug("Adjust r-r-d batch size from {} to {} ({} operation(s), {} bytes, {} ms)", batchSize,
+                    next, operations, bytes, millis);
+            batchSize = next;
+            save();
+        }
+    }
+
+
+    // ------------------------------------------------------ local storage
+
+    private int load(int defaultBatchSize) {
+        if (storage != null) {
+            String payload = storage.getItem(Ids.RRD_TUNING_STORAGE);
+            if (payload != null) {
+                try {
+                    ModelNode modelNode = ModelNode.fromBase64(payload);
+                    if (modelNode.hasDefined(endpoint)) {
+                        int stored = modelNode.get(endpoint).get(BATCH_SIZE).asInt(defaultBatchSize);
+                        return Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, stored));
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Unable to read r-r-d tuning from local storage using key '{}': {}",
+                            Ids.RRD_TUNING_STORAGE, e.getMessage());
+                }
+            }
+        }
+        return defaultBatchSize;
+    }
+
+    private void save() {
+        if (storage != null) {
+            ModelNode modelNode = new ModelNode();
+            String payload = storage.getItem(Ids.RRD_TUNING_STORAGE);
+            if (payload != null) {
+                try {
+                    modelNode = ModelNode.fromBase64(payload);
+                } catch (RuntimeException ignored) {
+                    // overwrite corrupt values
+                }
+            }
+            modelNode.get(endpoint).get(BATCH_SIZE).set(batchSize);
+            storage.setItem(Ids.RRD_TUNING_STORAGE, modelNode.toBase64String());
+        }
+    }
+}
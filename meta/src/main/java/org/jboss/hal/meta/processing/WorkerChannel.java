@@ -15,29 +15,61 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 
+import elemental2.core.JsArray;
+import elemental2.dom.MessageEvent;
 import elemental2.dom.Worker;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 import org.jboss.hal.db.Document;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.js.Browser;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
+import org.jboss.hal.meta.search.SearchResult;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Single;
+import rx.SingleEmitter;
 
 import static jsinterop.annotations.JsPackage.GLOBAL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 import static org.jboss.hal.resources.UIConstants.OBJECT;
 
+/**
+ * Posts resource descriptions and security contexts to the web worker which stores them in the databases. All
+ * documents for one database are posted as one batch. The worker writes a batch using one bulk operation and reports
+ * the number of written documents back.
+ * <p>
+ * Documents which the worker could not write are remembered for the rest of the session. {@link #persisted(String,
+ * ResourceAddress, boolean)} reports them as missing, so that they are read again instead of being looked up in a
+ * database which doesn't contain them (or contains an outdated version).
+ * <p>
+ * The worker also maintains a full-text index over the names and descriptions of the stored resource descriptions.
+ * The index is built incrementally as new resource descriptions arrive and can be queried using {@link #search(String,
+ * int)}.
+ */
 public class WorkerChannel {
 
     private static final String WORKER_JS = "js/worker.js";
+    private static final String SEARCH = "search";
+    private static final Logger logger = LoggerFactory.getLogger(WorkerChannel.class);
 
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final SecurityContextDatabase securityContextDatabase;
     private final Worker worker;
+    private final Map<Integer, SingleEmitter<List<SearchResult>>> pendingSearches;
+    private final Map<String, Set<String>> unpersisted;
+    private int searchId;
 
     @Inject
     public WorkerChannel(ResourceDescriptionDatabase resourceDescriptionDatabase,
@@ -45,26 +77,130 @@ public class WorkerChannel {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.securityContextDatabase = securityContextDatabase;
         this.worker = Browser.isIE() ? null : new Worker(WORKER_JS);
+        this.pendingSearches = new HashMap<>();
+        this.unpersisted = new HashMap<>();
+        this.searchId = 0;
+        if (worker != null) {
+            worker.addEventListener("message", event -> { //NON-NLS
+                Object data = Js.<MessageEvent<Object>>uncheckedCast(event).data;
+                if (SEARCH.equals(Js.asPropertyMap(data).get("type"))) { //NON-NLS
+                    onSearchResult(Js.uncheckedCast(data));
+                } else {
+                    onUpdateResult(Js.uncheckedCast(data));
+                }
+            }, false);
+        }
     }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
-        if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
+    private void onUpdateResult(UpdateResult result) {
+        if (result.error != null) {
+            logger.error("Unable to write {} documents to {}: {}", result.documents, result.database, result.error);
+        } else {
+            logger.debug("Wrote {} documents to {} in {} ms ({} failed)", result.written, result.database,
+                    result.time, result.failed);
+        }
+        if (result.failed > 0 && result.failedIds != null) {
+            Set<String> ids = unpersisted.computeIfAbsent(result.database, database -> new HashSet<>());
+            for (int i = 0; i < result.failedIds.getLength(); i++) {
+                ids.add(result.failedIds.getAt(i));
+            }
         }
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
-        if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
+    /**
+     * Returns {@code false} if the document for the specified address (or for one of its children if {@code
+     * recursive} is {@code true}) could not be written to the specified database in this session.
+     */
+    boolean persisted(String database, ResourceAddress address, boolean recursive) {
+        Set<String> ids = unpersisted.get(database);
+        if (ids != null && !ids.isEmpty()) {
+            String id = address.toString();
+            for (String unpersistedId : ids) {
+                if (unpersistedId.equals(id) || (recursive && unpersistedId.startsWith(id))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void onSearchResult(SearchResponse response) {
+        SingleEmitter<List<SearchResult>> emitter = pendingSearches.remove(response.id);
+        if (emitter != null) {
+            if (response.error != null) {
+                logger.error("Unable to search for '{}': {}", response.query, response.error);
+                emitter.onError(new RuntimeException(response.error));
+            } else {
+                List<SearchResult> results = new ArrayList<>();
+                for (int i = 0; i < response.results.getLength(); i++) {
+                    results.add(response.results.getAt(i));
+                }
+                logger.debug("Found {} results in {} ms", results.size(), response.time);
+                emitter.onSuccess(results);
+            }
+        }
+    }
+
+    void postResourceDescriptions(Map<ResourceAddress, ResourceDescription> resourceDescriptions,
+            boolean recursive) {
+        if (worker != null && !resourceDescriptions.isEmpty()) {
+            JsArray<Document> documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, ResourceDescription> entry : resourceDescriptions.entrySet()) {
+                ResourceDescription resourceDescription = entry.getValue();
+                resourceDescription.get(HAL_RECURSIVE).set(recursive);
+                documents.push(resourceDescriptionDatabase.asDocument(entry.getKey(), resourceDescription));
+            }
+            post(resourceDescriptionDatabase.name(), documents, true);
+        }
+    }
+
+    void postSecurityContexts(Map<ResourceAddress, SecurityContext> securityContexts, boolean recursive) {
+        if (worker != null && !securityContexts.isEmpty()) {
+            JsArray<Document> documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, SecurityContext> entry : securityContexts.entrySet()) {
+                SecurityContext securityContext = entry.getValue();
+                securityContext.get(HAL_RECURSIVE).set(recursive);
+                documents.push(securityContextDatabase.asDocument(entry.getKey(), securityContext));
+            }
+            post(securityContextDatabase.name(), documents, false);
+        }
+    }
+
+    /**
+     * Queries the full-text index over the resource descriptions. Every word of the query must match the prefix of an
+     * attribute name, operation name, capability name or a word in a description. Returns an empty list if web
+     * workers are not supported. Fails if the worker reports an error.
+     */
+    public Single<List<SearchResult>> search(String query, int limit) {
+        if (worker == null) {
+            return Single.just(new ArrayList<>());
+        }
+        return Single.fromEmitter(emitter -> {
+            SearchMessage message = new SearchMessage();
+            message.type = SEARCH;
+            message.id = ++searchId;
+            message.database = resourceDescriptionDatabase.name();
+            message.query = query;
+            message.limit = limit;
+            pendingSearches.put(message.id, emitter);
             worker.postMessage(message);
+        });
+    }
+
+    /** Only the resource descriptions contain search terms, so only they need to be indexed by the worker. */
+    private void post(String database, JsArray<Document> documents, boolean index) {
+        // documents which fail again are reported again
+        Set<String> ids = unpersisted.get(database);
+        if (ids != null) {
+            for (int i = 0; i < documents.getLength(); i++) {
+                ids.remove(documents.getAt(i).getId());
+            }
         }
+        UpdateMessage message = new UpdateMessage();
+        message.database = database;
+        message.documents = documents;
+        message.index = index;
+        worker.postMessage(message);
     }
 
 
@@ -72,6 +208,44 @@ public class WorkerChannel {
     private static class UpdateMessage {
 
         String database;
-        Document document;
+        JsArray<Document> documents;
+        boolean index;
+    }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchMessage {
+
+        String type;
+        int id;
+        String database;
+        String query;
+        int limit;
+    }
+
+
+    /** The result posted back by the worker after a batch has been written. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class UpdateResult {
+
+        String database;
+        int documents;
+        int written;
+        int failed;
+        JsArray<String> failedIds;
+        double time;
+        String error;
+    }
+
+
+    /** The results posted back by the worker after the index has been queried. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchResponse {
+
+        int id;
+        String query;
+        JsArray<SearchResult> results;
+        double time;
+        String error;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import elemental2.core.JsArray;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsType;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * A match of the full-text index over the resource descriptions. The address is the address of the resource
+ * description (which might contain wildcards like {@code /subsystem=datasources/data-source=*}).
+ */
+@JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+public class SearchResult {
+
+    public String address;
+    public double score;
+    public JsArray<Match> matches;
+
+    @JsOverlay
+    public final ResourceAddress getAddress() {
+        return ResourceAddress.from(address);
+    }
+
+
+    /**
+     * A name which matched the query. The kind is one of {@code attribute}, {@code operation}, {@code capability} or
+     * {@code description}. For matches in a description the name is the name of the attribute or empty if the
+     * description of the resource matched.
+     */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    public static class Match {
+
+        public String kind;
+        public String name;
+    }
+}
@@ -16,7 +16,10 @@
 package org.jboss.hal.meta.security;
 
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntSupplier;
 
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Environment;
@@ -48,6 +51,12 @@ import static org.jboss.hal.meta.security.Target.OPERATION;
  * <p>
  * If WildFly uses {@link AccessControlProvider#SIMPLE}, {@code isAllowed()} will <strong>always</strong>
  * return {@code true}.
+ * <p>
+ * Decisions based on a {@link SecurityContextRegistry} or a single {@link SecurityContext} are cached per instance.
+ * Views often guard hundreds of elements with the same few constraints, so each constraint is resolved only once.
+ * The cache of a registry based decision is dropped as soon as the {@linkplain SecurityContextRegistry#generation()
+ * registry generation} changes. Since the address templates are resolved against the current selection, create a
+ * new instance after the selection has changed.
  */
 public class AuthorisationDecision {
 
@@ -55,20 +64,18 @@ public class AuthorisationDecision {
 
     public static AuthorisationDecision from(Environment environment,
             SecurityContextRegistry securityContextRegistry) {
-        return new AuthorisationDecision(environment, constraint -> {
-            if (securityContextRegistry.contains(constraint.getTemplate())) {
-                return Optional.of(securityContextRegistry.lookup(constraint.getTemplate()));
-            }
-            return Optional.empty();
-        });
+        return new AuthorisationDecision(environment,
+                constraint -> securityContextRegistry.find(constraint.getTemplate()),
+                securityContextRegistry::generation);
     }
 
     public static AuthorisationDecision from(Environment environment, SecurityContext securityContext) {
-        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext));
+        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext), () -> 0);
     }
 
+    /** Decisions based on a custom resolver are not cached. */
     public static AuthorisationDecision from(Environment environment, SecurityContextResolver resolver) {
-        return new AuthorisationDecision(environment, resolver);
+        return new AuthorisationDecision(environment, resolver, null);
     }
 
 
@@ -78,10 +85,17 @@ public class AuthorisationDecision {
 
     private final Environment environment;
     private final SecurityContextResolver resolver;
+    private final IntSupplier generation;
+    private final Map<Constraint, Boolean> decisions;
+    private int decisionsGeneration;
 
-    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver) {
+    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver,
+            IntSupplier generation) {
         this.environment = environment;
         this.resolver = resolver;
+        this.generation = generation;
+        this.decisions = new HashMap<>();
+        this.decisionsGeneration = generation != null ? generation.getAsInt() : 0;
     }
 
     public boolean isAllowed(Constraints constraints) {
@@ -108,6 +122,24 @@ public class AuthorisationDecision {
         if (environment.getAccessControlProvider() == AccessControlProvider.SIMPLE) {
             return true;
         }
+        if (generation == null) {
+            return decide(constraint);
+        }
+
+        int currentGeneration = generation.getAsInt();
+        if (currentGeneration != decisionsGeneration) {
+            decisions.clear();
+            decisionsGeneration = currentGeneration;
+        }
+        Boolean allowed = decisions.get(constraint);
+        if (allowed == null) {
+            allowed = decide(constraint);
+            decisions.put(constraint, allowed);
+        }
+        return allowed;
+    }
+
+    private boolean decide(Constraint constraint) {
         boolean allowed = false;
         Optional<SecurityContext> optional = resolver.resolve(constraint);
         if (optional.isPresent()) {
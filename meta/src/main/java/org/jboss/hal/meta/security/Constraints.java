@@ -15,11 +15,14 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import static com.google.common.base.Strings.emptyToNull;
 import static java.util.Arrays.asList;
@@ -98,34 +101,52 @@ public class Constraints implements Iterable<Constraint> {
 
     // ------------------------------------------------------ parse
 
+    private static final int PARSE_CACHE_SIZE = 1000;
+    private static final Cache<String, Constraints> PARSED = CacheBuilder.newBuilder()
+            .maximumSize(PARSE_CACHE_SIZE)
+            .build();
+
+    /**
+     * Parses the constraints from the specified input. Constraints are immutable and don't depend on the security
+     * context, so the result is cached. Elements are usually processed several times by {@link ElementGuard}, which
+     * would parse the same {@code data-constraint} attributes over and over again otherwise.
+     */
     public static Constraints parse(String input) {
         if (emptyToNull(input) != null) {
-            Operator operator;
-            if (input.contains(AND.operator)) {
-                operator = AND;
-            } else if (input.contains(OR.operator)) {
-                operator = OR;
-            } else {
-                operator = AND;
-            }
-            Iterable<String> values = Splitter.on(operator.operator)
-                    .omitEmptyStrings()
-                    .trimResults()
-                    .split(input);
-            LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
-            for (String value : values) {
-                try {
-                    constraints.add(Constraint.parse(value));
-                } catch (IllegalArgumentException ignored) {
-                }
+            Constraints constraints = PARSED.getIfPresent(input);
+            if (constraints == null) {
+                constraints = parseInternal(input);
+                PARSED.put(input, constraints);
             }
-            return new Constraints(constraints, operator);
-
+            return constraints;
         } else {
             return empty();
         }
     }
 
+    private static Constraints parseInternal(String input) {
+        Operator operator;
+        if (input.contains(AND.operator)) {
+            operator = AND;
+        } else if (input.contains(OR.operator)) {
+            operator = OR;
+        } else {
+            operator = AND;
+        }
+        Iterable<String> values = Splitter.on(operator.operator)
+                .omitEmptyStrings()
+                .trimResults()
+                .split(input);
+        LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
+        for (String value : values) {
+            try {
+                constraints.add(Constraint.parse(value));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return new Constraints(constraints, operator);
+    }
+
 
     // ------------------------------------------------------ instance
 
@@ -171,7 +192,7 @@ public class Constraints implements Iterable<Constraint> {
     }
 
     public Set<Constraint> getConstraints() {
-        return constraints;
+        return Collections.unmodifiableSet(constraints);
     }
 
     public Operator getOperator() {
@@ -29,6 +29,7 @@ import org.jboss.hal.db.PouchDB;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractDatabase;
+import org.jboss.hal.meta.MetadataVersion;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.resources.Ids;
 
@@ -41,14 +42,17 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
 
     private final Environment environment;
     private final Settings settings;
+    private final MetadataVersion metadataVersion;
     private String name;
     private PouchDB database;
 
     @Inject
-    public SecurityContextDatabase(StatementContext statementContext, Environment environment, Settings settings) {
+    public SecurityContextDatabase(StatementContext statementContext, Environment environment, Settings settings,
+            MetadataVersion metadataVersion) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
         this.environment = environment;
         this.settings = settings;
+        this.metadataVersion = metadataVersion;
     }
 
     @Override
@@ -70,7 +74,7 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
                     provider,
                     roles,
                     environment.getHalBuild().name(),
-                    environment.getManagementVersion().toString());
+                    metadataVersion.id());
         }
         return name;
     }
@@ -92,6 +96,7 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
     protected PouchDB database() {
         if (database == null) {
             database = new PouchDB(name());
+            metadataVersion.register(name());
         }
         return database;
     }
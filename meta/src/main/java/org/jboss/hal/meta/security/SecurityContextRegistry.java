@@ -15,13 +15,19 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.Optional;
+
 import javax.inject.Inject;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.RolesChangedEvent;
+import org.jboss.hal.config.UserChangedEvent;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
+import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,9 +41,10 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
     private final Cache<ResourceAddress, SecurityContext> cache;
+    private int generation;
 
     @Inject
-    public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
+    public SecurityContextRegistry(StatementContext statementContext, Environment environment, EventBus eventBus) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
         this.cache = CacheBuilder.newBuilder()
                 .maximumSize(CACHE_SIZE)
@@ -46,14 +53,41 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
                         notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
                                 notification.getCause()))
                 .build();
+        this.generation = 0;
+
+        // role mappings or run-as roles have changed
+        eventBus.addHandler(RolesChangedEvent.getType(), event -> invalidateDecisions());
+        eventBus.addHandler(UserChangedEvent.getType(), event -> invalidateDecisions());
     }
 
     public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
         securityContext.get(HAL_RECURSIVE).set(recursive);
         cache.put(address, securityContext);
+        generation++;
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /**
+     * Resolves the template only once and returns the related security context (if any). Use this method instead of
+     * {@link #contains(AddressTemplate)} followed by {@link #lookup(AddressTemplate)}.
+     */
+    public Optional<SecurityContext> find(AddressTemplate template) {
+        return Optional.ofNullable(lookupAddress(resolve(template)));
+    }
+
+    /**
+     * Returns a number which changes whenever security contexts are added or the roles of the current user might
+     * have changed. Decisions which were cached for another generation must not be used anymore.
+     */
+    public int generation() {
+        return generation;
+    }
+
+    /** Invalidates all decisions cached by {@link AuthorisationDecision}s based on this registry. */
+    public void invalidateDecisions() {
+        generation++;
+    }
+
     @Override
     protected SecurityContext lookupAddress(ResourceAddress address) {
         return cache.getIfPresent(address);
@@ -0,0 +1,152 @@
+package org.jboss.hal.meta;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class AbstractRegistryTest {
+
+    private static final AddressTemplate TEMPLATE = AddressTemplate.of("{selected.profile}/subsystem=logging");
+
+    private GenerationStatementContext statementContext;
+    private CountingRegistry registry;
+
+    @Before
+    public void setUp() {
+        statementContext = new GenerationStatementContext();
+        registry = new CountingRegistry(statementContext);
+        registry.add(TEMPLATE.resolve(statementContext));
+    }
+
+    @Test
+    public void resolvedOnce() {
+        assertTrue(registry.contains(TEMPLATE));
+        assertEquals("foo", registry.lookup(TEMPLATE));
+        assertEquals("foo", registry.lookup(TEMPLATE));
+        assertEquals(1, registry.resolutions);
+    }
+
+    @Test
+    public void resolvedAgainForNewGeneration() {
+        registry.lookup(TEMPLATE);
+        statementContext.generation++;
+        registry.lookup(TEMPLATE);
+        registry.lookup(TEMPLATE);
+        assertEquals(2, registry.resolutions);
+    }
+
+    @Test
+    public void notCachedForUntrackedContext() {
+        statementContext.generation = StatementContext.UNTRACKED;
+        registry.lookup(TEMPLATE);
+        registry.lookup(TEMPLATE);
+        assertEquals(2, registry.resolutions);
+    }
+
+    @Test
+    public void untrackedForSelectionAwareContext() {
+        StatementContext selectionAware = new SelectionAwareStatementContext(statementContext, () -> "foo");
+        assertEquals(StatementContext.UNTRACKED, selectionAware.generation());
+    }
+
+    @Test
+    public void untrackedForFilteringContext() {
+        StatementContext filtering = new FilteringStatementContext(statementContext, new ProfileFilter(false));
+        statementContext.generation = 42;
+        assertEquals(StatementContext.UNTRACKED, filtering.generation());
+    }
+
+    @Test
+    public void delegatedForStatelessFilteringContext() {
+        StatementContext filtering = new FilteringStatementContext(statementContext, new ProfileFilter(true));
+        statementContext.generation = 42;
+        assertEquals(42, filtering.generation());
+    }
+
+    @Test
+    public void notCachedForStatefulFilter() {
+        ProfileFilter filter = new ProfileFilter(false);
+        StatementContext filtering = new FilteringStatementContext(statementContext, filter);
+        CountingRegistry filteringRegistry = new CountingRegistry(filtering);
+        filter.profile = "bar";
+        filteringRegistry.add(TEMPLATE.resolve(filtering));
+
+        assertTrue(filteringRegistry.contains(TEMPLATE));
+        // the filter changes, but the generation of the wrapped context stays the same
+        filter.profile = "baz";
+        assertFalse(filteringRegistry.contains(TEMPLATE));
+        assertEquals(2, filteringRegistry.resolutions);
+    }
+
+
+    private static class GenerationStatementContext extends TestableStatementContext {
+
+        int generation;
+
+        @Override
+        public int generation() {
+            return generation;
+        }
+    }
+
+
+    private static class ProfileFilter implements FilteringStatementContext.Filter {
+
+        private final boolean stateless;
+        String profile;
+
+        ProfileFilter(boolean stateless) {
+            this.stateless = stateless;
+        }
+
+        @Override
+        public String filter(String placeholder, AddressTemplate template) {
+            return null;
+        }
+
+        @Override
+        public String[] filterTuple(String placeholder, AddressTemplate template) {
+            return profile != null && "selected.profile".equals(placeholder) ? new String[]{"profile", profile} : null;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return stateless;
+        }
+    }
+
+
+    private static class CountingRegistry extends AbstractRegistry<String> {
+
+        private final Map<ResourceAddress, String> metadata;
+        int resolutions;
+
+        CountingRegistry(StatementContext statementContext) {
+            super(statementContext, "test");
+            this.metadata = new HashMap<>();
+        }
+
+        void add(ResourceAddress address) {
+            metadata.put(address, "foo");
+        }
+
+        @Override
+        protected ResourceAddress resolveTemplate(AddressTemplate template) {
+            resolutions++;
+            return super.resolveTemplate(template);
+        }
+
+        @Override
+        protected String lookupAddress(ResourceAddress address) {
+            return metadata.get(address);
+        }
+    }
+}
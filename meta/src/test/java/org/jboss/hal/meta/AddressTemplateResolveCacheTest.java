@@ -0,0 +1,105 @@
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the resolve cache of {@link AbstractRegistry}: Repeated lookups resolve each template only once, a new
+ * generation of the statement context drops the cache, and untracked statement contexts bypass it.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class AddressTemplateResolveCacheTest {
+
+    private static final int TEMPLATES = 200;
+    private static final int ROUNDS = 50;
+
+    private static StatementContext statementContext;
+    private static List<AddressTemplate> templates;
+
+    @BeforeClass
+    public static void beforeClass() {
+        statementContext = new TestableStatementContext() {
+            @Override
+            public int generation() {
+                return 0;
+            }
+        };
+        templates = new ArrayList<>();
+        for (int i = 0; i < TEMPLATES; i++) {
+            templates.add(AddressTemplate.of(
+                    "{selected.host}/{selected.server}/subsystem=datasources/data-source=ds-" + i));
+        }
+    }
+
+    @Test
+    public void cacheHits() {
+        ResolvingRegistry registry = new ResolvingRegistry(statementContext);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            for (AddressTemplate template : templates) {
+                assertEquals(template.resolve(statementContext), registry.lookup(template));
+            }
+        }
+        assertEquals(TEMPLATES, registry.resolutions);
+    }
+
+    @Test
+    public void newGeneration() {
+        int[] generation = {0};
+        ResolvingRegistry registry = new ResolvingRegistry(new TestableStatementContext() {
+            @Override
+            public int generation() {
+                return generation[0];
+            }
+        });
+
+        for (int i = 0; i < ROUNDS; i++) {
+            generation[0] = i;
+            for (AddressTemplate template : templates) {
+                assertEquals(template.resolve(statementContext), registry.lookup(template));
+                assertEquals(template.resolve(statementContext), registry.lookup(template));
+            }
+        }
+        assertEquals(TEMPLATES * ROUNDS, registry.resolutions);
+    }
+
+    @Test
+    public void untracked() {
+        ResolvingRegistry registry = new ResolvingRegistry(new TestableStatementContext());
+
+        for (int i = 0; i < ROUNDS; i++) {
+            for (AddressTemplate template : templates) {
+                assertEquals(template.resolve(statementContext), registry.lookup(template));
+            }
+        }
+        assertEquals(TEMPLATES * ROUNDS, registry.resolutions);
+    }
+
+
+    /** Registry which returns the (cached) resolved address as metadata. */
+    private static class ResolvingRegistry extends AbstractRegistry<ResourceAddress> {
+
+        int resolutions;
+
+        ResolvingRegistry(StatementContext statementContext) {
+            super(statementContext, "address");
+        }
+
+        @Override
+        protected ResourceAddress resolveTemplate(AddressTemplate template) {
+            resolutions++;
+            return super.resolveTemplate(template);
+        }
+
+        @Override
+        protected ResourceAddress lookupAddress(ResourceAddress address) {
+            return address;
+        }
+    }
+}
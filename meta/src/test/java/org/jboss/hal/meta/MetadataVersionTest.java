@@ -0,0 +1,48 @@
+package org.jboss.hal.meta;
+
+import java.util.Collections;
+
+import org.jboss.hal.config.Version;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class MetadataVersionTest {
+
+    private static final Version MANAGEMENT_VERSION = new Version(10, 0, 0);
+
+    @Test
+    public void noExtensions() {
+        assertEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, Collections.emptyList()),
+                MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, Collections.emptyList()));
+    }
+
+    @Test
+    public void order() {
+        assertEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b", "c")),
+                MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("c", "a", "b")));
+    }
+
+    @Test
+    public void productVersion() {
+        assertNotEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b")),
+                MetadataVersion.id("17.0.1.Final", MANAGEMENT_VERSION, asList("a", "b")));
+    }
+
+    @Test
+    public void managementVersion() {
+        assertNotEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b")),
+                MetadataVersion.id("17.0.0.Final", new Version(10, 1, 0), asList("a", "b")));
+    }
+
+    @Test
+    public void extensions() {
+        assertNotEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b")),
+                MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b", "c")));
+        assertNotEquals(MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "b")),
+                MetadataVersion.id("17.0.0.Final", MANAGEMENT_VERSION, asList("a", "c")));
+    }
+}
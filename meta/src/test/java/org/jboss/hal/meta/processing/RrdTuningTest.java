@@ -0,0 +1,68 @@
+package org.jboss.hal.meta.processing;
+
+import org.junit.Test;
+
+import static org.jboss.hal.meta.processing.RrdTuning.MAX_BATCH_SIZE;
+import static org.jboss.hal.meta.processing.RrdTuning.MAX_LATENCY;
+import static org.jboss.hal.meta.processing.RrdTuning.MAX_PAYLOAD;
+import static org.jboss.hal.meta.processing.RrdTuning.MIN_BATCH_SIZE;
+import static org.junit.Assert.assertEquals;
+
+public class RrdTuningTest {
+
+    @Test
+    public void growWhenSmallAndFast() {
+        RrdTuning tuning = new RrdTuning(3);
+        tuning.measure(3, 10_000, 50);
+        assertEquals(4, tuning.batchSize());
+    }
+
+    @Test
+    public void growOnlyForFullBatches() {
+        RrdTuning tuning = new RrdTuning(3);
+        tuning.measure(1, 10_000, 50);
+        assertEquals(3, tuning.batchSize());
+    }
+
+    @Test
+    public void keepWhenModerate() {
+        RrdTuning tuning = new RrdTuning(3);
+        tuning.measure(3, MAX_PAYLOAD * 3 / 4, 50);
+        assertEquals(3, tuning.batchSize());
+    }
+
+    @Test
+    public void shrinkWhenTooBig() {
+        RrdTuning tuning = new RrdTuning(8);
+        tuning.measure(8, MAX_PAYLOAD + 1, 50);
+        assertEquals(4, tuning.batchSize());
+    }
+
+    @Test
+    public void shrinkWhenTooSlow() {
+        RrdTuning tuning = new RrdTuning(8);
+        tuning.measure(8, 10_000, MAX_LATENCY + 1);
+        assertEquals(4, tuning.batchSize());
+    }
+
+    @Test
+    public void bounds() {
+        RrdTuning tuning = new RrdTuning(MIN_BATCH_SIZE);
+        tuning.measure(1, MAX_PAYLOAD * 2, MAX_LATENCY * 2);
+        assertEquals(MIN_BATCH_SIZE, tuning.batchSize());
+
+        tuning = new RrdTuning(MIN_BATCH_SIZE);
+        for (int i = 0; i < MAX_BATCH_SIZE * 2; i++) {
+            tuning.measure(tuning.batchSize(), 1_000, 10);
+        }
+        assertEquals(MAX_BATCH_SIZE, tuning.batchSize());
+    }
+
+    @Test
+    public void shrinkToFitPayload() {
+        // each operation returns half of the max payload: no more than two operations fit into one composite
+        RrdTuning tuning = new RrdTuning(8);
+        tuning.measure(8, MAX_PAYLOAD * 4, 50);
+        assertEquals(2, tuning.batchSize());
+    }
+}
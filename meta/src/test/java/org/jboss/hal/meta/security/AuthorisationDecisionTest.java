@@ -18,16 +18,25 @@ package org.jboss.hal.meta.security;
 import java.util.Optional;
 
 import org.jboss.hal.config.AccessControlProvider;
+import com.google.web.bindery.event.shared.SimpleEventBus;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.RolesChangedEvent;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.jboss.hal.meta.security.SecurityContext.READ_ONLY;
 import static org.jboss.hal.meta.security.SecurityContext.RWX;
 import static org.junit.Assert.assertFalse;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXECUTE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"DuplicateStringLiteralInspection", "HardCodedStringLiteral"})
@@ -107,4 +116,38 @@ public class AuthorisationDecisionTest {
         Constraints constraints = Constraints.or(foo, bar);
         assertTrue(AuthorisationDecision.from(rbac, c -> Optional.of(securityContext)).isAllowed(constraints));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void cachedForSecurityContext() throws Exception {
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, securityContext);
+        assertTrue(decision.isAllowed(foo));
+        assertTrue(decision.isAllowed(foo));
+        assertTrue(decision.isAllowed(Constraints.or(foo, bar)));
+        verify(securityContext, times(1)).isExecutable("foo");
+    }
+
+    @Test
+    public void notCachedForResolver() throws Exception {
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, c -> Optional.of(securityContext));
+        decision.isAllowed(foo);
+        decision.isAllowed(foo);
+        verify(securityContext, times(2)).isExecutable("foo");
+    }
+
+    @Test
+    public void invalidatedByRegistry() throws Exception {
+        SimpleEventBus eventBus = new SimpleEventBus();
+        SecurityContextRegistry registry = new SecurityContextRegistry(StatementContext.NOOP, rbac, eventBus);
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, registry);
+        assertFalse(decision.isAllowed(foo));
+
+        ModelNode payload = new ModelNode();
+        payload.get(OPERATIONS).get("foo").get(EXECUTE).set(true);
+        registry.add(ResourceAddress.root(), new SecurityContext(payload), false);
+        assertTrue(decision.isAllowed(foo));
+
+        int generation = registry.generation();
+        eventBus.fireEvent(new RolesChangedEvent());
+        assertTrue(registry.generation() != generation);
+    }
+}
@@ -57,6 +57,17 @@ public class ConstraintsTest {
         assertOr(or);
     }
 
+    @Test
+    public void parseCached() {
+        assertTrue(Constraints.parse(AND_DATA) == Constraints.parse(AND_DATA));
+        assertAnd(Constraints.parse(AND_DATA));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable() {
+        Constraints.parse(ENGAGE_DATA).getConstraints().add(NCC);
+    }
+
     @Test
     public void parseSingle() {
         Constraints single = Constraints.parse(ENGAGE_DATA);
@@ -307,6 +307,7 @@ public interface CSS {
     String navbarFixedBottom = "navbar-fixed-bottom";
     String navbarFixedTop = "navbar-fixed-top";
     String navbarFooter = "navbar-footer";
+    String navbarForm = "navbar-form";
     String navbarHeader = "navbar-header";
     String navbarNav = "navbar-nav";
     String navbarPf = "navbar-pf";
@@ -400,6 +401,7 @@ public interface CSS {
     String servers = "servers";
     String serverGroupContainer = "server-group-container";
     String smallLink = "small-link";
+    String spacer = "spacer";
     String spinner = "spinner";
     String spinnerLg = "spinner-lg";
     String srOnly = "sr-only";
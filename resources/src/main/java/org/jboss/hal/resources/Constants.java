@@ -424,6 +424,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String ping();
     String platform();
     String play();
+    String playWithRollback();
     String policy();
     String pool();
     String preparedStatementCache();
@@ -316,6 +316,8 @@ public interface Ids {
     String HEADER_CONNECTED_TO = "header-connected-to";
     String HEADER_EXTENSIONS = "header-extensions";
     String HEADER_EXTENSIONS_DROPDOWN = "header-extensions-dropdown";
+    String HEADER_SEARCH = "header-search";
+    String HEADER_SEARCH_RESULTS = "header-search-results";
     String HEADER_USERNAME = "header-username";
     String HOMEPAGE = "homepage";
     String HOMEPAGE_ACCESS_CONTROL_MODULE = "homepage-access-control-module";
@@ -471,6 +473,7 @@ public interface Ids {
     String LOGGING_PROFILE_ADD = "logging-profile-add";
     String MACRO_EDITOR = "macro-editor";
     String MACRO_EMPTY = "macro-empty";
+    String MACRO_INDEX = "hal-local-storage-index-macro";
     String MACRO_LIST = "macro-list";
     String MACRO_OPTIONS = "macro-options";
     String MACRO_STORAGE = "hal-local-storage-macro";
@@ -589,6 +592,7 @@ public interface Ids {
     String MESSAGING_SERVER_TRANSACTION_ITEM = "msg-server-transaction-item";
     String MESSAGING_SERVER_TRANSACTION_FORM = "msg-server-transaction-form";
     String MESSAGING_SERVER_TRANSACTION_TABLE = "msg-server-transaction-table";
+    String METADATA_DATABASE_STORAGE = "hal-local-storage-metadata-database";
     String MICRO_PROFILE_CONFIG_SOURCE = "microprofile-config-source";
     String MICRO_PROFILE_HEALTH = "microprofile-health";
     String MICRO_PROFILE_METRICS_FORM = "microprofile-metrics-form";
@@ -653,6 +657,7 @@ public interface Ids {
     String RESOURCE_ADAPTER_ADMIN_OBJECT_ADD = "resource-adapter-admin-object-add";
     String RESOURCE_ADAPTER_CONNECTION_DEFINITION_ADD = "resource-adapter-connection-definition-add";
     String RESOURCE_ADAPTER_FORM = "resource-adapter-form";
+    String RRD_TUNING_STORAGE = "hal-local-storage-rrd-tuning";
     String REST_RESOURCE = "rest-rsc";
     String REST_RESOURCE_PATH_PARAM_FORM = "rest-rsc-path-param-form";
     String REST_RESOURCE_REFRESH = "rest-rsc-refresh";
@@ -582,6 +582,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String microprofileHealthNoChecks();
     String microprofileHealthPreviewDescription();
     String modifyResourceTitle(String type);
+    String moreContentEntries(int count);
     String moreThanOneCacheStoreDetails();
     String noBootErrors();
     String nonEmptyRequires(String fields);